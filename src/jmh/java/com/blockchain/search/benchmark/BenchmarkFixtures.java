@@ -0,0 +1,113 @@
+package com.blockchain.search.benchmark;
+
+import com.blockchain.search.model.Address;
+import com.blockchain.search.model.Token;
+import com.blockchain.search.model.Transaction;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 벤치마크 공용 고정 데이터 - 실제 색인 문서와 같은 형태(길이/필드 구성)의 트랜잭션/주소/토큰과 검색어
+ */
+final class BenchmarkFixtures {
+    
+    private static final String[] NETWORKS = {"ethereum", "ethereum", "ethereum", "bsc", "polygon"};
+    private static final String[] SYMBOLS = {"ETH", "USDT", "USDC", "WBTC", "DAI", "LINK", "UNI", "MATIC"};
+    
+    private BenchmarkFixtures() {}
+    
+    /**
+     * Spring Boot 기본 ObjectMapper 와 같은 설정 (JavaTimeModule, 날짜 문자열 출력, 모르는 필드 무시)
+     */
+    static ObjectMapper objectMapper() {
+        return new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
+                .configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false);
+    }
+    
+    static List<Transaction> transactions(Random random, int count, int inputDataLength) {
+        List<Transaction> transactions = new ArrayList<>(count);
+        LocalDateTime timestamp = LocalDateTime.of(2023, 1, 1, 12, 0);
+        for (int i = 0; i < count; i++) {
+            Transaction transaction = new Transaction(HashLookupBenchmark.randomHex(random, 64),
+                    NETWORKS[random.nextInt(NETWORKS.length)],
+                    HashLookupBenchmark.randomHex(random, 40), HashLookupBenchmark.randomHex(random, 40));
+            transaction.setBlockNumber(15_000_000L + i);
+            transaction.setTimestamp(timestamp.minusSeconds(12L * i));
+            transaction.setValue(random.nextInt(1_000_000) + "000000000000");
+            transaction.setTokenSymbol(SYMBOLS[random.nextInt(SYMBOLS.length)]);
+            transaction.setTokenAddress(HashLookupBenchmark.randomHex(random, 40));
+            transaction.setGasUsed(21_000L + random.nextInt(200_000));
+            transaction.setGasPrice("20000000000");
+            transaction.setStatus("success");
+            transaction.setInputData(HashLookupBenchmark.randomHex(random, inputDataLength));
+            transactions.add(transaction);
+        }
+        return transactions;
+    }
+    
+    static List<Address> addresses(Random random, int count) {
+        List<Address> addresses = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Address address = new Address(HashLookupBenchmark.randomHex(random, 40),
+                    NETWORKS[random.nextInt(NETWORKS.length)]);
+            address.setBalance(random.nextInt(1_000_000) + "000000000000");
+            address.setTxCount((long) random.nextInt(100_000));
+            address.setType(random.nextBoolean() ? "EOA" : "Contract");
+            address.setName("address-" + i + ".eth");
+            address.setVerified(random.nextBoolean());
+            address.setTokenBalances(Arrays.asList(
+                    new Address.TokenBalance(HashLookupBenchmark.randomHex(random, 40), "USDT", "1500000000"),
+                    new Address.TokenBalance(HashLookupBenchmark.randomHex(random, 40), "LINK", "42000000000000000000")));
+            addresses.add(address);
+        }
+        return addresses;
+    }
+    
+    static List<Token> tokens(Random random, int count) {
+        List<Token> tokens = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String symbol = SYMBOLS[i % SYMBOLS.length];
+            Token token = new Token(HashLookupBenchmark.randomHex(random, 40),
+                    NETWORKS[random.nextInt(NETWORKS.length)], symbol, symbol + " Token " + i);
+            token.setDecimals(18);
+            token.setTotalSupply("1000000000000000000000000000");
+            token.setHolders((long) random.nextInt(5_000_000));
+            token.setMarketCap(random.nextDouble() * 1e10);
+            token.setPrice(random.nextDouble() * 100);
+            token.setContractType("ERC20");
+            token.setVerified(true);
+            tokens.add(token);
+        }
+        return tokens;
+    }
+    
+    /**
+     * 검색어 유형별 예시 - hash(66자), address(42자), fragment(부분 hex), truncated(축약 해시), text(심볼/이름)
+     */
+    static String query(Random random, String kind) {
+        switch (kind) {
+            case "hash":
+                return HashLookupBenchmark.randomHex(random, 64);
+            case "address":
+                return HashLookupBenchmark.randomHex(random, 40);
+            case "fragment":
+                return HashLookupBenchmark.randomHex(random, 4 + random.nextInt(12));
+            case "truncated":
+                return HashLookupBenchmark.randomHex(random, 6) + "..." + HashLookupBenchmark.randomHex(random, 4).substring(2);
+            case "text":
+                return SYMBOLS[random.nextInt(SYMBOLS.length)].toLowerCase() + " token";
+            default:
+                throw new IllegalArgumentException("지원하지 않는 검색어 유형입니다: " + kind);
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.blockchain.search.benchmark;
+
+import com.blockchain.search.ingest.BlockIngester;
+import com.blockchain.search.ingest.BulkIndexer;
+import com.blockchain.search.ingest.IngestCheckpoint;
+import com.blockchain.search.ingest.IngestCheckpointRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.apache.http.HttpHost;
+import org.elasticsearch.client.RestClient;
+import org.elasticsearch.client.RestHighLevelClient;
+import org.elasticsearch.common.unit.ByteSizeUnit;
+import org.elasticsearch.common.unit.ByteSizeValue;
+import org.elasticsearch.core.TimeValue;
+import org.openjdk.jmh.annotations.*;
+import org.web3j.protocol.Web3j;
+import org.web3j.protocol.http.HttpService;
+
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 블록 수집 처리량 (blocks/sec) - 로컬 JSON-RPC 대역(JsonRpcStub)에서 블록/영수증을 배치 조회해 ES 대역(ElasticsearchStub)에 색인
+ * 노드 왕복 지연(rpcLatencyMillis)이 있을 때 동시 구간 수(concurrency)에 따라 처리량이 어떻게 늘어나는지 확인한다
+ * 결과의 ops/s 가 곧 blocks/sec (@OperationsPerInvocation)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class BlockIngestionBenchmark {
+    
+    private static final int BLOCKS_PER_INVOCATION = 160;
+    private static final int WINDOW = 20;
+    
+    @Param({"1", "4", "8"})
+    private int concurrency;
+    
+    @Param({"0", "20"})
+    private long rpcLatencyMillis;
+    
+    @Param({"150"})
+    private int transactionsPerBlock;
+    
+    private JsonRpcStub rpcStub;
+    private ElasticsearchStub esStub;
+    private RestHighLevelClient client;
+    private Web3j web3j;
+    private BulkIndexer indexer;
+    private ExecutorService fetchExecutor;
+    private BlockIngester ingester;
+    
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        rpcStub = new JsonRpcStub(Long.MAX_VALUE / 2, transactionsPerBlock, rpcLatencyMillis);
+        esStub = new ElasticsearchStub(0);
+        client = new RestHighLevelClient(RestClient.builder(new HttpHost("127.0.0.1", esStub.port(), "http")));
+        web3j = Web3j.build(new HttpService(rpcStub.url()));
+        indexer = new BulkIndexer(client, new ObjectMapper().registerModule(new JavaTimeModule()),
+                new BulkIndexer.Settings(1000, new ByteSizeValue(5, ByteSizeUnit.MB), 2,
+                        TimeValue.timeValueSeconds(5), TimeValue.timeValueMillis(100), 5, true, false));
+        fetchExecutor = Executors.newFixedThreadPool(concurrency);
+        
+        BlockIngester.Settings settings = new BlockIngester.Settings(WINDOW, concurrency, 0, 1, true, 200,
+                1000, 60_000);
+        ingester = new BlockIngester("ethereum", web3j, indexer, inMemoryCheckpoints(), fetchExecutor, settings);
+    }
+    
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        indexer.close();
+        fetchExecutor.shutdownNow();
+        web3j.shutdown();
+        client.close();
+        esStub.close();
+        rpcStub.close();
+    }
+    
+    @Benchmark
+    @OperationsPerInvocation(BLOCKS_PER_INVOCATION)
+    public long ingestBlocks() throws Exception {
+        long target = ingester.getLastIndexedBlock() + BLOCKS_PER_INVOCATION;
+        while (ingester.getLastIndexedBlock() < target) {
+            ingester.ingestRound();
+        }
+        return ingester.getLastIndexedBlock();
+    }
+    
+    /**
+     * 체크포인트 저장소 대역 - 처음에는 비어 있고(startBlock 부터 시작) 저장은 무시
+     */
+    private static IngestCheckpointRepository inMemoryCheckpoints() {
+        return (IngestCheckpointRepository) Proxy.newProxyInstance(
+                IngestCheckpointRepository.class.getClassLoader(),
+                new Class<?>[]{IngestCheckpointRepository.class},
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "findById":
+                            return Optional.<IngestCheckpoint>empty();
+                        case "save":
+                            return args[0];
+                        default:
+                            throw new UnsupportedOperationException(method.getName());
+                    }
+                });
+    }
+}
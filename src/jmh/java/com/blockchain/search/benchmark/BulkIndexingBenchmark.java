@@ -0,0 +1,99 @@
+package com.blockchain.search.benchmark;
+
+import com.blockchain.search.ingest.BulkIndexer;
+import com.blockchain.search.model.Transaction;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.apache.http.HttpHost;
+import org.elasticsearch.client.RestClient;
+import org.elasticsearch.client.RestHighLevelClient;
+import org.elasticsearch.common.unit.ByteSizeUnit;
+import org.elasticsearch.common.unit.ByteSizeValue;
+import org.elasticsearch.core.TimeValue;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 벌크 색인 처리량 (docs/sec) - 로컬 ES 대역(ElasticsearchStub)에 BulkIndexer 로 트랜잭션을 적재
+ * 직렬화, 배치 구성, HTTP 전송, 동시 요청 제한까지 클라이언트 측 파이프라인 전체를 측정한다
+ * 결과의 ops/s 가 곧 docs/sec (@OperationsPerInvocation)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class BulkIndexingBenchmark {
+    
+    private static final int DOCS_PER_INVOCATION = 20_000;
+    
+    @Param({"500", "2000"})
+    private int bulkActions;
+    
+    @Param({"1", "4"})
+    private int concurrentRequests;
+    
+    @Param({"0", "5"})
+    private long stubLatencyMillis;
+    
+    private ElasticsearchStub stub;
+    private RestHighLevelClient client;
+    private ObjectMapper objectMapper;
+    private Transaction[] transactions;
+    
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        stub = new ElasticsearchStub(stubLatencyMillis);
+        client = new RestHighLevelClient(RestClient.builder(new HttpHost("127.0.0.1", stub.port(), "http")));
+        objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        
+        Random random = new Random(42);
+        LocalDateTime timestamp = LocalDateTime.of(2023, 1, 1, 0, 0);
+        transactions = new Transaction[DOCS_PER_INVOCATION];
+        for (int i = 0; i < DOCS_PER_INVOCATION; i++) {
+            Transaction transaction = new Transaction();
+            transaction.setTxHash(HashLookupBenchmark.randomHex(random, 64));
+            transaction.setNetwork("ethereum");
+            transaction.setFromAddress(HashLookupBenchmark.randomHex(random, 40));
+            transaction.setToAddress(HashLookupBenchmark.randomHex(random, 40));
+            transaction.setBlockNumber(15_000_000L + i / 200);
+            transaction.setTimestamp(timestamp.plusSeconds(i));
+            transaction.setValue(String.valueOf(random.nextInt(1_000_000)) + "000000000000");
+            transaction.setGasUsed(21_000L);
+            transaction.setGasPrice("20000000000");
+            transaction.setStatus("success");
+            transaction.setInputData(HashLookupBenchmark.randomHex(random, 136));
+            transactions[i] = transaction;
+        }
+    }
+    
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        client.close();
+        stub.close();
+    }
+    
+    @Benchmark
+    @OperationsPerInvocation(DOCS_PER_INVOCATION)
+    public BulkIndexer.Stats bulkIndex() throws InterruptedException {
+        BulkIndexer indexer = new BulkIndexer(client, objectMapper, new BulkIndexer.Settings(
+                bulkActions,
+                new ByteSizeValue(5, ByteSizeUnit.MB),
+                concurrentRequests,
+                TimeValue.timeValueSeconds(5),
+                TimeValue.timeValueMillis(100),
+                5,
+                true,
+                false));
+        for (Transaction transaction : transactions) {
+            indexer.index(transaction);
+        }
+        indexer.awaitClose(1, TimeUnit.MINUTES);
+        return indexer.stats();
+    }
+}
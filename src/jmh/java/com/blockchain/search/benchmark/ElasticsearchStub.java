@@ -0,0 +1,134 @@
+package com.blockchain.search.benchmark;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 로컬 ES 대역 HTTP 서버 - 클러스터 없이 클라이언트 측 파이프라인(직렬화, 배치, 동시성)만 측정하기 위함
+ * - GET /      : RestHighLevelClient 버전/제품 확인 응답
+ * - POST /_bulk: 요청 줄 수만큼 성공 항목 응답 (latencyMillis 만큼 지연)
+ */
+public class ElasticsearchStub implements AutoCloseable {
+    
+    private static final String INFO_RESPONSE = "{"
+            + "\"name\":\"stub\",\"cluster_name\":\"stub\",\"cluster_uuid\":\"stub\","
+            + "\"version\":{\"number\":\"7.17.9\",\"build_flavor\":\"default\",\"build_type\":\"docker\","
+            + "\"build_hash\":\"stub\",\"build_date\":\"2023-01-31T05:34:43.305517834Z\",\"build_snapshot\":false,"
+            + "\"lucene_version\":\"8.11.1\",\"minimum_wire_compatibility_version\":\"6.8.0\","
+            + "\"minimum_index_compatibility_version\":\"6.0.0-beta1\"},"
+            + "\"tagline\":\"You Know, for Search\"}";
+    
+    private static final String BULK_ITEM = "{\"index\":{\"_index\":\"stub\",\"_type\":\"_doc\",\"_id\":\"stub\","
+            + "\"_version\":1,\"result\":\"created\",\"_shards\":{\"total\":1,\"successful\":1,\"failed\":0},"
+            + "\"_seq_no\":0,\"_primary_term\":1,\"status\":201}}";
+    
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final long latencyMillis;
+    
+    private final AtomicLong bulkRequests = new AtomicLong();
+    private final AtomicLong bulkItems = new AtomicLong();
+    
+    public ElasticsearchStub(long latencyMillis) throws IOException {
+        this.latencyMillis = latencyMillis;
+        this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        this.executor = Executors.newCachedThreadPool();
+        server.setExecutor(executor);
+        server.createContext("/", this::handle);
+        server.start();
+    }
+    
+    public int port() {
+        return server.getAddress().getPort();
+    }
+    
+    public long bulkRequests() {
+        return bulkRequests.get();
+    }
+    
+    public long bulkItems() {
+        return bulkItems.get();
+    }
+    
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            String path = exchange.getRequestURI().getPath();
+            if ("/".equals(path)) {
+                respond(exchange, INFO_RESPONSE);
+            } else if (path.endsWith("/_bulk")) {
+                respond(exchange, bulk(exchange.getRequestBody()));
+            } else {
+                respond(exchange, 404, "{\"error\":\"not supported by stub: " + path + "\",\"status\":404}");
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+    
+    private String bulk(InputStream body) throws IOException {
+        int items = countLines(body) / 2; // index 액션 + 소스 2줄당 1건
+        bulkRequests.incrementAndGet();
+        bulkItems.addAndGet(items);
+        
+        if (latencyMillis > 0) {
+            try {
+                Thread.sleep(latencyMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        
+        StringBuilder response = new StringBuilder(64 + items * BULK_ITEM.length())
+                .append("{\"took\":").append(latencyMillis).append(",\"errors\":false,\"items\":[");
+        for (int i = 0; i < items; i++) {
+            if (i > 0) {
+                response.append(',');
+            }
+            response.append(BULK_ITEM);
+        }
+        return response.append("]}").toString();
+    }
+    
+    private static int countLines(InputStream body) throws IOException {
+        byte[] buffer = new byte[8192];
+        int lines = 0;
+        int read;
+        while ((read = body.read(buffer)) != -1) {
+            for (int i = 0; i < read; i++) {
+                if (buffer[i] == '\n') {
+                    lines++;
+                }
+            }
+        }
+        return lines;
+    }
+    
+    private static void respond(HttpExchange exchange, String body) throws IOException {
+        respond(exchange, 200, body);
+    }
+    
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json; charset=UTF-8");
+        exchange.getResponseHeaders().add("X-Elastic-Product", "Elasticsearch");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream output = exchange.getResponseBody()) {
+            output.write(bytes);
+        }
+    }
+    
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+}
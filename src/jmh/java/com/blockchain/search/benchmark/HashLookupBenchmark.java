@@ -0,0 +1,133 @@
+package com.blockchain.search.benchmark;
+
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.WildcardQuery;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 완전한 해시 조회 경로 비교 - 기존 *x* wildcard 경로 vs term 조회 경로
+ * 생성된 트랜잭션 코퍼스를 메모리 Lucene 인덱스(ES 샤드와 동일한 keyword 필드 구조)에 적재해 측정한다
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class HashLookupBenchmark {
+
+    @Param({"10000", "100000"})
+    private int corpusSize;
+
+    private static final int LOOKUP_COUNT = 64;
+
+    private ByteBuffersDirectory directory;
+    private DirectoryReader reader;
+    private IndexSearcher searcher;
+
+    private String[] txHashes;
+    private String[] addresses;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        Random random = new Random(42);
+        directory = new ByteBuffersDirectory();
+        txHashes = new String[LOOKUP_COUNT];
+        addresses = new String[LOOKUP_COUNT];
+
+        try (IndexWriter writer = new IndexWriter(directory, new IndexWriterConfig())) {
+            for (int i = 0; i < corpusSize; i++) {
+                String txHash = randomHex(random, 64);
+                String fromAddress = randomHex(random, 40);
+                String toAddress = randomHex(random, 40);
+
+                Document doc = new Document();
+                doc.add(new StringField("txHash", txHash, Field.Store.NO));
+                doc.add(new StringField("fromAddress", fromAddress, Field.Store.NO));
+                doc.add(new StringField("toAddress", toAddress, Field.Store.NO));
+                writer.addDocument(doc);
+
+                if (i < LOOKUP_COUNT) {
+                    txHashes[i] = txHash;
+                    addresses[i] = fromAddress;
+                }
+            }
+        }
+
+        reader = DirectoryReader.open(directory);
+        searcher = new IndexSearcher(reader);
+        searcher.setQueryCache(null); // 쿼리 캐시 영향 제거
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        reader.close();
+        directory.close();
+    }
+
+    @Benchmark
+    public TopDocs txHashWildcard() throws IOException {
+        String hash = nextTxHash();
+        return searcher.search(threeFieldWildcard(hash), 20);
+    }
+
+    @Benchmark
+    public TopDocs txHashTerm() throws IOException {
+        return searcher.search(new TermQuery(new Term("txHash", nextTxHash())), 20);
+    }
+
+    @Benchmark
+    public TopDocs addressWildcard() throws IOException {
+        String address = nextAddress();
+        return searcher.search(threeFieldWildcard(address), 20);
+    }
+
+    @Benchmark
+    public TopDocs addressTerm() throws IOException {
+        String address = nextAddress();
+        Query query = new BooleanQuery.Builder()
+                .add(new TermQuery(new Term("fromAddress", address)), BooleanClause.Occur.SHOULD)
+                .add(new TermQuery(new Term("toAddress", address)), BooleanClause.Occur.SHOULD)
+                .build();
+        return searcher.search(query, 20);
+    }
+
+    private Query threeFieldWildcard(String value) {
+        return new BooleanQuery.Builder()
+                .add(new WildcardQuery(new Term("txHash", "*" + value + "*")), BooleanClause.Occur.SHOULD)
+                .add(new WildcardQuery(new Term("fromAddress", "*" + value + "*")), BooleanClause.Occur.SHOULD)
+                .add(new WildcardQuery(new Term("toAddress", "*" + value + "*")), BooleanClause.Occur.SHOULD)
+                .build();
+    }
+
+    private String nextTxHash() {
+        return txHashes[cursor++ & (LOOKUP_COUNT - 1)];
+    }
+
+    private String nextAddress() {
+        return addresses[cursor++ & (LOOKUP_COUNT - 1)];
+    }
+
+    static String randomHex(Random random, int length) {
+        StringBuilder sb = new StringBuilder(length + 2).append("0x");
+        for (int i = 0; i < length; i++) {
+            sb.append(Character.forDigit(random.nextInt(16), 16));
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,86 @@
+package com.blockchain.search.benchmark;
+
+import com.blockchain.search.model.Transaction;
+import com.blockchain.search.util.SourceDecoder;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.elasticsearch.common.bytes.BytesArray;
+import org.elasticsearch.common.bytes.BytesReference;
+import org.elasticsearch.search.SearchHit;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 검색 히트 디코딩 비교 - getSourceAsMap() + convertValue() vs _source 바이트 직접 바인딩(SourceDecoder)
+ * 한 페이지 분량의 트랜잭션 히트를 디코딩하며, 할당량은 -prof gc 로 확인
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class HitDecodingBenchmark {
+    
+    @Param({"20", "100"})
+    private int hitsPerPage;
+    
+    @Param({"0", "2048"})
+    private int inputDataLength;
+    
+    private ObjectMapper objectMapper;
+    private SourceDecoder sourceDecoder;
+    
+    private BytesReference[] sources;
+    private SearchHit[] hits;
+    
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        // Spring Boot 기본 ObjectMapper 와 동일한 설정
+        objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        sourceDecoder = new SourceDecoder(objectMapper);
+        
+        Random random = new Random(42);
+        sources = new BytesReference[hitsPerPage];
+        hits = new SearchHit[hitsPerPage];
+        for (int i = 0; i < hitsPerPage; i++) {
+            String json = "{"
+                    + "\"txHash\":\"" + HashLookupBenchmark.randomHex(random, 64) + "\","
+                    + "\"network\":\"ethereum\","
+                    + "\"fromAddress\":\"" + HashLookupBenchmark.randomHex(random, 40) + "\","
+                    + "\"toAddress\":\"" + HashLookupBenchmark.randomHex(random, 40) + "\","
+                    + "\"blockNumber\":" + (15_000_000 + i) + ","
+                    + "\"timestamp\":\"2023-01-01 12:00:00\","
+                    + "\"value\":\"" + random.nextInt(1_000_000) + "000000000000\","
+                    + "\"tokenSymbol\":\"ETH\","
+                    + "\"gasUsed\":21000,"
+                    + "\"gasPrice\":\"20000000000\","
+                    + "\"status\":\"success\","
+                    + "\"inputData\":\"" + HashLookupBenchmark.randomHex(random, inputDataLength) + "\""
+                    + "}";
+            sources[i] = new BytesArray(json.getBytes(StandardCharsets.UTF_8));
+            hits[i] = new SearchHit(i);
+        }
+    }
+    
+    @Benchmark
+    public void convertValue(Blackhole blackhole) {
+        for (int i = 0; i < hits.length; i++) {
+            // sourceRef 재설정 시 캐시된 sourceAsMap 이 초기화되어 매 호출마다 새 응답과 동일한 비용
+            hits[i].sourceRef(sources[i]);
+            blackhole.consume(objectMapper.convertValue(hits[i].getSourceAsMap(), Transaction.class));
+        }
+    }
+    
+    @Benchmark
+    public void sourceDecoder(Blackhole blackhole) {
+        for (int i = 0; i < hits.length; i++) {
+            hits[i].sourceRef(sources[i]);
+            blackhole.consume(sourceDecoder.decode(hits[i], Transaction.class));
+        }
+    }
+}
@@ -0,0 +1,208 @@
+package com.blockchain.search.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigInteger;
+import java.net.InetSocketAddress;
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 로컬 이더리움 JSON-RPC 대역 HTTP 서버 - 노드 없이 블록 수집기(BlockIngester)의 조회/색인 파이프라인을 측정하기 위함
+ * - eth_blockNumber          : 고정 head
+ * - eth_getBlockByNumber     : 블록마다 transactionsPerBlock 건의 트랜잭션을 가진 합성 블록
+ * - eth_getTransactionReceipt: 성공 영수증
+ * 단건/배치 요청 모두 지원하며, HTTP 요청마다 latencyMillis 만큼 지연 (노드 왕복 시간 흉내)
+ */
+public class JsonRpcStub implements AutoCloseable {
+    
+    private static final String ZERO_HASH = "0x" + repeat('0', 64);
+    
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final long head;
+    private final int transactionsPerBlock;
+    private final long latencyMillis;
+    
+    private final AtomicLong httpRequests = new AtomicLong();
+    private final AtomicLong calls = new AtomicLong();
+    
+    public JsonRpcStub(long head, int transactionsPerBlock, long latencyMillis) throws IOException {
+        this.head = head;
+        this.transactionsPerBlock = transactionsPerBlock;
+        this.latencyMillis = latencyMillis;
+        this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        this.executor = Executors.newCachedThreadPool();
+        server.setExecutor(executor);
+        server.createContext("/", this::handle);
+        server.start();
+    }
+    
+    public String url() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+    
+    public long httpRequests() {
+        return httpRequests.get();
+    }
+    
+    public long calls() {
+        return calls.get();
+    }
+    
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            httpRequests.incrementAndGet();
+            JsonNode request = objectMapper.readTree(exchange.getRequestBody());
+            
+            JsonNode response;
+            if (request.isArray()) {
+                ArrayNode responses = objectMapper.createArrayNode();
+                for (JsonNode call : request) {
+                    responses.add(call(call));
+                }
+                response = responses;
+            } else {
+                response = call(request);
+            }
+            
+            if (latencyMillis > 0) {
+                try {
+                    Thread.sleep(latencyMillis);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            respond(exchange, objectMapper.writeValueAsBytes(response));
+        } finally {
+            exchange.close();
+        }
+    }
+    
+    private ObjectNode call(JsonNode call) {
+        calls.incrementAndGet();
+        ObjectNode response = objectMapper.createObjectNode();
+        response.put("jsonrpc", "2.0");
+        response.set("id", call.get("id"));
+        
+        String method = call.path("method").asText();
+        JsonNode params = call.path("params");
+        switch (method) {
+            case "eth_blockNumber":
+                response.put("result", hex(head));
+                break;
+            case "eth_getBlockByNumber":
+                long number = Long.decode(params.path(0).asText());
+                if (number > head) {
+                    response.putNull("result");
+                } else {
+                    response.set("result", block(number));
+                }
+                break;
+            case "eth_getTransactionReceipt":
+                response.set("result", receipt(params.path(0).asText()));
+                break;
+            default:
+                ObjectNode error = response.putObject("error");
+                error.put("code", -32601);
+                error.put("message", "not supported by stub: " + method);
+        }
+        return response;
+    }
+    
+    private ObjectNode block(long number) {
+        ObjectNode block = objectMapper.createObjectNode();
+        block.put("number", hex(number));
+        block.put("hash", hash(number, 0));
+        block.put("parentHash", number > 0 ? hash(number - 1, 0) : ZERO_HASH);
+        block.put("miner", address(number));
+        block.put("difficulty", "0x0");
+        block.put("totalDifficulty", "0x0");
+        block.put("size", "0x0");
+        block.put("gasLimit", hex(30_000_000L));
+        block.put("gasUsed", hex(21_000L * transactionsPerBlock));
+        block.put("timestamp", hex(1_600_000_000L + number * 12));
+        block.putArray("uncles");
+        
+        ArrayNode transactions = block.putArray("transactions");
+        for (int i = 0; i < transactionsPerBlock; i++) {
+            ObjectNode transaction = transactions.addObject();
+            transaction.put("hash", hash(number, i + 1));
+            transaction.put("nonce", hex(i));
+            transaction.put("blockHash", hash(number, 0));
+            transaction.put("blockNumber", hex(number));
+            transaction.put("transactionIndex", hex(i));
+            transaction.put("from", address(number * 31 + i));
+            transaction.put("to", address(number * 17 + i));
+            transaction.put("value", hex(1_000_000_000_000_000L + i));
+            transaction.put("gasPrice", hex(20_000_000_000L));
+            transaction.put("gas", hex(21_000L));
+            transaction.put("input", "0x");
+            transaction.put("v", "0x1b");
+            transaction.put("r", ZERO_HASH);
+            transaction.put("s", ZERO_HASH);
+        }
+        return block;
+    }
+    
+    private ObjectNode receipt(String transactionHash) {
+        // 트랜잭션 해시에 블록 번호/인덱스가 들어 있음 (hash 참고)
+        BigInteger encoded = new BigInteger(transactionHash.substring(2), 16);
+        long number = encoded.shiftRight(32).longValue();
+        long index = encoded.longValue() & 0xffffffffL;
+        
+        ObjectNode receipt = objectMapper.createObjectNode();
+        receipt.put("transactionHash", transactionHash);
+        receipt.put("transactionIndex", hex(index - 1));
+        receipt.put("blockHash", hash(number, 0));
+        receipt.put("blockNumber", hex(number));
+        receipt.put("cumulativeGasUsed", hex(21_000L * index));
+        receipt.put("gasUsed", hex(21_000L));
+        receipt.putNull("contractAddress");
+        receipt.put("status", "0x1");
+        receipt.putArray("logs");
+        return receipt;
+    }
+    
+    private static String hash(long number, long index) {
+        return String.format("0x%048x%08x", number, index);
+    }
+    
+    private static String address(long seed) {
+        return String.format("0x%040x", seed);
+    }
+    
+    private static String hex(long value) {
+        return "0x" + Long.toHexString(value);
+    }
+    
+    private static String repeat(char c, int count) {
+        char[] chars = new char[count];
+        Arrays.fill(chars, c);
+        return new String(chars);
+    }
+    
+    private static void respond(HttpExchange exchange, byte[] bytes) throws IOException {
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, bytes.length);
+        try (OutputStream output = exchange.getResponseBody()) {
+            output.write(bytes);
+        }
+    }
+    
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,207 @@
+package com.blockchain.search.benchmark;
+
+import org.apache.lucene.analysis.core.KeywordAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.NumericDocValuesField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.SortField;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.TopFieldCollector;
+import org.apache.lucene.search.TopFieldDocs;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.elasticsearch.cluster.routing.Murmur3HashFunction;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 네트워크 라우팅(elasticsearch.index.routing-by-network) 효과 - 메모리 Lucene 인덱스를 샤드 삼아 ES 의 샤드 선택을 흉내
+ * - routed=false: 문서 id 로 샤드 결정, 모든 검색이 전체 샤드로 분산 (기본 동작)
+ * - routed=true : network 로 샤드 결정, network 가 있는 검색은 해당 샤드 하나만 조회
+ * 샤드 선택은 ES 와 같은 Murmur3(routing) mod 샤드 수, 샤드별 상위 N 건은 TopDocs.merge 로 병합 (코디네이터 reduce)
+ * 지연(us/op)과 함께 shardsSearched / shardHits 보조 카운터로 샤드 단위 작업량을 비교한다
+ * 네트워크 분포는 실제 트래픽처럼 한쪽으로 치우쳐 있어 routed=true 에서는 샤드 크기 불균형도 함께 드러난다
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class NetworkRoutingBenchmark {
+    
+    private static final String[] NETWORKS = {"ethereum", "bsc", "polygon", "arbitrum", "optimism", "avalanche"};
+    private static final int[] NETWORK_WEIGHTS = {50, 25, 12, 6, 4, 3};
+    private static final int ADDRESSES_PER_NETWORK = 2_000;
+    private static final int PAGE_SIZE = 20;
+    private static final Sort LATEST = new Sort(new SortField("timestamp", SortField.Type.LONG, true));
+    
+    @Param({"3", "6"})
+    private int shardCount;
+    
+    @Param({"false", "true"})
+    private boolean routed;
+    
+    @Param({"300000"})
+    private int documentCount;
+    
+    private Directory[] directories;
+    private DirectoryReader[] readers;
+    private IndexSearcher[] searchers;
+    
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        directories = new Directory[shardCount];
+        IndexWriter[] writers = new IndexWriter[shardCount];
+        for (int shard = 0; shard < shardCount; shard++) {
+            directories[shard] = new ByteBuffersDirectory();
+            writers[shard] = new IndexWriter(directories[shard], new IndexWriterConfig(new KeywordAnalyzer()));
+        }
+        
+        SplittableRandom random = new SplittableRandom(42);
+        for (int i = 0; i < documentCount; i++) {
+            String network = pickNetwork(random);
+            String id = network + "_" + String.format("0x%064x", i);
+            
+            Document document = new Document();
+            document.add(new StringField("_id", id, Field.Store.YES));
+            document.add(new StringField("network", network, Field.Store.NO));
+            document.add(new StringField("fromAddress", address(random.nextInt(ADDRESSES_PER_NETWORK)), Field.Store.NO));
+            document.add(new NumericDocValuesField("timestamp", 1_600_000_000L + i));
+            writers[shardOf(routed ? network : id)].addDocument(document);
+        }
+        
+        readers = new DirectoryReader[shardCount];
+        searchers = new IndexSearcher[shardCount];
+        for (int shard = 0; shard < shardCount; shard++) {
+            writers[shard].forceMerge(1);
+            writers[shard].close();
+            readers[shard] = DirectoryReader.open(directories[shard]);
+            searchers[shard] = new IndexSearcher(readers[shard]);
+        }
+    }
+    
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        for (int shard = 0; shard < shardCount; shard++) {
+            readers[shard].close();
+            directories[shard].close();
+        }
+    }
+    
+    /**
+     * 샤드 단위 작업량 (반복 횟수당 평균으로 보고됨)
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class ShardWork {
+        
+        public long shardsSearched;
+        public long shardHits;
+        
+        private final SplittableRandom random = new SplittableRandom(7);
+        
+        @Setup(Level.Iteration)
+        public void reset() {
+            shardsSearched = 0;
+            shardHits = 0;
+        }
+    }
+    
+    /**
+     * network + 주소 검색 (주소 검색 API 의 일반적인 형태)
+     */
+    @Benchmark
+    public TopDocs addressOnNetwork(ShardWork work) throws IOException {
+        String network = pickNetwork(work.random);
+        Query query = new BooleanQuery.Builder()
+                .add(new TermQuery(new Term("fromAddress", address(work.random.nextInt(ADDRESSES_PER_NETWORK)))),
+                        BooleanClause.Occur.FILTER)
+                .add(new TermQuery(new Term("network", network)), BooleanClause.Occur.FILTER)
+                .build();
+        return search(query, network, work);
+    }
+    
+    /**
+     * network 의 최신 트랜잭션 목록
+     */
+    @Benchmark
+    public TopDocs latestOnNetwork(ShardWork work) throws IOException {
+        String network = pickNetwork(work.random);
+        return search(new TermQuery(new Term("network", network)), network, work);
+    }
+    
+    /**
+     * network 없는 검색 - 라우팅과 무관하게 전체 샤드로 분산
+     */
+    @Benchmark
+    public TopDocs unfilteredSearch(ShardWork work) throws IOException {
+        Query query = work.random.nextInt(4) == 0
+                ? new MatchAllDocsQuery()
+                : new TermQuery(new Term("fromAddress", address(work.random.nextInt(ADDRESSES_PER_NETWORK))));
+        return search(query, null, work);
+    }
+    
+    private TopDocs search(Query query, String network, ShardWork work) throws IOException {
+        List<Integer> targets = new ArrayList<>();
+        if (routed && network != null) {
+            targets.add(shardOf(network));
+        } else {
+            for (int shard = 0; shard < shardCount; shard++) {
+                targets.add(shard);
+            }
+        }
+        
+        TopFieldDocs[] shardResults = new TopFieldDocs[targets.size()];
+        for (int i = 0; i < targets.size(); i++) {
+            // 전체 히트 수를 세는 수집기 - track_total_hits=true 와 같은 샤드 작업량
+            TopFieldCollector collector = TopFieldCollector.create(LATEST, PAGE_SIZE, Integer.MAX_VALUE);
+            searchers[targets.get(i)].search(query, collector);
+            TopFieldDocs topDocs = collector.topDocs();
+            for (ScoreDoc scoreDoc : topDocs.scoreDocs) {
+                scoreDoc.shardIndex = i;
+            }
+            shardResults[i] = topDocs;
+            work.shardHits += topDocs.totalHits.value;
+        }
+        work.shardsSearched += targets.size();
+        return TopDocs.merge(LATEST, PAGE_SIZE, shardResults);
+    }
+    
+    /**
+     * ES OperationRouting 과 같은 방식: Murmur3(routing) mod 샤드 수
+     */
+    private int shardOf(String routing) {
+        return Math.floorMod(Murmur3HashFunction.hash(routing), shardCount);
+    }
+    
+    private static String pickNetwork(SplittableRandom random) {
+        int roll = random.nextInt(100);
+        for (int i = 0; i < NETWORKS.length; i++) {
+            roll -= NETWORK_WEIGHTS[i];
+            if (roll < 0) {
+                return NETWORKS[i];
+            }
+        }
+        return NETWORKS[0];
+    }
+    
+    private static String address(int seed) {
+        return String.format("0x%040x", seed);
+    }
+}
@@ -0,0 +1,52 @@
+package com.blockchain.search.benchmark;
+
+import com.blockchain.search.util.QueryClassifier;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 검색어 분류 비용 - 초기 isHash(호출마다 String.matches 로 정규식 컴파일) vs 미리 컴파일한 패턴의 QueryClassifier
+ * 검색/자동완성 요청마다 한 번 이상 실행되는 경로
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class QueryClassificationBenchmark {
+    
+    private static final int QUERY_COUNT = 64;
+    
+    @Param({"hash", "address", "fragment", "truncated", "text"})
+    private String queryKind;
+    
+    private String[] queries;
+    private int cursor;
+    
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        queries = new String[QUERY_COUNT];
+        for (int i = 0; i < QUERY_COUNT; i++) {
+            queries[i] = BenchmarkFixtures.query(random, queryKind);
+        }
+    }
+    
+    /**
+     * 초기 SearchServiceImpl.isHash 와 동일
+     */
+    @Benchmark
+    public boolean legacyIsHash() {
+        String query = nextQuery();
+        return query != null && query.matches("^0x[a-fA-F0-9]+$");
+    }
+    
+    @Benchmark
+    public QueryClassifier.QueryType classify() {
+        return QueryClassifier.classify(nextQuery());
+    }
+    
+    private String nextQuery() {
+        return queries[cursor++ & (QUERY_COUNT - 1)];
+    }
+}
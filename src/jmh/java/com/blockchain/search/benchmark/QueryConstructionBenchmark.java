@@ -0,0 +1,81 @@
+package com.blockchain.search.benchmark;
+
+import com.blockchain.search.dto.SourceProjection;
+import com.blockchain.search.service.impl.SearchServiceImpl;
+import org.elasticsearch.common.bytes.BytesReference;
+import org.elasticsearch.common.xcontent.XContentHelper;
+import org.elasticsearch.xcontent.XContentType;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 검색 타입/검색어 유형별 요청 구성 비용 - SearchServiceImpl 의 인덱스별 BoolQueryBuilder 구성(build)과
+ * HLRC 가 전송 전에 하는 JSON 직렬화까지(buildAndSerialize)
+ * 실제 빌더 메서드(private)를 MethodHandle 로 호출하므로 쿼리 구성 코드가 바뀌면 결과에 그대로 반영된다
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class QueryConstructionBenchmark {
+    
+    private static final int QUERY_COUNT = 64;
+    
+    @Param({"transactions", "addresses", "tokens"})
+    private String index;
+    
+    @Param({"hash", "address", "fragment", "text"})
+    private String queryKind;
+    
+    private SearchServiceImpl searchService;
+    private MethodHandle buildSearchRequest;
+    private String[] queries;
+    private int cursor;
+    
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        searchService = new SearchServiceImpl();
+        setField("trackTotalHitsUpTo", 10_000); // application.yml 기본값
+        
+        buildSearchRequest = MethodHandles.privateLookupIn(SearchServiceImpl.class, MethodHandles.lookup())
+                .findVirtual(SearchServiceImpl.class, "buildSearchRequest", MethodType.methodType(
+                        org.elasticsearch.action.search.SearchRequest.class,
+                        String.class, String.class, String.class, int.class, int.class, SourceProjection.class));
+        
+        Random random = new Random(42);
+        queries = new String[QUERY_COUNT];
+        for (int i = 0; i < QUERY_COUNT; i++) {
+            queries[i] = BenchmarkFixtures.query(random, queryKind);
+        }
+    }
+    
+    @Benchmark
+    public org.elasticsearch.action.search.SearchRequest build() throws Throwable {
+        return build(nextQuery());
+    }
+    
+    @Benchmark
+    public BytesReference buildAndSerialize() throws Throwable {
+        return XContentHelper.toXContent(build(nextQuery()).source(), XContentType.JSON, false);
+    }
+    
+    private org.elasticsearch.action.search.SearchRequest build(String query) throws Throwable {
+        return (org.elasticsearch.action.search.SearchRequest) buildSearchRequest.invoke(
+                searchService, index, query, "ethereum", 0, 20, SourceProjection.SUMMARY);
+    }
+    
+    private String nextQuery() {
+        return queries[cursor++ & (QUERY_COUNT - 1)];
+    }
+    
+    private void setField(String name, Object value) throws ReflectiveOperationException {
+        Field field = SearchServiceImpl.class.getDeclaredField(name);
+        field.setAccessible(true);
+        field.set(searchService, value);
+    }
+}
@@ -0,0 +1,100 @@
+package com.blockchain.search.benchmark;
+
+import com.blockchain.search.dto.SearchResponse;
+import com.blockchain.search.model.Transaction;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 응답 생성 비용 - 디코딩이 끝난 한 페이지 결과를 HTTP 응답 바이트로 만드는 단계
+ * - controllerRemap / remapAndSerialize: SearchController /transactions 의 트랜잭션 → HashMap 재변환 (+ Jackson 직렬화)
+ * - serializeSearchResponse: /search 의 SearchResponse(트랜잭션/주소/토큰) Jackson 직렬화
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ResponseMappingBenchmark {
+    
+    @Param({"20", "100"})
+    private int hitsPerPage;
+    
+    private ObjectMapper objectMapper;
+    private List<Transaction> transactions;
+    private SearchResponse searchResponse;
+    
+    @Setup(Level.Trial)
+    public void setUp() {
+        objectMapper = BenchmarkFixtures.objectMapper();
+        
+        Random random = new Random(42);
+        // 목록 응답은 summary 프로젝션이라 inputData 가 없음
+        transactions = BenchmarkFixtures.transactions(random, hitsPerPage, 0);
+        transactions.forEach(transaction -> transaction.setInputData(null));
+        
+        SearchResponse.SearchData searchData = new SearchResponse.SearchData("usdt", "ethereum");
+        searchData.setTransactions(BenchmarkFixtures.transactions(random, hitsPerPage, 256));
+        searchData.setAddresses(BenchmarkFixtures.addresses(random, hitsPerPage));
+        searchData.setTokens(BenchmarkFixtures.tokens(random, hitsPerPage));
+        Map<String, SearchResponse.Total> totals = new LinkedHashMap<>();
+        totals.put("transactions", new SearchResponse.Total(10_000, SearchResponse.Total.GREATER_THAN_OR_EQUAL_TO));
+        totals.put("addresses", new SearchResponse.Total(412, SearchResponse.Total.EQUAL_TO));
+        totals.put("tokens", new SearchResponse.Total(37, SearchResponse.Total.EQUAL_TO));
+        searchData.setTotals(totals);
+        searchData.setTotalCount(10_449);
+        searchData.setPage(0);
+        searchData.setSize(hitsPerPage);
+        searchResponse = SearchResponse.success("검색이 완료되었습니다", searchData, 42);
+    }
+    
+    @Benchmark
+    public List<Map<String, Object>> controllerRemap() {
+        return remap(transactions);
+    }
+    
+    @Benchmark
+    public byte[] remapAndSerialize() throws Exception {
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", true);
+        response.put("query", "usdt");
+        response.put("network", "ethereum");
+        response.put("results", remap(transactions));
+        response.put("totalCount", 10_000L);
+        response.put("page", 0);
+        response.put("size", hitsPerPage);
+        return objectMapper.writeValueAsBytes(response);
+    }
+    
+    @Benchmark
+    public byte[] serializeSearchResponse() throws Exception {
+        return objectMapper.writeValueAsBytes(searchResponse);
+    }
+    
+    /**
+     * SearchController.searchTransactions 의 응답 변환과 동일
+     */
+    private static List<Map<String, Object>> remap(List<Transaction> transactions) {
+        return transactions.stream()
+                .map(tx -> {
+                    Map<String, Object> txMap = new HashMap<>();
+                    txMap.put("txHash", tx.getTxHash());
+                    txMap.put("network", tx.getNetwork());
+                    txMap.put("fromAddress", tx.getFromAddress());
+                    txMap.put("toAddress", tx.getToAddress());
+                    txMap.put("blockNumber", tx.getBlockNumber());
+                    txMap.put("timestamp", tx.getTimestamp());
+                    txMap.put("value", tx.getValue());
+                    txMap.put("tokenSymbol", tx.getTokenSymbol());
+                    txMap.put("gasUsed", tx.getGasUsed());
+                    return txMap;
+                })
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,168 @@
+package com.blockchain.search.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 부하 발생기 - 고정 도착률(open-loop)로 API 를 호출하고 엔드포인트별 지연 분포를 기록
+ * 지연은 요청을 보냈어야 할 시각부터 측정한다. 서버가 밀려 발송이 늦어진 시간도 지연에 포함되므로
+ * 응답을 기다렸다가 다음 요청을 보내는 방식(closed-loop)에서 생기는 coordinated omission 으로 p99 가 과소 측정되지 않음
+ * maxInFlight 는 부하 발생기 자체를 보호하는 상한이며, 여기에 걸리면 그만큼 발송이 늦어진 것으로 기록됨
+ */
+final class LoadDriver {
+    
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(2);
+    
+    private final String baseUrl;
+    private final QueryMix queryMix;
+    private final double rate;
+    private final int maxInFlight;
+    private final Duration requestTimeout;
+    private final HttpClient httpClient;
+    private final ExecutorService callbackExecutor;
+    
+    LoadDriver(String baseUrl, QueryMix queryMix, double rate, int maxInFlight, Duration requestTimeout) {
+        this.baseUrl = baseUrl;
+        this.queryMix = queryMix;
+        this.rate = rate;
+        this.maxInFlight = maxInFlight;
+        this.requestTimeout = requestTimeout;
+        this.callbackExecutor = Executors.newFixedThreadPool(Math.max(Runtime.getRuntime().availableProcessors(), 2));
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(callbackExecutor)
+                .build();
+    }
+    
+    /**
+     * duration 동안 부하를 주고, 발송한 요청이 모두 끝나면 엔드포인트별 결과 반환
+     */
+    Map<String, EndpointResult> run(Duration duration, long seed) throws InterruptedException {
+        Map<String, Recorder> recorders = new LinkedHashMap<>();
+        for (String endpoint : queryMix.endpoints()) {
+            recorders.put(endpoint, new Recorder());
+        }
+        
+        Random random = new Random(seed);
+        Semaphore inFlight = new Semaphore(maxInFlight);
+        long intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / rate);
+        long start = System.nanoTime();
+        long end = start + duration.toNanos();
+        
+        for (long sent = 0; ; sent++) {
+            long intendedStart = start + sent * intervalNanos;
+            if (intendedStart >= end) {
+                break;
+            }
+            long wait = intendedStart - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            
+            QueryMix.Request request = queryMix.next(random);
+            Recorder recorder = recorders.get(request.endpoint);
+            inFlight.acquire();
+            httpClient.sendAsync(HttpRequest.newBuilder(URI.create(baseUrl + request.path))
+                                    .timeout(requestTimeout)
+                                    .GET()
+                                    .build(),
+                            HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, error) -> {
+                        inFlight.release();
+                        recorder.record(intendedStart, System.nanoTime(),
+                                error == null && response.statusCode() / 100 == 2);
+                    });
+        }
+        
+        // 남은 요청 완료 대기
+        inFlight.acquire(maxInFlight);
+        inFlight.release(maxInFlight);
+        double elapsedSeconds = (System.nanoTime() - start) / 1e9;
+        
+        Map<String, EndpointResult> results = new LinkedHashMap<>();
+        Histogram all = new Histogram(HIGHEST_TRACKABLE_MICROS, 3);
+        long allErrors = 0;
+        for (Map.Entry<String, Recorder> entry : recorders.entrySet()) {
+            Recorder recorder = entry.getValue();
+            results.put(entry.getKey(), new EndpointResult(recorder.latencies, recorder.errors.sum(), elapsedSeconds));
+            all.add(recorder.latencies);
+            allErrors += recorder.errors.sum();
+        }
+        results.put("all", new EndpointResult(all, allErrors, elapsedSeconds));
+        return results;
+    }
+    
+    void close() {
+        callbackExecutor.shutdownNow();
+    }
+    
+    private static class Recorder {
+        
+        private final Histogram latencies = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3);
+        private final LongAdder errors = new LongAdder();
+        
+        void record(long intendedStartNanos, long endNanos, boolean success) {
+            long micros = TimeUnit.NANOSECONDS.toMicros(endNanos - intendedStartNanos);
+            latencies.recordValue(Math.min(Math.max(micros, 1), HIGHEST_TRACKABLE_MICROS));
+            if (!success) {
+                errors.increment();
+            }
+        }
+    }
+    
+    /**
+     * 엔드포인트별 처리량/지연 (지연은 ms, 오류 응답 포함)
+     */
+    static final class EndpointResult {
+        
+        final long requests;
+        final long errors;
+        final double rps;
+        final double p50;
+        final double p99;
+        final double p999;
+        final double max;
+        
+        EndpointResult(Histogram latencies, long errors, double elapsedSeconds) {
+            this.requests = latencies.getTotalCount();
+            this.errors = errors;
+            this.rps = requests / elapsedSeconds;
+            this.p50 = millis(latencies.getValueAtPercentile(50));
+            this.p99 = millis(latencies.getValueAtPercentile(99));
+            this.p999 = millis(latencies.getValueAtPercentile(99.9));
+            this.max = millis(latencies.getMaxValue());
+        }
+        
+        private static double millis(long micros) {
+            return micros / 1000.0;
+        }
+        
+        Map<String, Object> toMap() {
+            Map<String, Object> map = new LinkedHashMap<>();
+            map.put("requests", requests);
+            map.put("errors", errors);
+            map.put("rps", rps);
+            map.put("p50Millis", p50);
+            map.put("p99Millis", p99);
+            map.put("p999Millis", p999);
+            map.put("maxMillis", max);
+            return map;
+        }
+    }
+}
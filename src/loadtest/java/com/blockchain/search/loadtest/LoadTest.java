@@ -0,0 +1,136 @@
+package com.blockchain.search.loadtest;
+
+import com.blockchain.search.SearchApiApplication;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.File;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * API 부하 테스트 - ES 대역(SearchClusterStub)을 띄우고 API 서버를 같은 JVM 에서 그 대역에 연결해 기동한 뒤
+ * 엔드포인트 혼합 부하(QueryMix)를 고정 도착률로 걸어 엔드포인트별 RPS 와 p50/p99/p999 를 보고한다
+ * MySQL/Redis 는 실제 인스턴스가 필요 (docker-compose up -d mysql redis)
+ * --base-url 을 주면 대역/서버를 띄우지 않고 이미 실행 중인 서버에 부하만 건다
+ *
+ * 옵션
+ * --rate=200            초당 요청 수 (전체)
+ * --duration=60         측정 시간(초)
+ * --warmup=15           측정 전 예열 시간(초) - JIT, 커넥션 풀, 캐시, 파티션/인기 심볼 갱신
+ * --max-in-flight=256   동시 요청 상한
+ * --timeout=10          요청 타임아웃(초)
+ * --mix, --distinct-queries, --zipf    요청 구성 (QueryMix)
+ * --es-latency-ms, --es-jitter-ms, --es-slow-ratio, --es-slow-ms, --es-total-hits, --es-partitions
+ *                       ES 대역 응답 (SearchClusterStub.Settings)
+ * --app.<property>=...  API 서버 설정 덮어쓰기 (예: --app.search.cache.redis.enabled=false)
+ * --results=build/reports/loadtest/results.json
+ */
+public class LoadTest {
+    
+    public static void main(String[] args) throws Exception {
+        Options options = Options.parse(args);
+        String baseUrl = options.get("base-url", null);
+        
+        SearchClusterStub stub = null;
+        ConfigurableApplicationContext application = null;
+        if (baseUrl == null) {
+            stub = new SearchClusterStub(SearchClusterStub.Settings.from(options, 0));
+            application = startApplication(stub.port(), args);
+            baseUrl = "http://127.0.0.1:" + ((WebServerApplicationContext) application).getWebServer().getPort();
+        }
+        
+        QueryMix queryMix = QueryMix.from(options);
+        double rate = options.getDouble("rate", 200);
+        LoadDriver driver = new LoadDriver(baseUrl, queryMix, rate, options.getInt("max-in-flight", 256),
+                Duration.ofSeconds(options.getLong("timeout", 10)));
+        try {
+            Duration warmup = options.getDuration("warmup", Duration.ofSeconds(15));
+            if (!warmup.isZero()) {
+                System.out.printf("예열 %ds (%s, %.0f req/s)%n", warmup.getSeconds(), baseUrl, rate);
+                driver.run(warmup, options.getLong("seed", 42) + 1);
+            }
+            if (stub != null) {
+                stub.resetCounts();
+            }
+            
+            Duration duration = options.getDuration("duration", Duration.ofSeconds(60));
+            System.out.printf("측정 %ds (%s, %.0f req/s)%n", duration.getSeconds(), baseUrl, rate);
+            Map<String, LoadDriver.EndpointResult> results = driver.run(duration, options.getLong("seed", 42));
+            
+            print(results, stub);
+            write(new File(options.get("results", "build/reports/loadtest/results.json")), options, rate, duration,
+                    results, stub);
+        } finally {
+            driver.close();
+            if (application != null) {
+                application.close();
+            }
+            if (stub != null) {
+                stub.close();
+            }
+        }
+    }
+    
+    /**
+     * 명령행 인자는 application.yml 보다 우선하므로 ES 접속 정보를 인자로 넘긴다
+     */
+    private static ConfigurableApplicationContext startApplication(int stubPort, String[] args) {
+        List<String> applicationArgs = new ArrayList<>(Arrays.asList(
+                "--server.port=0",
+                "--elasticsearch.host=127.0.0.1",
+                "--elasticsearch.port=" + stubPort,
+                "--elasticsearch.scheme=http",
+                "--ingest.blocks.enabled=false",
+                "--elasticsearch.index.partitioning.enabled=true", // --es-partitions 파티션 순차 검색 경로 측정
+                "--logging.level.com.blockchain.search=INFO",
+                "--logging.level.org.springframework.data.elasticsearch=INFO"));
+        for (String arg : args) {
+            if (arg.startsWith("--app.")) {
+                applicationArgs.add("--" + arg.substring("--app.".length()));
+            }
+        }
+        return new SpringApplicationBuilder(SearchApiApplication.class)
+                .run(applicationArgs.toArray(new String[0]));
+    }
+    
+    private static void print(Map<String, LoadDriver.EndpointResult> results, SearchClusterStub stub) {
+        System.out.printf("%n%-14s %10s %9s %8s %9s %9s %9s %9s%n",
+                "endpoint", "requests", "rps", "errors", "p50(ms)", "p99(ms)", "p999(ms)", "max(ms)");
+        results.forEach((endpoint, result) -> System.out.printf("%-14s %10d %9.1f %8d %9.2f %9.2f %9.2f %9.2f%n",
+                endpoint, result.requests, result.rps, result.errors, result.p50, result.p99, result.p999, result.max));
+        if (stub != null) {
+            System.out.println("\nES 대역 요청 수: " + stub.requestCounts());
+        }
+    }
+    
+    private static void write(File file, Options options, double rate, Duration duration,
+                              Map<String, LoadDriver.EndpointResult> results, SearchClusterStub stub)
+            throws IOException {
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("rate", rate);
+        report.put("durationSeconds", duration.getSeconds());
+        report.put("mix", options.get("mix", QueryMix.DEFAULT_MIX));
+        Map<String, Object> endpoints = new LinkedHashMap<>();
+        results.forEach((endpoint, result) -> endpoints.put(endpoint, result.toMap()));
+        report.put("endpoints", endpoints);
+        if (stub != null) {
+            report.put("esRequests", stub.requestCounts());
+        }
+        
+        File directory = file.getAbsoluteFile().getParentFile();
+        if (!directory.exists() && !directory.mkdirs()) {
+            throw new IOException("결과 디렉터리 생성 실패: " + directory);
+        }
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(file, report);
+        System.out.println("결과 저장: " + file.getPath());
+    }
+}
@@ -0,0 +1,161 @@
+package com.blockchain.search.loadtest;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * 부하 테스트 요청 구성 - 엔드포인트별 가중치와 검색어 분포
+ * 검색어는 distinctQueries 개의 풀에서 Zipf 분포로 뽑는다 (인기 주소/토큰에 요청이 몰리는 실제 트래픽처럼
+ * 일부 검색어가 반복되어 응답 캐시 적중률도 함께 반영됨, zipf=0 이면 균등 분포)
+ */
+final class QueryMix {
+    
+    static final String SEARCH = "search";
+    static final String AUTOCOMPLETE = "autocomplete";
+    static final String TRANSACTIONS = "transactions";
+    static final String ADDRESSES = "addresses";
+    
+    static final String DEFAULT_MIX = SEARCH + ":40," + AUTOCOMPLETE + ":30," + TRANSACTIONS + ":20,"
+            + ADDRESSES + ":10";
+    
+    private final String[] endpoints;
+    private final double[] endpointCdf;
+    
+    private final String[] hashes;
+    private final String[] addresses;
+    private final double[] queryCdf;
+    
+    private QueryMix(Map<String, Integer> weights, int distinctQueries, double zipf, long seed) {
+        this.endpoints = weights.keySet().toArray(new String[0]);
+        this.endpointCdf = cdf(weights.values().stream().mapToDouble(Integer::doubleValue).toArray());
+        
+        Random random = new Random(seed);
+        this.hashes = new String[distinctQueries];
+        this.addresses = new String[distinctQueries];
+        double[] queryWeights = new double[distinctQueries];
+        for (int i = 0; i < distinctQueries; i++) {
+            hashes[i] = StubDocuments.randomHex(random, 64);
+            addresses[i] = StubDocuments.randomHex(random, 40);
+            queryWeights[i] = 1.0 / Math.pow(i + 1, zipf);
+        }
+        this.queryCdf = cdf(queryWeights);
+    }
+    
+    /**
+     * --mix=search:40,autocomplete:30,transactions:20,addresses:10 --distinct-queries=10000 --zipf=1.0
+     */
+    static QueryMix from(Options options) {
+        Map<String, Integer> weights = new LinkedHashMap<>();
+        for (String entry : options.get("mix", DEFAULT_MIX).split(",")) {
+            String[] parts = entry.split(":");
+            if (!Arrays.asList(SEARCH, AUTOCOMPLETE, TRANSACTIONS, ADDRESSES).contains(parts[0])) {
+                throw new IllegalArgumentException("지원하지 않는 엔드포인트입니다: " + parts[0]);
+            }
+            weights.put(parts[0], Integer.parseInt(parts[1]));
+        }
+        return new QueryMix(weights, options.getInt("distinct-queries", 10_000), options.getDouble("zipf", 1.0),
+                options.getLong("seed", 42));
+    }
+    
+    List<String> endpoints() {
+        return new ArrayList<>(Arrays.asList(endpoints));
+    }
+    
+    /**
+     * 다음 요청 (엔드포인트 이름, /api/v1 경로 + 쿼리 문자열)
+     */
+    Request next(Random random) {
+        String endpoint = endpoints[pick(endpointCdf, random)];
+        String network = random.nextBoolean()
+                ? null : StubDocuments.NETWORKS[random.nextInt(StubDocuments.NETWORKS.length)];
+        switch (endpoint) {
+            case SEARCH:
+                return new Request(endpoint, "/api/v1/search?q=" + encode(searchQuery(random)) + networkParam(network));
+            case AUTOCOMPLETE:
+                return new Request(endpoint, "/api/v1/autocomplete?q=" + encode(autocompleteQuery(random))
+                        + networkParam(network));
+            case TRANSACTIONS:
+                // 주소 이력 첫 페이지 위주, 일부는 다음 페이지
+                int page = random.nextInt(10) == 0 ? 1 + random.nextInt(4) : 0;
+                return new Request(endpoint, "/api/v1/transactions?from=" + address(random) + "&page=" + page
+                        + networkParam(network));
+            default:
+                return new Request(endpoint, "/api/v1/addresses/" + address(random)
+                        + (network != null ? "?network=" + network : ""));
+        }
+    }
+    
+    /**
+     * 통합 검색어 - 트랜잭션 해시 20%, 주소 30%, 토큰 심볼/이름 30%, 해시/주소 일부 20%
+     */
+    private String searchQuery(Random random) {
+        int kind = random.nextInt(10);
+        if (kind < 2) {
+            return hashes[pick(queryCdf, random)];
+        }
+        if (kind < 5) {
+            return address(random);
+        }
+        if (kind < 8) {
+            String symbol = StubDocuments.SYMBOLS[random.nextInt(StubDocuments.SYMBOLS.length)];
+            return random.nextBoolean() ? symbol.toLowerCase() : symbol + " Token";
+        }
+        return address(random).substring(0, 6 + random.nextInt(10));
+    }
+    
+    /**
+     * 자동완성 입력 - 심볼 앞 1~3글자 또는 0x 로 시작하는 주소 앞부분
+     */
+    private String autocompleteQuery(Random random) {
+        if (random.nextInt(3) == 0) {
+            return address(random).substring(0, 4 + random.nextInt(6));
+        }
+        String symbol = StubDocuments.SYMBOLS[random.nextInt(StubDocuments.SYMBOLS.length)].toLowerCase();
+        return symbol.substring(0, Math.min(symbol.length(), 1 + random.nextInt(3)));
+    }
+    
+    private String address(Random random) {
+        return addresses[pick(queryCdf, random)];
+    }
+    
+    private static String networkParam(String network) {
+        return network != null ? "&network=" + network : "";
+    }
+    
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+    
+    private static double[] cdf(double[] weights) {
+        double total = Arrays.stream(weights).sum();
+        double[] cdf = new double[weights.length];
+        double sum = 0;
+        for (int i = 0; i < weights.length; i++) {
+            sum += weights[i];
+            cdf[i] = sum / total;
+        }
+        return cdf;
+    }
+    
+    private static int pick(double[] cdf, Random random) {
+        int index = Arrays.binarySearch(cdf, random.nextDouble());
+        return Math.min(index >= 0 ? index : -index - 1, cdf.length - 1);
+    }
+    
+    static final class Request {
+        
+        final String endpoint;
+        final String path;
+        
+        Request(String endpoint, String path) {
+            this.endpoint = endpoint;
+            this.path = path;
+        }
+    }
+}
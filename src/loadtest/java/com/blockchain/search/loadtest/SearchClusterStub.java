@@ -0,0 +1,521 @@
+package com.blockchain.search.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 부하 테스트용 ES 대역 HTTP 서버 - 클러스터 없이 API 서버의 처리량과 꼬리 지연을 측정하기 위함
+ * ES 의 검색 비용은 설정한 지연 분포(Latency)로만 흉내내고, 응답은 RestHighLevelClient 가 파싱할 수 있는 형태로 생성한다
+ * - GET /                         : 버전/제품 확인
+ * - POST {index}/_search          : size 만큼 합성 문서 히트 (+ completion suggest, 파티션 _index 집계)
+ * - POST _msearch                 : 항목별 _search 응답 (지연은 항목 중 가장 느린 값)
+ * - POST {index}/_pit, DELETE _pit: PIT 열기/닫기 (id 에 인덱스 이름을 담아 이후 _search 에서 사용)
+ * - POST _bulk                    : 항목 수만큼 성공 응답
+ * - GET {indices}/_stats          : IndexStatsCollector 용 primaries 통계
+ * 그 외 HEAD 는 200(템플릿만 404), 쓰기 요청은 acknowledged - 기동 시 IndexInitializer 가 통과하도록
+ */
+public class SearchClusterStub implements AutoCloseable {
+    
+    private static final String INFO_RESPONSE = "{"
+            + "\"name\":\"stub\",\"cluster_name\":\"stub\",\"cluster_uuid\":\"stub\","
+            + "\"version\":{\"number\":\"7.17.9\",\"build_flavor\":\"default\",\"build_type\":\"docker\","
+            + "\"build_hash\":\"stub\",\"build_date\":\"2023-01-31T05:34:43.305517834Z\",\"build_snapshot\":false,"
+            + "\"lucene_version\":\"8.11.1\",\"minimum_wire_compatibility_version\":\"6.8.0\","
+            + "\"minimum_index_compatibility_version\":\"6.0.0-beta1\"},"
+            + "\"tagline\":\"You Know, for Search\"}";
+    
+    private static final String SHARDS = "\"_shards\":{\"total\":1,\"successful\":1,\"skipped\":0,\"failed\":0}";
+    
+    private static final String BULK_ITEM = "{\"index\":{\"_index\":\"stub\",\"_type\":\"_doc\",\"_id\":\"stub\","
+            + "\"_version\":1,\"result\":\"created\",\"_shards\":{\"total\":1,\"successful\":1,\"failed\":0},"
+            + "\"_seq_no\":0,\"_primary_term\":1,\"status\":201}}";
+    
+    private static final String PIT_PREFIX = "stub-pit:";
+    private static final DateTimeFormatter MONTH_FORMAT = DateTimeFormatter.ofPattern("yyyy.MM");
+    private static final int DEFAULT_TRACK_TOTAL_HITS = 10_000;
+    
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final Settings settings;
+    private final StubDocuments documents;
+    private final List<String> partitions;
+    private final AtomicInteger cursor = new AtomicInteger();
+    
+    private final Map<String, LongAdder> requestCounts = new ConcurrentHashMap<>();
+    
+    public SearchClusterStub(Settings settings) throws IOException {
+        this.settings = settings;
+        this.documents = new StubDocuments(settings.documentPoolSize, 42);
+        this.partitions = partitionNames(settings.partitions);
+        this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", settings.port), 1024);
+        this.executor = Executors.newCachedThreadPool();
+        server.setExecutor(executor);
+        server.createContext("/", this::handle);
+        server.start();
+    }
+    
+    public int port() {
+        return server.getAddress().getPort();
+    }
+    
+    /**
+     * 엔드포인트(_search, _msearch, _pit, _bulk ...)별 받은 요청 수 - API 요청 하나가 몇 번의 ES 호출로 이어지는지 확인용
+     */
+    public Map<String, Long> requestCounts() {
+        Map<String, Long> counts = new TreeMap<>();
+        requestCounts.forEach((endpoint, count) -> counts.put(endpoint, count.sum()));
+        return counts;
+    }
+    
+    public void resetCounts() {
+        requestCounts.clear();
+    }
+    
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            String method = exchange.getRequestMethod();
+            String path = exchange.getRequestURI().getPath();
+            String endpoint = endpoint(path);
+            requestCounts.computeIfAbsent(method + " " + endpoint, ignored -> new LongAdder()).increment();
+            
+            if ("/".equals(path) && "GET".equals(method)) {
+                respond(exchange, 200, INFO_RESPONSE);
+            } else if ("HEAD".equals(method)) {
+                respond(exchange, path.startsWith("/_template") ? 404 : 200, null);
+            } else if ("_search".equals(endpoint)) {
+                JsonNode body = objectMapper.readTree(requestBody(exchange));
+                String index = indexOf(path, body);
+                sleep(settings.latency.sample());
+                respond(exchange, 200, search(index, body, null));
+            } else if ("_msearch".equals(endpoint)) {
+                respond(exchange, 200, multiSearch(requestBody(exchange)));
+            } else if ("_count".equals(endpoint)) {
+                sleep(settings.latency.sample());
+                respond(exchange, 200, "{\"count\":" + settings.totalHits + "," + SHARDS + "}");
+            } else if ("_pit".equals(endpoint)) {
+                respond(exchange, 200, "DELETE".equals(method)
+                        ? "{\"succeeded\":true,\"num_freed\":1}"
+                        : "{\"id\":\"" + PIT_PREFIX + firstSegment(path) + "\"}");
+            } else if ("_bulk".equals(endpoint)) {
+                respond(exchange, 200, bulk(requestBody(exchange)));
+            } else if ("_stats".equals(endpoint)) {
+                respond(exchange, 200, stats());
+            } else if ("GET".equals(method)) {
+                respond(exchange, 404, "{\"error\":\"not supported by stub: " + path + "\",\"status\":404}");
+            } else {
+                drain(requestBody(exchange));
+                respond(exchange, 200, "{\"acknowledged\":true,\"shards_acknowledged\":true,\"index\":\""
+                        + firstSegment(path) + "\"}");
+            }
+        } catch (RuntimeException e) {
+            respond(exchange, 500, "{\"error\":\"stub failure: " + e.getClass().getSimpleName() + "\",\"status\":500}");
+        } finally {
+            exchange.close();
+        }
+    }
+    
+    private String multiSearch(InputStream requestBody) throws IOException {
+        List<String> responses = new ArrayList<>();
+        long latency = 0;
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(requestBody, StandardCharsets.UTF_8))) {
+            String header;
+            while ((header = reader.readLine()) != null) {
+                if (header.isEmpty()) {
+                    continue;
+                }
+                JsonNode body = objectMapper.readTree(reader.readLine());
+                JsonNode indexNode = objectMapper.readTree(header).path("index");
+                String index = indexNode.isArray() ? indexNode.path(0).asText() : indexNode.asText();
+                responses.add(search(index.isEmpty() ? indexOf("/", body) : index, body, 200));
+                // 항목은 ES 에서 병렬로 실행되므로 가장 느린 항목이 전체 응답 시간을 결정
+                latency = Math.max(latency, settings.latency.sample());
+            }
+        }
+        sleep(latency);
+        return "{\"took\":" + latency + ",\"responses\":[" + String.join(",", responses) + "]}";
+    }
+    
+    private String search(String index, JsonNode body, Integer status) {
+        StubDocuments.Document[] pool = documents.forIndex(index);
+        String hitIndex = index.startsWith("transactions") ? concreteTransactionIndex(index) : index;
+        int from = body.path("from").asInt(0);
+        int size = body.path("size").asInt(10);
+        int hits = (int) Math.max(0, Math.min(size, settings.totalHits - from));
+        
+        StringBuilder response = new StringBuilder(256 + hits * 512)
+                .append("{\"took\":").append(settings.latency.baseMillis)
+                .append(",\"timed_out\":false,").append(SHARDS).append(",\"hits\":{");
+        appendTotal(response, body.get("track_total_hits"));
+        response.append("\"max_score\":1.0,\"hits\":[");
+        int offset = cursor.getAndAdd(Math.max(hits, 1));
+        for (int i = 0; i < hits; i++) {
+            if (i > 0) {
+                response.append(',');
+            }
+            appendHit(response, hitIndex, pool[Math.floorMod(offset + i, pool.length)]);
+        }
+        response.append("]}");
+        
+        JsonNode suggest = body.path("suggest");
+        if (suggest.isObject()) {
+            appendSuggest(response, hitIndex, pool, suggest, offset);
+        }
+        JsonNode aggregations = body.has("aggregations") ? body.get("aggregations") : body.path("aggs");
+        if (aggregations.has("partitions")) {
+            appendPartitionAggregation(response);
+        }
+        if (status != null) {
+            response.append(",\"status\":").append(status);
+        }
+        return response.append('}').toString();
+    }
+    
+    private void appendTotal(StringBuilder response, JsonNode trackTotalHits) {
+        long trackUpTo;
+        if (trackTotalHits == null) {
+            trackUpTo = DEFAULT_TRACK_TOTAL_HITS;
+        } else if (trackTotalHits.isBoolean()) {
+            if (!trackTotalHits.asBoolean()) {
+                return; // track_total_hits=false 면 total 없음
+            }
+            trackUpTo = Long.MAX_VALUE;
+        } else {
+            trackUpTo = trackTotalHits.asLong();
+        }
+        boolean exact = settings.totalHits <= trackUpTo;
+        response.append("\"total\":{\"value\":").append(exact ? settings.totalHits : trackUpTo)
+                .append(",\"relation\":\"").append(exact ? "eq" : "gte").append("\"},");
+    }
+    
+    private static void appendHit(StringBuilder response, String index, StubDocuments.Document document) {
+        response.append('{');
+        appendHitFields(response, index, document);
+        response.append(",\"sort\":[").append(document.primarySort)
+                .append(",\"").append(document.tiebreaker).append("\"]}");
+    }
+    
+    private static void appendHitFields(StringBuilder response, String index, StubDocuments.Document document) {
+        response.append("\"_index\":\"").append(index)
+                .append("\",\"_type\":\"_doc\",\"_id\":\"").append(document.id)
+                .append("\",\"_score\":1.0,\"_source\":").append(document.source);
+    }
+    
+    /**
+     * completion suggest - 요청한 size 만큼 옵션 생성 (typed_keys 형식)
+     */
+    private void appendSuggest(StringBuilder response, String index, StubDocuments.Document[] pool,
+                               JsonNode suggest, int offset) {
+        response.append(",\"suggest\":{");
+        boolean first = true;
+        Iterator<Map.Entry<String, JsonNode>> entries = suggest.fields();
+        while (entries.hasNext()) {
+            Map.Entry<String, JsonNode> entry = entries.next();
+            JsonNode completion = entry.getValue().path("completion");
+            if (completion.isMissingNode()) {
+                continue;
+            }
+            String prefix = entry.getValue().path("prefix").asText("");
+            int options = completion.path("size").asInt(5);
+            if (!first) {
+                response.append(',');
+            }
+            first = false;
+            response.append("\"completion#").append(entry.getKey()).append("\":[{\"text\":")
+                    .append(objectMapper.valueToTree(prefix).toString())
+                    .append(",\"offset\":0,\"length\":").append(prefix.length()).append(",\"options\":[");
+            for (int i = 0; i < options; i++) {
+                if (i > 0) {
+                    response.append(',');
+                }
+                StubDocuments.Document document = pool[Math.floorMod(offset + i, pool.length)];
+                response.append("{\"text\":\"").append(document.tiebreaker).append("\",");
+                appendHitFields(response, index, document);
+                response.append('}');
+            }
+            response.append("]}]");
+        }
+        response.append('}');
+    }
+    
+    /**
+     * TransactionPartitions.refresh 의 _index terms + min/max blockNumber 집계
+     */
+    private void appendPartitionAggregation(StringBuilder response) {
+        response.append(",\"aggregations\":{\"sterms#partitions\":{\"doc_count_error_upper_bound\":0,"
+                + "\"sum_other_doc_count\":0,\"buckets\":[");
+        long docsPerPartition = Math.max(settings.totalHits / Math.max(partitions.size(), 1), 1);
+        long blocksPerPartition = 216_000; // 12초 블록 기준 한 달
+        for (int i = 0; i < partitions.size(); i++) {
+            if (i > 0) {
+                response.append(',');
+            }
+            long maxBlock = 17_600_000L - i * blocksPerPartition;
+            response.append("{\"key\":\"").append(partitions.get(i)).append("\",\"doc_count\":").append(docsPerPartition)
+                    .append(",\"min#minBlock\":{\"value\":").append(maxBlock - blocksPerPartition + 1)
+                    .append("},\"max#maxBlock\":{\"value\":").append(maxBlock).append("}}");
+        }
+        response.append("]}}");
+    }
+    
+    private String stats() {
+        StringBuilder response = new StringBuilder("{").append(SHARDS).append(",\"indices\":{");
+        List<String> indices = new ArrayList<>(partitions.isEmpty()
+                ? List.of("transactions") : partitions);
+        indices.add("addresses");
+        indices.add("tokens");
+        long docs = settings.totalHits / Math.max(partitions.size(), 1);
+        for (int i = 0; i < indices.size(); i++) {
+            if (i > 0) {
+                response.append(',');
+            }
+            long count = indices.get(i).startsWith("transactions") ? docs : settings.totalHits;
+            response.append('"').append(indices.get(i)).append("\":{\"primaries\":{")
+                    .append("\"docs\":{\"count\":").append(count).append("},")
+                    .append("\"store\":{\"size_in_bytes\":").append(count * 600).append("},")
+                    .append("\"segments\":{\"count\":").append(12).append("},")
+                    .append("\"indexing\":{\"index_total\":").append(count).append("}}}");
+        }
+        return response.append("}}").toString();
+    }
+    
+    private String bulk(InputStream body) throws IOException {
+        int items = countLines(body) / 2; // 액션 + 소스 2줄당 1건
+        sleep(settings.latency.sample());
+        StringBuilder response = new StringBuilder(64 + items * BULK_ITEM.length())
+                .append("{\"took\":").append(settings.latency.baseMillis).append(",\"errors\":false,\"items\":[");
+        for (int i = 0; i < items; i++) {
+            if (i > 0) {
+                response.append(',');
+            }
+            response.append(BULK_ITEM);
+        }
+        return response.append("]}").toString();
+    }
+    
+    /**
+     * 경로의 마지막 _ 로 시작하는 구간 (예: /transactions/_search → _search, /_stats/docs → _stats)
+     */
+    private static String endpoint(String path) {
+        String endpoint = "";
+        for (String segment : path.split("/")) {
+            if (segment.startsWith("_")) {
+                endpoint = segment;
+                if ("_stats".equals(segment)) {
+                    break;
+                }
+            }
+        }
+        return endpoint;
+    }
+    
+    private static String firstSegment(String path) {
+        String[] segments = path.split("/");
+        return segments.length > 1 ? segments[1] : "";
+    }
+    
+    private static String indexOf(String path, JsonNode body) {
+        String index = firstSegment(path);
+        if (!index.isEmpty() && !index.startsWith("_")) {
+            return index.split(",")[0];
+        }
+        String pitId = body.path("pit").path("id").asText("");
+        return pitId.startsWith(PIT_PREFIX) ? pitId.substring(PIT_PREFIX.length()) : "transactions";
+    }
+    
+    private String concreteTransactionIndex(String index) {
+        if (index.startsWith("transactions-") || partitions.isEmpty()) {
+            return index;
+        }
+        return partitions.get(0);
+    }
+    
+    private static List<String> partitionNames(int count) {
+        List<String> names = new ArrayList<>(count);
+        YearMonth month = YearMonth.of(2023, 6);
+        for (int i = 0; i < count; i++) {
+            names.add("transactions-" + month.minusMonths(i).format(MONTH_FORMAT)); // 최신순
+        }
+        return names;
+    }
+    
+    private static void sleep(long millis) {
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+    
+    private static int countLines(InputStream body) throws IOException {
+        byte[] buffer = new byte[8192];
+        int lines = 0;
+        int read;
+        while ((read = body.read(buffer)) != -1) {
+            for (int i = 0; i < read; i++) {
+                if (buffer[i] == '\n') {
+                    lines++;
+                }
+            }
+        }
+        return lines;
+    }
+    
+    private static void drain(InputStream body) throws IOException {
+        byte[] buffer = new byte[8192];
+        while (body.read(buffer) != -1) {
+            // 요청 본문은 사용하지 않음
+        }
+    }
+    
+    /**
+     * 클라이언트 압축(elasticsearch.client.compression)이 켜져 있으면 요청 본문이 gzip 으로 옴
+     */
+    private static InputStream requestBody(HttpExchange exchange) throws IOException {
+        InputStream body = exchange.getRequestBody();
+        return isGzip(exchange.getRequestHeaders().getFirst("Content-Encoding"))
+                ? new GZIPInputStream(body) : body;
+    }
+    
+    private static boolean isGzip(String encoding) {
+        return encoding != null && encoding.toLowerCase().contains("gzip");
+    }
+    
+    /**
+     * 실제 ES(http.compression 기본값 true)처럼 Accept-Encoding: gzip 요청에는 압축해서 응답
+     */
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        exchange.getResponseHeaders().add("Content-Type", "application/json; charset=UTF-8");
+        exchange.getResponseHeaders().add("X-Elastic-Product", "Elasticsearch");
+        if (body == null) {
+            exchange.sendResponseHeaders(status, -1);
+            return;
+        }
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        if (isGzip(exchange.getRequestHeaders().getFirst("Accept-Encoding"))) {
+            exchange.getResponseHeaders().add("Content-Encoding", "gzip");
+            exchange.sendResponseHeaders(status, 0);
+            try (OutputStream output = new GZIPOutputStream(exchange.getResponseBody())) {
+                output.write(bytes);
+            }
+            return;
+        }
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream output = exchange.getResponseBody()) {
+            output.write(bytes);
+        }
+    }
+    
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+    
+    /**
+     * 단독 실행 - 실행 중인 API 서버를 --elasticsearch.port 로 이 포트에 연결해 사용
+     * 예: --port=9299 --es-latency-ms=5 --es-jitter-ms=5 --es-slow-ratio=0.01 --es-slow-ms=200
+     */
+    public static void main(String[] args) throws Exception {
+        Options options = Options.parse(args);
+        SearchClusterStub stub = new SearchClusterStub(Settings.from(options, options.getInt("port", 9299)));
+        System.out.println("ES 대역 실행 중: http://127.0.0.1:" + stub.port() + " (" + stub.settings + ")");
+        Runtime.getRuntime().addShutdownHook(new Thread(stub::close));
+        Thread.currentThread().join();
+    }
+    
+    public static class Settings {
+        
+        private final int port;
+        private final Latency latency;
+        private final long totalHits;
+        private final int partitions;
+        private final int documentPoolSize;
+        
+        public Settings(int port, Latency latency, long totalHits, int partitions, int documentPoolSize) {
+            this.port = port;
+            this.latency = latency;
+            this.totalHits = totalHits;
+            this.partitions = partitions;
+            this.documentPoolSize = documentPoolSize;
+        }
+        
+        /**
+         * --es-latency-ms, --es-jitter-ms, --es-slow-ratio, --es-slow-ms, --es-total-hits, --es-partitions
+         */
+        static Settings from(Options options, int port) {
+            Latency latency = new Latency(
+                    options.getLong("es-latency-ms", 5),
+                    options.getLong("es-jitter-ms", 5),
+                    options.getDouble("es-slow-ratio", 0.01),
+                    options.getLong("es-slow-ms", 100));
+            return new Settings(port, latency, options.getLong("es-total-hits", 25_000),
+                    options.getInt("es-partitions", 6), 2_000);
+        }
+        
+        @Override
+        public String toString() {
+            return "latency=" + latency + ", totalHits=" + totalHits + ", partitions=" + partitions;
+        }
+    }
+    
+    /**
+     * ES 응답 지연 분포 - base + [0, jitter) 균등 분포, slowRatio 비율의 요청은 slowMillis 추가 (GC, 머지, 캐시 미스 흉내)
+     */
+    public static class Latency {
+        
+        private final long baseMillis;
+        private final long jitterMillis;
+        private final double slowRatio;
+        private final long slowMillis;
+        
+        public Latency(long baseMillis, long jitterMillis, double slowRatio, long slowMillis) {
+            this.baseMillis = baseMillis;
+            this.jitterMillis = jitterMillis;
+            this.slowRatio = slowRatio;
+            this.slowMillis = slowMillis;
+        }
+        
+        long sample() {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            long millis = baseMillis + (jitterMillis > 0 ? random.nextLong(jitterMillis) : 0);
+            if (slowRatio > 0 && random.nextDouble() < slowRatio) {
+                millis += slowMillis;
+            }
+            return millis;
+        }
+        
+        @Override
+        public String toString() {
+            return baseMillis + "ms+" + jitterMillis + "ms (" + slowRatio * 100 + "% +" + slowMillis + "ms)";
+        }
+    }
+}
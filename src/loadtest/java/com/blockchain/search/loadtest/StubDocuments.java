@@ -0,0 +1,156 @@
+package com.blockchain.search.loadtest;
+
+import com.blockchain.search.model.Address;
+import com.blockchain.search.model.Token;
+import com.blockchain.search.model.Transaction;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * ES 대역이 돌려줄 합성 문서 - 인덱스별로 미리 _source JSON 과 정렬값을 만들어 두고 요청마다 돌려가며 사용
+ * 실제 색인 문서와 같은 필드 구성이라 API 서버의 _source 디코딩/응답 변환 비용이 그대로 측정된다
+ */
+final class StubDocuments {
+    
+    static final String[] NETWORKS = {"ethereum", "ethereum", "ethereum", "bsc", "polygon"};
+    static final String[] SYMBOLS = {"ETH", "USDT", "USDC", "WBTC", "DAI", "LINK", "UNI", "MATIC", "SHIB", "AAVE"};
+    
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+    
+    private final Document[] transactions;
+    private final Document[] addresses;
+    private final Document[] tokens;
+    
+    StubDocuments(int count, long seed) {
+        ObjectMapper objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false)
+                .setSerializationInclusion(JsonInclude.Include.NON_NULL);
+        Random random = new Random(seed);
+        this.transactions = transactions(objectMapper, random, count);
+        this.addresses = addresses(objectMapper, random, count);
+        this.tokens = tokens(objectMapper, random, count);
+    }
+    
+    /**
+     * 인덱스(파티션 포함) 이름에 해당하는 문서 풀
+     */
+    Document[] forIndex(String index) {
+        if (index.startsWith("addresses")) {
+            return addresses;
+        }
+        if (index.startsWith("tokens")) {
+            return tokens;
+        }
+        return transactions;
+    }
+    
+    static String randomHex(Random random, int length) {
+        char[] chars = new char[length + 2];
+        chars[0] = '0';
+        chars[1] = 'x';
+        for (int i = 0; i < length; i++) {
+            chars[i + 2] = HEX[random.nextInt(16)];
+        }
+        return new String(chars);
+    }
+    
+    private static Document[] transactions(ObjectMapper objectMapper, Random random, int count) {
+        Document[] documents = new Document[count];
+        LocalDateTime timestamp = LocalDateTime.of(2023, 6, 30, 12, 0);
+        for (int i = 0; i < count; i++) {
+            Transaction transaction = new Transaction(randomHex(random, 64), NETWORKS[random.nextInt(NETWORKS.length)],
+                    randomHex(random, 40), randomHex(random, 40));
+            transaction.setId(transaction.getTxHash());
+            transaction.setBlockNumber(17_600_000L - i);
+            transaction.setTimestamp(timestamp.minusSeconds(12L * i));
+            transaction.setValue(random.nextInt(1_000_000) + "000000000000");
+            transaction.setTokenSymbol(SYMBOLS[random.nextInt(SYMBOLS.length)]);
+            transaction.setTokenAddress(randomHex(random, 40));
+            transaction.setGasUsed(21_000L + random.nextInt(200_000));
+            transaction.setGasPrice("20000000000");
+            transaction.setStatus("success");
+            transaction.setInputData(randomHex(random, 8 + random.nextInt(256)));
+            documents[i] = new Document(transaction.getId(), write(objectMapper, transaction),
+                    transaction.getTimestamp().toInstant(ZoneOffset.UTC).toEpochMilli(), transaction.getTxHash());
+        }
+        return documents;
+    }
+    
+    private static Document[] addresses(ObjectMapper objectMapper, Random random, int count) {
+        Document[] documents = new Document[count];
+        for (int i = 0; i < count; i++) {
+            Address address = new Address(randomHex(random, 40), NETWORKS[random.nextInt(NETWORKS.length)]);
+            address.setId(address.getAddress());
+            address.setBalance(random.nextInt(1_000_000) + "000000000000");
+            address.setTxCount((long) random.nextInt(100_000));
+            address.setLastUpdated(LocalDateTime.of(2023, 6, 30, 12, 0));
+            address.setType(random.nextBoolean() ? "EOA" : "Contract");
+            address.setName("address-" + i + ".eth");
+            address.setVerified(random.nextBoolean());
+            List<Address.TokenBalance> tokenBalances = new ArrayList<>(Arrays.asList(
+                    new Address.TokenBalance(randomHex(random, 40), "USDT", "1500000000"),
+                    new Address.TokenBalance(randomHex(random, 40), "LINK", "42000000000000000000")));
+            address.setTokenBalances(tokenBalances);
+            documents[i] = new Document(address.getId(), write(objectMapper, address),
+                    address.getTxCount(), address.getAddress());
+        }
+        return documents;
+    }
+    
+    private static Document[] tokens(ObjectMapper objectMapper, Random random, int count) {
+        Document[] documents = new Document[count];
+        for (int i = 0; i < count; i++) {
+            String symbol = SYMBOLS[i % SYMBOLS.length];
+            Token token = new Token(randomHex(random, 40), NETWORKS[random.nextInt(NETWORKS.length)],
+                    symbol, symbol + " Token " + i);
+            token.setId(token.getTokenAddress());
+            token.setDecimals(18);
+            token.setTotalSupply("1000000000000000000000000000");
+            token.setHolders((long) random.nextInt(5_000_000));
+            token.setMarketCap(random.nextDouble() * 1e10);
+            token.setPrice(random.nextDouble() * 100);
+            token.setContractType("ERC20");
+            token.setVerified(true);
+            documents[i] = new Document(token.getId(), write(objectMapper, token),
+                    token.getHolders(), token.getTokenAddress());
+        }
+        return documents;
+    }
+    
+    private static String write(ObjectMapper objectMapper, Object document) {
+        try {
+            return objectMapper.writeValueAsString(document);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("합성 문서 직렬화 실패", e);
+        }
+    }
+    
+    /**
+     * 미리 직렬화한 히트 하나 - 정렬값은 SearchServiceImpl 의 인덱스별 정렬(주 정렬 필드 + tiebreaker)과 같은 구성
+     */
+    static final class Document {
+        
+        final String id;
+        final String source;
+        final long primarySort;
+        final String tiebreaker;
+        
+        Document(String id, String source, long primarySort, String tiebreaker) {
+            this.id = id;
+            this.source = source;
+            this.primarySort = primarySort;
+            this.tiebreaker = tiebreaker;
+        }
+    }
+}
@@ -0,0 +1,434 @@
+package com.blockchain.search.cache;
+
+import com.blockchain.search.config.BlockchainProperties;
+import com.blockchain.search.metrics.SearchMetrics;
+import com.blockchain.search.service.impl.TransactionPartitions;
+import com.blockchain.search.util.BloomFilter;
+import com.blockchain.search.util.QueryClassifier;
+import org.elasticsearch.action.ActionListener;
+import org.elasticsearch.action.search.ClearScrollRequest;
+import org.elasticsearch.action.search.SearchScrollRequest;
+import org.elasticsearch.client.RequestOptions;
+import org.elasticsearch.client.RestHighLevelClient;
+import org.elasticsearch.common.document.DocumentField;
+import org.elasticsearch.common.unit.ByteSizeValue;
+import org.elasticsearch.core.TimeValue;
+import org.elasticsearch.index.query.QueryBuilders;
+import org.elasticsearch.search.SearchHit;
+import org.elasticsearch.search.aggregations.AggregationBuilders;
+import org.elasticsearch.search.aggregations.bucket.terms.Terms;
+import org.elasticsearch.search.builder.SearchSourceBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 색인된 적 없는 트랜잭션 해시 조회를 ES 호출 전에 걸러내는 네거티브 캐시
+ * - transactions.txHash 값을 네트워크별 Bloom 필터에 담아 mightExist 가 false 면 확실히 없는 값
+ * - 재구축: rebuild-interval 마다 doc value scroll 로 전체 값을 새 필터에 담아 교체 (크기는 네트워크별 문서 수 * growth)
+ * - 증분: BulkIndexer 가 문서를 보낼 때 record - 재구축 중이면 새 필터에도 기록
+ * 필터는 노드마다 따로 있고 증분 기록은 이 노드의 적재만 반영하므로, "없음" 은 이 노드가 블록을 수집하는 네트워크
+ * (ingest.blocks.enabled=true, ingest.blocks.networks)에서만 답하고 나머지 네트워크는 모두 ES 로 전달
+ * - 네트워크를 지정하지 않은 조회는 지금까지 본 네트워크가 모두 이 노드의 수집 대상일 때만 필터 사용
+ * - 수집 대상 네트워크의 트랜잭션을 /ingest 로 적재할 때는 이 노드로 보내야 함 (다른 노드에서 적재하면 다음 재구축까지 놓침)
+ * - 주소 문서는 블록 수집이 만들지 않고 어느 노드의 /ingest 로든 들어올 수 있어 대상에서 제외
+ * 첫 구축이 끝나기 전과 재구축 직후 fresh-window 동안은 모든 값을 있을 수 있는 값으로 판단해 ES 로 전달
+ */
+@Component
+public class NegativeLookupCache {
+    
+    private static final Logger log = LoggerFactory.getLogger(NegativeLookupCache.class);
+    
+    // 인덱스별 필터 대상 필드 - 블록 수집이 색인하는 인덱스만
+    private static final Map<String, String> FIELDS = new LinkedHashMap<>();
+    static {
+        FIELDS.put(TransactionPartitions.ALIAS, "txHash");
+    }
+    
+    private static final String NO_NETWORK = "";
+    private static final TimeValue SCROLL_KEEP_ALIVE = TimeValue.timeValueMinutes(1);
+    
+    @Autowired
+    @Qualifier("customElasticsearchClient")
+    private RestHighLevelClient elasticsearchClient;
+    
+    @Autowired
+    private SearchMetrics searchMetrics;
+    
+    @Autowired
+    private BlockchainProperties blockchainProperties;
+    
+    @Value("${search.negative-cache.enabled:false}")
+    private boolean enabled;
+    
+    @Value("${search.negative-cache.fpp:0.01}")
+    private double fpp;
+    
+    @Value("${search.negative-cache.growth:2.0}")
+    private double growth;
+    
+    @Value("${search.negative-cache.min-expected-insertions:100000}")
+    private long minExpectedInsertions;
+    
+    @Value("${search.negative-cache.max-memory:256mb}")
+    private String maxMemory;
+    
+    @Value("${search.negative-cache.off-heap:false}")
+    private boolean offHeap;
+    
+    @Value("${search.negative-cache.scroll-size:10000}")
+    private int scrollSize;
+    
+    @Value("${search.negative-cache.settle-delay:15000}")
+    private long settleDelay;
+    
+    @Value("${search.negative-cache.fresh-window:60000}")
+    private long freshWindow;
+    
+    @Value("${ingest.blocks.enabled:false}")
+    private boolean ingestEnabled;
+    
+    @Value("${ingest.blocks.networks:}")
+    private Set<String> ingestNetworks;
+    
+    private long maxMemoryBytes;
+    // 이 노드가 블록을 수집하는 네트워크 - 필터의 "없음" 을 믿을 수 있는 범위
+    private Set<String> ownedNetworks = Collections.emptySet();
+    private ExecutorService rebuildExecutor;
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+    
+    private volatile Generation current;
+    private volatile Generation building;
+    private volatile long builtAt;
+    
+    @PostConstruct
+    void init() {
+        if (enabled) {
+            ownedNetworks = ownedNetworks();
+            if (ownedNetworks.isEmpty()) {
+                log.warn("블록을 수집하는 네트워크가 없어 네거티브 캐시는 모든 조회를 ES 로 전달합니다");
+            } else {
+                log.info("네거티브 캐시 적용 네트워크: {}", ownedNetworks);
+            }
+        }
+        maxMemoryBytes = ByteSizeValue.parseBytesSizeValue(maxMemory, "search.negative-cache.max-memory").getBytes();
+        // 재구축은 전체 인덱스 scroll 이라 오래 걸리므로 공용 스케줄러 스레드를 점유하지 않도록 별도 스레드에서 실행
+        rebuildExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "negative-cache-rebuild");
+            thread.setDaemon(true);
+            return thread;
+        });
+        FIELDS.keySet().forEach(index -> searchMetrics.registerNegativeCache(index, this));
+    }
+    
+    /**
+     * BlockIngestionService 가 수집을 시작하는 네트워크와 같은 기준 (ingest.blocks.networks, RPC URL 설정)
+     */
+    private Set<String> ownedNetworks() {
+        if (!ingestEnabled) {
+            return Collections.emptySet();
+        }
+        Set<String> owned = new HashSet<>();
+        blockchainProperties.byNetworkKey().forEach((network, config) -> {
+            if ((ingestNetworks.isEmpty() || ingestNetworks.contains(network)) && StringUtils.hasText(config.getRpcUrl())) {
+                owned.add(network);
+            }
+        });
+        return Collections.unmodifiableSet(owned);
+    }
+    
+    @PreDestroy
+    void shutdown() {
+        rebuildExecutor.shutdownNow();
+    }
+    
+    /**
+     * 값이 색인되어 있을 수 있으면 true - false 면 ES 를 호출하지 않아도 결과가 없음
+     * 이 노드가 수집하지 않는 네트워크는 항상 true, 네트워크를 지정하지 않으면 모든 네트워크 필터 중 하나라도 포함하면 true
+     * 재구축 직후 fresh-window 동안은 필터에 없어도 true (교체 직후 필터에 빠졌을 수 있는 값도 ES 로 확인)
+     */
+    public boolean mightExist(String index, String network, String value) {
+        Generation generation = current;
+        if (!enabled || generation == null || !FIELDS.containsKey(index)) {
+            return true;
+        }
+        boolean exists = System.currentTimeMillis() - builtAt < freshWindow
+                || generation.mightContain(index, network, QueryClassifier.normalize(value));
+        searchMetrics.countNegativeCache(index, exists);
+        return exists;
+    }
+    
+    /**
+     * 색인 요청을 보낸 문서의 해시/주소 기록 - 재구축 중이면 새 필터에 먼저 기록
+     * (교체는 current 를 바꾼 뒤 building 을 비우므로 이 순서면 어느 쪽이든 교체 후 필터에 남음)
+     */
+    public void record(String index, String network, String value) {
+        if (!enabled || value == null || !FIELDS.containsKey(index)) {
+            return;
+        }
+        String normalized = QueryClassifier.normalize(value);
+        Generation next = building;
+        if (next != null) {
+            next.put(index, network, normalized);
+        }
+        Generation generation = current;
+        if (generation != null) {
+            generation.put(index, network, normalized);
+        }
+    }
+    
+    public long memoryBytes(String index) {
+        Generation generation = current;
+        return generation != null ? generation.memoryBytes(index) : 0;
+    }
+    
+    /**
+     * 네트워크별 필터 중 가장 큰 예상 거짓 양성 비율
+     */
+    public double expectedFpp(String index) {
+        Generation generation = current;
+        return generation != null ? generation.expectedFpp(index) : 0;
+    }
+    
+    public long insertions(String index) {
+        Generation generation = current;
+        return generation != null ? generation.insertions(index) : 0;
+    }
+    
+    @Scheduled(initialDelayString = "${search.negative-cache.initial-delay:30000}",
+            fixedDelayString = "${search.negative-cache.rebuild-interval:3600000}")
+    public void scheduleRebuild() {
+        if (!enabled || ownedNetworks.isEmpty() || !rebuilding.compareAndSet(false, true)) {
+            return;
+        }
+        rebuildExecutor.execute(() -> {
+            try {
+                rebuild();
+            } finally {
+                rebuilding.set(false);
+            }
+        });
+    }
+    
+    /**
+     * 네트워크별 문서 수로 필터 크기를 정해 전체 값을 다시 담고 교체
+     * 새 필터를 building 에 걸어 증분 기록을 받은 뒤 settle-delay 만큼 기다렸다가 scroll - 그 전에 보낸 벌크 요청이
+     * ES 에 반영되어 scroll 결과에 포함되도록 함
+     */
+    private void rebuild() {
+        long startTime = System.currentTimeMillis();
+        try {
+            Map<String, Map<String, Long>> counts = new LinkedHashMap<>();
+            for (String index : FIELDS.keySet()) {
+                counts.put(index, countByNetwork(index));
+            }
+            Generation next = allocate(counts);
+            building = next;
+            
+            Thread.sleep(settleDelay);
+            long loaded = 0;
+            for (Map.Entry<String, String> entry : FIELDS.entrySet()) {
+                loaded += load(next, entry.getKey(), entry.getValue());
+            }
+            
+            builtAt = System.currentTimeMillis();
+            current = next;
+            log.info("네거티브 캐시 재구축 완료: {}건, {}바이트, {}ms", loaded,
+                    FIELDS.keySet().stream().mapToLong(next::memoryBytes).sum(), System.currentTimeMillis() - startTime);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.warn("네거티브 캐시 재구축 실패: {}", e.getMessage());
+        } finally {
+            building = null;
+        }
+    }
+    
+    private Map<String, Long> countByNetwork(String index) throws IOException {
+        SearchSourceBuilder sourceBuilder = new SearchSourceBuilder()
+                .size(0)
+                .trackTotalHits(false)
+                .aggregation(AggregationBuilders.terms("networks").field("network").missing(NO_NETWORK).size(10_000));
+        org.elasticsearch.action.search.SearchResponse response = elasticsearchClient.search(
+                new org.elasticsearch.action.search.SearchRequest(index)
+                        .indicesOptions(TransactionPartitions.INDICES_OPTIONS)
+                        .source(sourceBuilder),
+                RequestOptions.DEFAULT);
+        
+        Map<String, Long> counts = new HashMap<>();
+        Terms terms = response.getAggregations().get("networks");
+        for (Terms.Bucket bucket : terms.getBuckets()) {
+            counts.put(bucket.getKeyAsString(), bucket.getDocCount());
+        }
+        return counts;
+    }
+    
+    /**
+     * 필터 크기 = max(문서 수 * growth, min-expected-insertions) 에 fpp 를 맞춘 크기
+     * 합이 max-memory 를 넘으면 모든 필터를 같은 비율로 줄임 (fpp 증가 - search.negative_cache.fpp 지표로 확인)
+     */
+    private Generation allocate(Map<String, Map<String, Long>> counts) {
+        long requiredBytes = 0;
+        for (Map<String, Long> networks : counts.values()) {
+            for (Map.Entry<String, Long> entry : networks.entrySet()) {
+                if (ownedNetworks.contains(entry.getKey())) {
+                    requiredBytes += BloomFilter.requiredBytes(expectedInsertions(entry.getValue()), fpp);
+                }
+            }
+        }
+        double scale = requiredBytes > maxMemoryBytes ? (double) maxMemoryBytes / requiredBytes : 1;
+        if (scale < 1) {
+            log.warn("네거티브 캐시 필요 메모리({}바이트)가 max-memory 를 넘어 줄여서 생성 - 거짓 양성 비율 증가", requiredBytes);
+        }
+        
+        Generation generation = new Generation();
+        counts.forEach((index, networks) -> networks.forEach((network, count) -> {
+            generation.seenNetworks.get(index).add(network);
+            if (!ownedNetworks.contains(network)) {
+                return;
+            }
+            long expected = expectedInsertions(count);
+            long maxBytes = (long) (BloomFilter.requiredBytes(expected, fpp) * scale);
+            generation.filters.get(index).put(network, BloomFilter.create(expected, fpp, maxBytes, offHeap));
+        }));
+        return generation;
+    }
+    
+    private long expectedInsertions(long count) {
+        return Math.max((long) (count * growth), minExpectedInsertions);
+    }
+    
+    /**
+     * 이 노드가 수집하는 네트워크 문서의 필드 값과 네트워크를 doc value 로 scroll (_source 를 읽지 않음)
+     */
+    private long load(Generation generation, String index, String field) throws IOException {
+        SearchSourceBuilder sourceBuilder = new SearchSourceBuilder()
+                .query(QueryBuilders.termsQuery("network", ownedNetworks))
+                .size(scrollSize)
+                .fetchSource(false)
+                .docValueField(field)
+                .docValueField("network")
+                .sort("_doc")
+                .trackTotalHits(false);
+        org.elasticsearch.action.search.SearchResponse response = elasticsearchClient.search(
+                new org.elasticsearch.action.search.SearchRequest(index)
+                        .indicesOptions(TransactionPartitions.INDICES_OPTIONS)
+                        .source(sourceBuilder)
+                        .scroll(SCROLL_KEEP_ALIVE),
+                RequestOptions.DEFAULT);
+        
+        String scrollId = response.getScrollId();
+        long loaded = 0;
+        try {
+            while (response.getHits().getHits().length > 0) {
+                for (SearchHit hit : response.getHits().getHits()) {
+                    DocumentField value = hit.field(field);
+                    if (value == null || value.getValue() == null) {
+                        continue;
+                    }
+                    DocumentField network = hit.field("network");
+                    generation.put(index, network != null ? network.getValue() : null,
+                            QueryClassifier.normalize(value.getValue()));
+                    loaded++;
+                }
+                response = elasticsearchClient.scroll(
+                        new SearchScrollRequest(scrollId).scroll(SCROLL_KEEP_ALIVE), RequestOptions.DEFAULT);
+                scrollId = response.getScrollId();
+            }
+        } finally {
+            if (scrollId != null) {
+                ClearScrollRequest clearScrollRequest = new ClearScrollRequest();
+                clearScrollRequest.addScrollId(scrollId);
+                elasticsearchClient.clearScrollAsync(clearScrollRequest, RequestOptions.DEFAULT,
+                        ActionListener.wrap(ignored -> {}, e -> {}));
+            }
+        }
+        return loaded;
+    }
+    
+    /**
+     * 한 번의 구축 결과 - 인덱스 -> 네트워크 -> 필터 (이 노드가 수집하는 네트워크만)
+     * 구축 뒤 처음 보는 네트워크는 min-expected-insertions 크기로 추가
+     */
+    private class Generation {
+        
+        private final Map<String, ConcurrentMap<String, BloomFilter>> filters = new HashMap<>();
+        // 인덱스별로 문서가 있는 네트워크 (수집 대상 외 포함) - 네트워크 미지정 조회에서 필터를 믿을 수 있는지 판단
+        private final Map<String, Set<String>> seenNetworks = new HashMap<>();
+        
+        Generation() {
+            FIELDS.keySet().forEach(index -> {
+                filters.put(index, new ConcurrentHashMap<>());
+                seenNetworks.put(index, ConcurrentHashMap.newKeySet());
+            });
+        }
+        
+        void put(String index, String network, String value) {
+            String key = networkKey(network);
+            seenNetworks.get(index).add(key);
+            if (!ownedNetworks.contains(key)) {
+                return;
+            }
+            filters.get(index)
+                    .computeIfAbsent(key, ignored -> BloomFilter.create(minExpectedInsertions, fpp,
+                            BloomFilter.requiredBytes(minExpectedInsertions, fpp), offHeap))
+                    .put(value);
+        }
+        
+        boolean mightContain(String index, String network, String value) {
+            ConcurrentMap<String, BloomFilter> networks = filters.get(index);
+            if (StringUtils.hasText(network)) {
+                if (!ownedNetworks.contains(network)) {
+                    return true;
+                }
+                BloomFilter filter = networks.get(network);
+                return filter != null && filter.mightContain(value);
+            }
+            if (!ownedNetworks.containsAll(seenNetworks.get(index))) {
+                return true;
+            }
+            for (BloomFilter filter : networks.values()) {
+                if (filter.mightContain(value)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        
+        long memoryBytes(String index) {
+            return filters.get(index).values().stream().mapToLong(BloomFilter::memoryBytes).sum();
+        }
+        
+        double expectedFpp(String index) {
+            return filters.get(index).values().stream().mapToDouble(BloomFilter::expectedFpp).max().orElse(0);
+        }
+        
+        long insertions(String index) {
+            return filters.get(index).values().stream().mapToLong(BloomFilter::insertions).sum();
+        }
+        
+        private String networkKey(String network) {
+            return network != null ? network : NO_NETWORK;
+        }
+    }
+}
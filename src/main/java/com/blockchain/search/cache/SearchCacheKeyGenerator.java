@@ -0,0 +1,65 @@
+package com.blockchain.search.cache;
+
+import com.blockchain.search.dto.SearchRequest;
+import org.springframework.cache.interceptor.KeyGenerator;
+
+import java.lang.reflect.Method;
+import java.util.Locale;
+import java.util.StringJoiner;
+
+/**
+ * 검색 캐시 키 생성 - query/network/type/page/size/projection/범위를 정규화해 같은 검색이 같은 키를 갖도록 함
+ * 예: "0xABC", " 0xabc " → "0xabc"
+ */
+public class SearchCacheKeyGenerator implements KeyGenerator {
+    
+    @Override
+    public Object generate(Object target, Method method, Object... params) {
+        if (params.length == 1 && params[0] instanceof SearchRequest) {
+            return searchKey((SearchRequest) params[0]);
+        }
+        
+        // searchTransactions(query, network, page, size), autocomplete(query, network, type, maxResults) 등
+        return key(params);
+    }
+    
+    public static String searchKey(SearchRequest request) {
+        return key(request.getQuery(), request.getNetwork(), request.getType(),
+                request.getPage(), request.getSize(), request.getProjection(),
+                request.getFromTime(), request.getToTime(), request.getFromBlock(), request.getToBlock());
+    }
+    
+    /**
+     * 동시 요청 합치기(single-flight) 키 - 검색 캐시 키 + 커서 (커서는 base64 라 정규화하지 않음)
+     */
+    public static String flightKey(SearchRequest request) {
+        String searchKey = searchKey(request);
+        return request.getCursor() != null ? searchKey + ":" + request.getCursor() : searchKey;
+    }
+    
+    /**
+     * 인덱스별 총 개수 캐시 키 - 페이지/크기/커서와 무관하게 같은 검색 조건이면 같은 키
+     */
+    public static String countKey(SearchRequest request, String index) {
+        return key("count", index, request.getQuery(), request.getNetwork(),
+                request.getFromTime(), request.getToTime(), request.getFromBlock(), request.getToBlock());
+    }
+    
+    public static String key(Object... parts) {
+        StringJoiner joiner = new StringJoiner(":");
+        for (Object part : parts) {
+            if (part == null) {
+                joiner.add("");
+            } else if (part instanceof String) {
+                joiner.add(normalize((String) part));
+            } else {
+                joiner.add(String.valueOf(part));
+            }
+        }
+        return joiner.toString();
+    }
+    
+    private static String normalize(String value) {
+        return value.trim().toLowerCase(Locale.ROOT);
+    }
+}
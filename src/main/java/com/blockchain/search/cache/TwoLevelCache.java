@@ -0,0 +1,157 @@
+package com.blockchain.search.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+
+import java.util.concurrent.Callable;
+
+/**
+ * 2단계 캐시 - L1(프로세스 내 Caffeine) 조회 후 L2(Redis, 전체 API 노드 공유) 조회
+ * Redis 장애 시에는 L1만으로 동작한다
+ */
+public class TwoLevelCache implements Cache {
+    
+    private static final Logger log = LoggerFactory.getLogger(TwoLevelCache.class);
+    
+    private final String name;
+    private final Cache localCache;
+    private final Cache redisCache; // null이면 L2 비활성화
+    
+    private final Counter redisHits;
+    private final Counter redisMisses;
+    private final Counter redisErrors;
+    
+    public TwoLevelCache(String name, Cache localCache, Cache redisCache, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.localCache = localCache;
+        this.redisCache = redisCache;
+        this.redisHits = Counter.builder("cache.gets")
+                .tags("cache", name, "tier", "l2", "result", "hit")
+                .register(meterRegistry);
+        this.redisMisses = Counter.builder("cache.gets")
+                .tags("cache", name, "tier", "l2", "result", "miss")
+                .register(meterRegistry);
+        this.redisErrors = Counter.builder("cache.errors")
+                .tags("cache", name, "tier", "l2")
+                .register(meterRegistry);
+    }
+    
+    @Override
+    public String getName() {
+        return name;
+    }
+    
+    @Override
+    public Object getNativeCache() {
+        return this;
+    }
+    
+    @Override
+    public ValueWrapper get(Object key) {
+        ValueWrapper value = localCache.get(key);
+        if (value != null) {
+            return value;
+        }
+        
+        value = getFromRedis(key);
+        if (value != null) {
+            // L2 적중 결과를 L1에 채워 다음 요청은 프로세스 내에서 처리
+            localCache.put(key, value.get());
+        }
+        return value;
+    }
+    
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper value = get(key);
+        if (value == null) {
+            return null;
+        }
+        Object stored = value.get();
+        if (stored != null && type != null && !type.isInstance(stored)) {
+            throw new IllegalStateException("캐시 값 타입 불일치: " + type.getName());
+        }
+        return (T) stored;
+    }
+    
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper value = get(key);
+        if (value != null) {
+            return (T) value.get();
+        }
+        
+        T loaded;
+        try {
+            loaded = valueLoader.call();
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+        put(key, loaded);
+        return loaded;
+    }
+    
+    @Override
+    public void put(Object key, Object value) {
+        localCache.put(key, value);
+        if (redisCache != null) {
+            try {
+                redisCache.put(key, value);
+            } catch (RuntimeException e) {
+                onRedisError("put", e);
+            }
+        }
+    }
+    
+    @Override
+    public void evict(Object key) {
+        localCache.evict(key);
+        if (redisCache != null) {
+            try {
+                redisCache.evict(key);
+            } catch (RuntimeException e) {
+                onRedisError("evict", e);
+            }
+        }
+    }
+    
+    @Override
+    public void clear() {
+        localCache.clear();
+        if (redisCache != null) {
+            try {
+                redisCache.clear();
+            } catch (RuntimeException e) {
+                onRedisError("clear", e);
+            }
+        }
+    }
+    
+    private ValueWrapper getFromRedis(Object key) {
+        if (redisCache == null) {
+            return null;
+        }
+        try {
+            ValueWrapper value = redisCache.get(key);
+            if (value != null) {
+                redisHits.increment();
+            } else {
+                redisMisses.increment();
+            }
+            return value;
+        } catch (RuntimeException e) {
+            onRedisError("get", e);
+            return null;
+        }
+    }
+    
+    private void onRedisError(String operation, RuntimeException e) {
+        redisErrors.increment();
+        log.debug("Redis 캐시 {} 실패 ({}): {}", operation, name, e.getMessage());
+    }
+}
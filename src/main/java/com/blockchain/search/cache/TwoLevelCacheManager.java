@@ -0,0 +1,52 @@
+package com.blockchain.search.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * L1(Caffeine) / L2(Redis) 캐시 매니저를 묶어 캐시 이름별 TwoLevelCache 생성
+ */
+public class TwoLevelCacheManager implements CacheManager {
+    
+    private final CaffeineCacheManager localCacheManager;
+    private final CacheManager redisCacheManager; // null이면 L2 비활성화
+    private final MeterRegistry meterRegistry;
+    
+    private final ConcurrentMap<String, Cache> caches = new ConcurrentHashMap<>();
+    
+    public TwoLevelCacheManager(CaffeineCacheManager localCacheManager, CacheManager redisCacheManager,
+                                MeterRegistry meterRegistry) {
+        this.localCacheManager = localCacheManager;
+        this.redisCacheManager = redisCacheManager;
+        this.meterRegistry = meterRegistry;
+    }
+    
+    @Override
+    public Cache getCache(String name) {
+        return caches.computeIfAbsent(name, this::createCache);
+    }
+    
+    @Override
+    public Collection<String> getCacheNames() {
+        return Collections.unmodifiableSet(caches.keySet());
+    }
+    
+    private Cache createCache(String name) {
+        Cache localCache = localCacheManager.getCache(name);
+        
+        // L1 적중/미스/eviction 지표 (cache.gets, cache.evictions 등, tier=l1)
+        CaffeineCacheMetrics.monitor(meterRegistry,
+                (com.github.benmanes.caffeine.cache.Cache<?, ?>) localCache.getNativeCache(), name, "tier", "l1");
+        
+        Cache redisCache = redisCacheManager != null ? redisCacheManager.getCache(name) : null;
+        return new TwoLevelCache(name, localCache, redisCache, meterRegistry);
+    }
+}
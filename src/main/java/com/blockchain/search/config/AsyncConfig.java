@@ -0,0 +1,38 @@
+package com.blockchain.search.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+public class AsyncConfig {
+    
+    @Value("${search.async.executor.core-size:8}")
+    private int coreSize;
+    
+    @Value("${search.async.executor.max-size:32}")
+    private int maxSize;
+    
+    @Value("${search.async.executor.queue-capacity:1000}")
+    private int queueCapacity;
+    
+    /**
+     * ES 응답 매핑(역직렬화, DTO 변환) 전용 스레드 풀 - ES IO 리액터 스레드에서 CPU 작업을 하지 않도록 분리
+     */
+    @Bean
+    public ThreadPoolTaskExecutor searchExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(coreSize);
+        executor.setMaxPoolSize(maxSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("search-");
+        // 큐가 가득 차면 거절 - 제출 스레드가 ES IO 리액터나 SearchDeadline 타이머 스레드라 호출 스레드에서 실행하면
+        // 그 스레드가 막혀 다른 요청의 응답 처리까지 밀림. 거절된 요청은 TaskRejectedException 으로 실패해 503 응답
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.initialize();
+        return executor;
+    }
+}
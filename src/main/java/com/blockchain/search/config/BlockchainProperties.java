@@ -0,0 +1,46 @@
+package com.blockchain.search.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * application.yml 의 blockchain.networks.{체인}.{네트워크} RPC 설정
+ */
+@Component
+@ConfigurationProperties(prefix = "blockchain")
+public class BlockchainProperties {
+    
+    private Map<String, Map<String, Network>> networks = new LinkedHashMap<>();
+    
+    public Map<String, Map<String, Network>> getNetworks() { return networks; }
+    public void setNetworks(Map<String, Map<String, Network>> networks) { this.networks = networks; }
+    
+    /**
+     * 문서의 network 값 기준으로 펼친 목록 - mainnet은 체인 이름(ethereum), 그 외는 체인-네트워크(ethereum-goerli)
+     */
+    public Map<String, Network> byNetworkKey() {
+        Map<String, Network> result = new LinkedHashMap<>();
+        networks.forEach((chain, chainNetworks) -> chainNetworks.forEach((name, network) ->
+                result.put("mainnet".equals(name) ? chain : chain + "-" + name, network)));
+        return result;
+    }
+    
+    public static class Network {
+        
+        private String rpcUrl;
+        private Long chainId;
+        private String name;
+        
+        public String getRpcUrl() { return rpcUrl; }
+        public void setRpcUrl(String rpcUrl) { this.rpcUrl = rpcUrl; }
+        
+        public Long getChainId() { return chainId; }
+        public void setChainId(Long chainId) { this.chainId = chainId; }
+        
+        public String getName() { return name; }
+        public void setName(String name) { this.name = name; }
+    }
+}
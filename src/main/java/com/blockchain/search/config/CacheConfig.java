@@ -0,0 +1,119 @@
+package com.blockchain.search.config;
+
+import com.blockchain.search.cache.SearchCacheKeyGenerator;
+import com.blockchain.search.cache.TwoLevelCacheManager;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.jsontype.BasicPolymorphicTypeValidator;
+import com.fasterxml.jackson.databind.jsontype.PolymorphicTypeValidator;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.interceptor.KeyGenerator;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
+
+import java.time.Duration;
+import java.util.regex.Pattern;
+
+@Configuration
+public class CacheConfig {
+    
+    @Value("${search.cache.ttl:300}")
+    private long ttlSeconds;
+    
+    @Value("${search.cache.max-size:1000}")
+    private long maxSize;
+    
+    @Value("${search.cache.redis.enabled:true}")
+    private boolean redisEnabled;
+    
+    @Value("${search.total-hits.cache-ttl:30}")
+    private long countTtlSeconds;
+    
+    @Value("${search.resilience.fallback.stale-ttl:3600}")
+    private long staleTtlSeconds;
+    
+    /**
+     * 검색 결과 캐시 - L1: Caffeine(W-TinyLFU, max-size), L2: Redis(ttl, 노드 간 공유)
+     * search-counts(검색 조건별 총 개수)는 색인 반영을 빨리 따라가도록 짧은 TTL 사용
+     * search-stale(ES 장애 시 대체 응답용 이전 검색 결과)은 search 보다 긴 TTL 사용
+     */
+    @Bean
+    @Primary
+    public CacheManager cacheManager(RedisConnectionFactory redisConnectionFactory,
+                                     ObjectMapper objectMapper,
+                                     MeterRegistry meterRegistry) {
+        Duration ttl = Duration.ofSeconds(ttlSeconds);
+        
+        CaffeineCacheManager localCacheManager = new CaffeineCacheManager();
+        localCacheManager.setCaffeine(Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats());
+        localCacheManager.registerCustomCache("search-counts", Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(countTtlSeconds))
+                .recordStats()
+                .build());
+        localCacheManager.registerCustomCache("search-stale", Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(staleTtlSeconds))
+                .recordStats()
+                .build());
+        
+        RedisCacheManager redisCacheManager = null;
+        if (redisEnabled) {
+            // 캐시 값(SearchResponse, List<Transaction> 등)을 타입 정보와 함께 JSON으로 저장
+            ObjectMapper redisObjectMapper = objectMapper.copy();
+            redisObjectMapper.activateDefaultTyping(cacheTypeValidator(),
+                    ObjectMapper.DefaultTyping.NON_FINAL, JsonTypeInfo.As.PROPERTY);
+            
+            RedisCacheConfiguration redisCacheConfiguration = RedisCacheConfiguration.defaultCacheConfig()
+                    .entryTtl(ttl)
+                    .prefixCacheNameWith("search-api:")
+                    .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(
+                            new GenericJackson2JsonRedisSerializer(redisObjectMapper)));
+            
+            redisCacheManager = RedisCacheManager.builder(redisConnectionFactory)
+                    .cacheDefaults(redisCacheConfiguration)
+                    .withCacheConfiguration("search-counts",
+                            redisCacheConfiguration.entryTtl(Duration.ofSeconds(countTtlSeconds)))
+                    .withCacheConfiguration("search-stale",
+                            redisCacheConfiguration.entryTtl(Duration.ofSeconds(staleTtlSeconds)))
+                    .build();
+            redisCacheManager.afterPropertiesSet();
+        }
+        
+        return new TwoLevelCacheManager(localCacheManager, redisCacheManager, meterRegistry);
+    }
+    
+    /**
+     * Redis 캐시 값의 @class 로 만들 수 있는 타입 - 이 서비스 모델/DTO 와 캐시 값에 실제로 들어가는 컬렉션, 값 타입만 허용
+     * (Redis 에 쓸 수 있는 쪽이 임의 클래스 이름을 넣어 역직렬화 가젯을 실행하지 못하도록)
+     */
+    private static PolymorphicTypeValidator cacheTypeValidator() {
+        return BasicPolymorphicTypeValidator.builder()
+                .allowIfSubType("com.blockchain.search.")
+                .allowIfSubType(Pattern.compile("java\\.util\\.(ArrayList|LinkedList|HashSet|LinkedHashSet|TreeSet)"))
+                .allowIfSubType(Pattern.compile("java\\.util\\.(HashMap|LinkedHashMap|TreeMap)"))
+                .allowIfSubType(Pattern.compile("java\\.util\\.(Collections|Arrays|ImmutableCollections)\\$\\w+"))
+                .allowIfSubType(Pattern.compile("java\\.lang\\.(String|Boolean|Character|Byte|Short|Integer|Long|Float|Double)"))
+                .allowIfSubType(Pattern.compile("java\\.math\\.(BigDecimal|BigInteger)"))
+                .allowIfSubType("java.time.")
+                .build();
+    }
+    
+    @Bean
+    public KeyGenerator searchCacheKeyGenerator() {
+        return new SearchCacheKeyGenerator();
+    }
+}
@@ -1,22 +1,44 @@
 package com.blockchain.search.config;
 
+import com.blockchain.search.util.SourceDecoder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.elasticsearch.client.RestHighLevelClient;
 import org.elasticsearch.client.RestClient;
 import org.elasticsearch.client.RestClientBuilder;
+import org.elasticsearch.client.sniff.ElasticsearchNodesSniffer;
+import org.elasticsearch.client.sniff.SniffOnFailureListener;
+import org.elasticsearch.client.sniff.Sniffer;
 import org.apache.http.HttpHost;
+import org.apache.http.HttpResponse;
 import org.apache.http.auth.AuthScope;
 import org.apache.http.auth.UsernamePasswordCredentials;
 import org.apache.http.client.CredentialsProvider;
+import org.apache.http.config.Registry;
+import org.apache.http.config.RegistryBuilder;
 import org.apache.http.impl.client.BasicCredentialsProvider;
-import org.apache.http.impl.nio.client.HttpAsyncClientBuilder;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.nio.conn.PoolingNHttpClientConnectionManager;
+import org.apache.http.impl.nio.reactor.DefaultConnectingIOReactor;
+import org.apache.http.impl.nio.reactor.IOReactorConfig;
+import org.apache.http.nio.conn.NoopIOSessionStrategy;
+import org.apache.http.nio.conn.SchemeIOSessionStrategy;
+import org.apache.http.nio.conn.ssl.SSLIOSessionStrategy;
+import org.apache.http.nio.reactor.ConnectingIOReactor;
+import org.apache.http.nio.reactor.IOReactorException;
+import org.apache.http.protocol.HttpContext;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.data.elasticsearch.client.ClientConfiguration;
-import org.springframework.data.elasticsearch.client.RestClients;
 import org.springframework.data.elasticsearch.config.AbstractElasticsearchConfiguration;
 import org.springframework.data.elasticsearch.repository.config.EnableElasticsearchRepositories;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
 @Configuration
 @EnableElasticsearchRepositories(basePackages = "com.blockchain.search.repository")
 public class ElasticsearchConfig extends AbstractElasticsearchConfiguration {
@@ -42,40 +64,166 @@ public class ElasticsearchConfig extends AbstractElasticsearchConfiguration {
     @Value("${elasticsearch.read-timeout:10000}")
     private int readTimeout;
     
+    /**
+     * 여러 노드를 쓸 때 쉼표로 구분 (host:port 또는 scheme://host:port) - 비우면 host/port/scheme 한 노드
+     */
+    @Value("${elasticsearch.hosts:}")
+    private String hosts;
+    
+    @Value("${elasticsearch.client.max-connections:200}")
+    private int maxConnections;
+    
+    @Value("${elasticsearch.client.max-connections-per-route:100}")
+    private int maxConnectionsPerRoute;
+    
+    @Value("${elasticsearch.client.connection-request-timeout:5000}")
+    private int connectionRequestTimeout;
+    
+    @Value("${elasticsearch.client.io-threads:0}")
+    private int ioThreads;
+    
+    @Value("${elasticsearch.client.keep-alive:60000}")
+    private long keepAlive;
+    
+    @Value("${elasticsearch.client.compression:true}")
+    private boolean compression;
+    
+    @Value("${elasticsearch.client.sniff.enabled:false}")
+    private boolean sniffEnabled;
+    
+    @Value("${elasticsearch.client.sniff.interval:300000}")
+    private int sniffInterval;
+    
+    @Value("${elasticsearch.client.sniff.after-failure-delay:60000}")
+    private int sniffAfterFailureDelay;
+    
+    @Autowired
+    private MeterRegistry meterRegistry;
+    
+    // 노드 장애 시 즉시 sniff - 클라이언트 생성 시 등록하고 Sniffer 가 만들어지면 연결
+    private final SniffOnFailureListener sniffOnFailureListener = new SniffOnFailureListener();
+    
+    /**
+     * Spring Data 리포지토리/템플릿과 직접 쿼리(customElasticsearchClient)가 함께 쓰는 단일 클라이언트
+     * 커넥션 풀과 IO 스레드를 하나로 공유해 풀 크기/지표가 실제 ES 동시 요청 수와 일치하도록 함
+     */
     @Override
-    @Bean
+    @Bean(name = {"elasticsearchClient", "customElasticsearchClient"})
     public RestHighLevelClient elasticsearchClient() {
-        ClientConfiguration clientConfiguration = ClientConfiguration.builder()
-                .connectedTo(host + ":" + port)
-                .withConnectTimeout(connectionTimeout)
-                .withSocketTimeout(readTimeout)
-                .build();
-        
-        return RestClients.create(clientConfiguration).rest();
-    }
-    
-    @Bean
-    public RestHighLevelClient customElasticsearchClient() {
-        RestClientBuilder builder = RestClient.builder(
-                new HttpHost(host, port, scheme)
-        );
+        RestClientBuilder builder = RestClient.builder(httpHosts())
+                .setCompressionEnabled(compression);
+        if (sniffEnabled) {
+            builder.setFailureListener(sniffOnFailureListener);
+        }
         
-        // Add authentication if credentials are provided
-        if (username != null && !username.isEmpty() && password != null && !password.isEmpty()) {
-            CredentialsProvider credentialsProvider = new BasicCredentialsProvider();
-            credentialsProvider.setCredentials(AuthScope.ANY, 
-                    new UsernamePasswordCredentials(username, password));
+        builder.setHttpClientConfigCallback(httpClientBuilder -> {
+            httpClientBuilder.setConnectionManager(connectionManager())
+                    .setKeepAliveStrategy(this::keepAliveDuration);
             
-            builder.setHttpClientConfigCallback(httpClientBuilder -> 
-                    httpClientBuilder.setDefaultCredentialsProvider(credentialsProvider));
-        }
+            // Add authentication if credentials are provided
+            if (username != null && !username.isEmpty() && password != null && !password.isEmpty()) {
+                CredentialsProvider credentialsProvider = new BasicCredentialsProvider();
+                credentialsProvider.setCredentials(AuthScope.ANY, 
+                        new UsernamePasswordCredentials(username, password));
+                httpClientBuilder.setDefaultCredentialsProvider(credentialsProvider);
+            }
+            return httpClientBuilder;
+        });
         
-        // Add request timeout configuration
+        // connection-request-timeout: 풀이 포화됐을 때 커넥션을 기다리는 최대 시간
         builder.setRequestConfigCallback(requestConfigBuilder -> 
                 requestConfigBuilder
                         .setConnectTimeout(connectionTimeout)
-                        .setSocketTimeout(readTimeout));
+                        .setSocketTimeout(readTimeout)
+                        .setConnectionRequestTimeout(connectionRequestTimeout));
         
         return new RestHighLevelClient(builder);
     }
+    
+    /**
+     * 클러스터 노드 목록을 주기적으로(그리고 노드 장애 시) 조회해 클라이언트 호스트 목록을 갱신
+     * 로드밸런서/프록시 뒤의 클러스터는 노드 주소에 직접 접근할 수 없으므로 끈 상태로 둔다
+     */
+    @Bean
+    @ConditionalOnProperty(name = "elasticsearch.client.sniff.enabled", havingValue = "true")
+    public Sniffer elasticsearchSniffer() {
+        RestClient lowLevelClient = elasticsearchClient().getLowLevelClient();
+        Sniffer sniffer = Sniffer.builder(lowLevelClient)
+                .setSniffIntervalMillis(sniffInterval)
+                .setSniffAfterFailureDelayMillis(sniffAfterFailureDelay)
+                .setNodesSniffer(new ElasticsearchNodesSniffer(lowLevelClient,
+                        ElasticsearchNodesSniffer.DEFAULT_SNIFF_REQUEST_TIMEOUT,
+                        ElasticsearchNodesSniffer.Scheme.valueOf(scheme.toUpperCase())))
+                .build();
+        sniffOnFailureListener.setSniffer(sniffer);
+        return sniffer;
+    }
+    
+    private HttpHost[] httpHosts() {
+        if (hosts == null || hosts.trim().isEmpty()) {
+            return new HttpHost[] {new HttpHost(host, port, scheme)};
+        }
+        List<HttpHost> httpHosts = new ArrayList<>();
+        for (String entry : hosts.split(",")) {
+            String trimmed = entry.trim();
+            if (!trimmed.isEmpty()) {
+                httpHosts.add(HttpHost.create(trimmed.contains("://") ? trimmed : scheme + "://" + trimmed));
+            }
+        }
+        return httpHosts.toArray(new HttpHost[0]);
+    }
+    
+    /**
+     * 기본 풀(전체 30, 노드당 10)과 IO 스레드(코어 수)를 설정값으로 대체
+     * 풀을 직접 만들면 클라이언트 빌더의 풀/IO 설정이 무시되므로 TLS 전략도 여기서 등록
+     */
+    private PoolingNHttpClientConnectionManager connectionManager() {
+        IOReactorConfig.Builder ioReactorConfig = IOReactorConfig.custom()
+                .setConnectTimeout(connectionTimeout)
+                .setSoTimeout(readTimeout)
+                .setSoKeepAlive(true);
+        if (ioThreads > 0) {
+            ioReactorConfig.setIoThreadCount(ioThreads);
+        }
+        
+        AtomicInteger threadNumber = new AtomicInteger();
+        ConnectingIOReactor ioReactor;
+        try {
+            ioReactor = new DefaultConnectingIOReactor(ioReactorConfig.build(), runnable -> {
+                Thread thread = new Thread(runnable, "es-client-io-" + threadNumber.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        } catch (IOReactorException e) {
+            throw new RuntimeException("ES 클라이언트 IO 리액터 생성 실패", e);
+        }
+        
+        Registry<SchemeIOSessionStrategy> sessionStrategies = RegistryBuilder.<SchemeIOSessionStrategy>create()
+                .register("http", NoopIOSessionStrategy.INSTANCE)
+                .register("https", SSLIOSessionStrategy.getSystemDefaultStrategy())
+                .build();
+        
+        PoolingNHttpClientConnectionManager connectionManager =
+                new MeteredConnectionManager(ioReactor, sessionStrategies, meterRegistry);
+        connectionManager.setMaxTotal(maxConnections);
+        connectionManager.setDefaultMaxPerRoute(maxConnectionsPerRoute);
+        return connectionManager;
+    }
+    
+    /**
+     * 응답의 Keep-Alive 헤더가 없으면 keep-alive 설정값, 있으면 둘 중 짧은 값
+     * 기본 전략은 헤더가 없으면 무기한 재사용하므로 LB/방화벽이 먼저 끊은 커넥션을 재사용하다 실패할 수 있음
+     */
+    private long keepAliveDuration(HttpResponse response, HttpContext context) {
+        long serverKeepAlive = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+        return serverKeepAlive > 0 ? Math.min(serverKeepAlive, keepAlive) : keepAlive;
+    }
+    
+    /**
+     * 검색 히트 _source → 모델 직접 바인딩 (모델별 ObjectReader 재사용)
+     */
+    @Bean
+    public SourceDecoder sourceDecoder(ObjectMapper objectMapper) {
+        return new SourceDecoder(objectMapper);
+    }
 }
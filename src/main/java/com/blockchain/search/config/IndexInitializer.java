@@ -0,0 +1,258 @@
+package com.blockchain.search.config;
+
+import com.blockchain.search.model.Address;
+import com.blockchain.search.model.Token;
+import com.blockchain.search.model.Transaction;
+import com.blockchain.search.service.impl.TransactionPartitions;
+import org.elasticsearch.action.admin.indices.alias.Alias;
+import org.elasticsearch.action.admin.indices.alias.get.GetAliasesRequest;
+import org.elasticsearch.action.admin.indices.settings.put.UpdateSettingsRequest;
+import org.elasticsearch.client.RequestOptions;
+import org.elasticsearch.client.RestHighLevelClient;
+import org.elasticsearch.client.ilm.DeleteAction;
+import org.elasticsearch.client.ilm.ForceMergeAction;
+import org.elasticsearch.client.ilm.LifecycleAction;
+import org.elasticsearch.client.ilm.LifecyclePolicy;
+import org.elasticsearch.client.ilm.Phase;
+import org.elasticsearch.client.ilm.PutLifecyclePolicyRequest;
+import org.elasticsearch.client.ilm.ReadOnlyAction;
+import org.elasticsearch.client.ilm.SetPriorityAction;
+import org.elasticsearch.client.indices.CreateIndexRequest;
+import org.elasticsearch.client.indices.GetIndexRequest;
+import org.elasticsearch.client.indices.GetIndexTemplatesRequest;
+import org.elasticsearch.client.indices.IndexTemplateMetadata;
+import org.elasticsearch.client.indices.IndexTemplatesExistRequest;
+import org.elasticsearch.client.indices.PutIndexTemplateRequest;
+import org.elasticsearch.common.settings.Settings;
+import org.elasticsearch.core.TimeValue;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.elasticsearch.annotations.Setting;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.IndexOperations;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 애플리케이션 시작 시 버전 관리되는 인덱스 템플릿과 인덱스 생성
+ * - 매핑은 모델 어노테이션(@Field, @MultiField), 분석기/노멀라이저는 @Setting 파일에서 생성
+ * - 샤드/레플리카/refresh_interval 은 설정값(elasticsearch.index.*) 사용
+ * - transactions 는 timestamp 내림차순 인덱스 정렬 - 기본 정렬(최신순) 검색이 상위 문서만 보고 조기 종료할 수 있음
+ * - 파티셔닝 사용 시 transactions 는 월별 인덱스(transactions-yyyy.MM)로 나누고 템플릿 별칭 transactions 로 읽으며,
+ *   ILM 정책(transactions-policy)으로 지난 파티션을 forcemerge/읽기 전용 처리하고 보존 기간이 지나면 삭제
+ * 템플릿은 새로 만드는 인덱스에만 적용되므로, 기존 인덱스는 동적 설정(레플리카, refresh_interval)만 갱신하고
+ * 매핑/분석기/정렬 변경은 재색인해야 반영됨
+ */
+@Component
+public class IndexInitializer implements ApplicationRunner {
+    
+    private static final Logger log = LoggerFactory.getLogger(IndexInitializer.class);
+    
+    /**
+     * 템플릿 내용(매핑, 분석기, 인덱스 정렬)이 바뀌면 올림 - 더 높은 버전이 설치돼 있으면 덮어쓰지 않음
+     */
+    static final int TEMPLATE_VERSION = 2;
+    
+    static final String TRANSACTIONS_POLICY = "transactions-policy";
+    
+    @Autowired
+    private ElasticsearchOperations elasticsearchOperations;
+    
+    @Autowired
+    @Qualifier("customElasticsearchClient")
+    private RestHighLevelClient client;
+    
+    @Value("${elasticsearch.index.shards:1}")
+    private int shards;
+    
+    @Value("${elasticsearch.index.replicas:1}")
+    private int replicas;
+    
+    @Value("${elasticsearch.index.refresh-interval:5s}")
+    private String refreshInterval;
+    
+    @Value("${elasticsearch.index.partitioning.enabled:false}")
+    private boolean partitioning;
+    
+    @Value("${elasticsearch.index.partitioning.warm-after:45d}")
+    private String warmAfter;
+    
+    @Value("${elasticsearch.index.partitioning.delete-after:}")
+    private String deleteAfter;
+    
+    @Override
+    public void run(ApplicationArguments args) {
+        if (partitioning) {
+            putTransactionsPolicy();
+        }
+        initialize(Transaction.class);
+        initialize(Address.class);
+        initialize(Token.class);
+    }
+    
+    private void initialize(Class<?> documentClass) {
+        try {
+            String indexName = elasticsearchOperations.indexOps(documentClass).getIndexCoordinates().getIndexName();
+            putTemplateIfOutdated(documentClass, indexName);
+            if (isPartitioned(documentClass)) {
+                checkNoConcreteIndex(indexName);
+            } else {
+                createIndexIfMissing(indexName);
+            }
+        } catch (IllegalStateException e) {
+            throw e; // 설정과 맞지 않는 인덱스 구성 - 기동 중단
+        } catch (Exception e) {
+            log.warn("인덱스 초기화 실패: {} - {}", documentClass.getSimpleName(), e.getMessage());
+        }
+    }
+    
+    private void putTemplateIfOutdated(Class<?> documentClass, String indexName) throws IOException {
+        String templateName = indexName + "-template";
+        Integer installedVersion = installedTemplateVersion(templateName);
+        if (installedVersion != null && installedVersion > TEMPLATE_VERSION) {
+            log.warn("더 높은 버전의 템플릿이 설치되어 있어 유지합니다: {} (설치 v{}, 현재 v{})",
+                    templateName, installedVersion, TEMPLATE_VERSION);
+            return;
+        }
+        
+        // 같은 버전도 다시 등록 - 샤드/레플리카/refresh_interval 설정 변경 반영
+        PutIndexTemplateRequest request = new PutIndexTemplateRequest(templateName)
+                .patterns(templatePatterns(documentClass, indexName))
+                .version(TEMPLATE_VERSION)
+                .settings(templateSettings(documentClass))
+                .mapping(templateMapping(documentClass));
+        if (isPartitioned(documentClass)) {
+            request.alias(new Alias(TransactionPartitions.ALIAS)); // 모든 월 파티션을 읽는 별칭
+        }
+        client.indices().putTemplate(request, RequestOptions.DEFAULT);
+        log.info("인덱스 템플릿 등록 완료: {} v{} (이전 v{})", templateName, TEMPLATE_VERSION, installedVersion);
+    }
+    
+    private boolean isPartitioned(Class<?> documentClass) {
+        return partitioning && documentClass == Transaction.class;
+    }
+    
+    private List<String> templatePatterns(Class<?> documentClass, String indexName) {
+        // 파티셔닝 시 별칭과 같은 이름의 인덱스가 생기면 안 되므로 파티션 이름만 매칭
+        return isPartitioned(documentClass)
+                ? Collections.singletonList(indexName + "-*")
+                : Arrays.asList(indexName, indexName + "-*");
+    }
+    
+    private Integer installedTemplateVersion(String templateName) throws IOException {
+        if (!client.indices().existsTemplate(new IndexTemplatesExistRequest(templateName), RequestOptions.DEFAULT)) {
+            return null;
+        }
+        return client.indices().getIndexTemplate(new GetIndexTemplatesRequest(templateName), RequestOptions.DEFAULT)
+                .getIndexTemplates().stream()
+                .map(IndexTemplateMetadata::version)
+                .findFirst()
+                .orElse(null);
+    }
+    
+    private Settings.Builder templateSettings(Class<?> documentClass) throws IOException {
+        Settings.Builder settings = Settings.builder();
+        
+        Setting setting = AnnotatedElementUtils.findMergedAnnotation(documentClass, Setting.class);
+        if (setting != null && !setting.settingPath().isEmpty()) {
+            try (InputStream input = new ClassPathResource(setting.settingPath()).getInputStream()) {
+                settings.loadFromStream(setting.settingPath(), input, false);
+            }
+        }
+        
+        settings.normalizePrefix("index.")
+                .put("index.number_of_shards", shards)
+                .put("index.number_of_replicas", replicas)
+                .put("index.refresh_interval", refreshInterval);
+        
+        if (documentClass == Transaction.class) {
+            settings.putList("index.sort.field", "timestamp")
+                    .putList("index.sort.order", "desc");
+        }
+        if (isPartitioned(documentClass)) {
+            settings.put("index.lifecycle.name", TRANSACTIONS_POLICY);
+        }
+        return settings;
+    }
+    
+    private Map<String, Object> templateMapping(Class<?> documentClass) {
+        IndexOperations indexOps = elasticsearchOperations.indexOps(documentClass);
+        Map<String, Object> mapping = new LinkedHashMap<>(indexOps.createMapping());
+        mapping.put("dynamic", "false"); // 모델에 없는 필드는 _source 에만 두고 매핑을 늘리지 않음
+        return mapping;
+    }
+    
+    /**
+     * 월 파티션 수명 주기 - 월이 지나 쓰기가 끝난 파티션은 세그먼트 병합 후 읽기 전용, 보존 기간이 지나면 삭제
+     * 쓰기 인덱스가 월 이름으로 정해지므로 rollover 는 사용하지 않음
+     */
+    private void putTransactionsPolicy() {
+        try {
+            Map<String, Phase> phases = new LinkedHashMap<>();
+            phases.put("hot", new Phase("hot", TimeValue.ZERO,
+                    Collections.singletonMap(SetPriorityAction.NAME, new SetPriorityAction(100))));
+            
+            Map<String, LifecycleAction> warmActions = new LinkedHashMap<>();
+            warmActions.put(ForceMergeAction.NAME, new ForceMergeAction(1));
+            warmActions.put(ReadOnlyAction.NAME, new ReadOnlyAction());
+            warmActions.put(SetPriorityAction.NAME, new SetPriorityAction(50));
+            phases.put("warm", new Phase("warm",
+                    TimeValue.parseTimeValue(warmAfter, "elasticsearch.index.partitioning.warm-after"), warmActions));
+            
+            if (StringUtils.hasText(deleteAfter)) {
+                phases.put("delete", new Phase("delete",
+                        TimeValue.parseTimeValue(deleteAfter, "elasticsearch.index.partitioning.delete-after"),
+                        Collections.singletonMap(DeleteAction.NAME, new DeleteAction())));
+            }
+            
+            client.indexLifecycle().putLifecyclePolicy(
+                    new PutLifecyclePolicyRequest(new LifecyclePolicy(TRANSACTIONS_POLICY, phases)),
+                    RequestOptions.DEFAULT);
+            log.info("ILM 정책 등록 완료: {} (warm {}, delete {})", TRANSACTIONS_POLICY, warmAfter,
+                    StringUtils.hasText(deleteAfter) ? deleteAfter : "없음");
+        } catch (Exception e) {
+            log.warn("ILM 정책 등록 실패: {} - {}", TRANSACTIONS_POLICY, e.getMessage());
+        }
+    }
+    
+    /**
+     * 파티셔닝 전 단일 인덱스가 남아 있으면 별칭을 만들 수 없음 - 파티션으로 재색인 후 삭제해야 함
+     * 그대로 기동하면 새 월 파티션 생성(템플릿 별칭)이 모두 실패해 색인이 끊기므로 기동을 중단
+     */
+    private void checkNoConcreteIndex(String indexName) throws IOException {
+        if (client.indices().exists(new GetIndexRequest(indexName), RequestOptions.DEFAULT)
+                && !client.indices().existsAlias(new GetAliasesRequest(indexName), RequestOptions.DEFAULT)) {
+            throw new IllegalStateException("단일 인덱스 " + indexName + " 가 있어 월별 파티션/별칭을 사용할 수 없습니다 - "
+                    + indexName + "-yyyy.MM 로 재색인 후 삭제하거나 elasticsearch.index.partitioning.enabled=false 로 기동하세요");
+        }
+    }
+    
+    private void createIndexIfMissing(String indexName) throws IOException {
+        if (!client.indices().exists(new GetIndexRequest(indexName), RequestOptions.DEFAULT)) {
+            client.indices().create(new CreateIndexRequest(indexName), RequestOptions.DEFAULT); // 템플릿 적용
+            log.info("인덱스 생성 완료: {}", indexName);
+            return;
+        }
+        
+        UpdateSettingsRequest request = new UpdateSettingsRequest(indexName)
+                .settings(Settings.builder()
+                        .put("index.number_of_replicas", replicas)
+                        .put("index.refresh_interval", refreshInterval));
+        client.indices().putSettings(request, RequestOptions.DEFAULT);
+    }
+}
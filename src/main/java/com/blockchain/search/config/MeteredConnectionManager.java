@@ -0,0 +1,101 @@
+package com.blockchain.search.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.apache.http.concurrent.FutureCallback;
+import org.apache.http.config.Registry;
+import org.apache.http.conn.ConnectionPoolTimeoutException;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.impl.nio.conn.PoolingNHttpClientConnectionManager;
+import org.apache.http.nio.NHttpClientConnection;
+import org.apache.http.nio.conn.SchemeIOSessionStrategy;
+import org.apache.http.nio.reactor.ConnectingIOReactor;
+import org.apache.http.pool.PoolStats;
+
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.ToIntFunction;
+
+/**
+ * ES 클라이언트 커넥션 풀 - 풀 포화와 커넥션 대기 시간을 지표로 노출하기 위해 풀을 직접 생성해 클라이언트에 넘김
+ * - es.client.pool.leased    : 요청에 사용 중인 커넥션 수
+ * - es.client.pool.available : 유휴(keep-alive) 커넥션 수
+ * - es.client.pool.pending   : 커넥션을 기다리는 요청 수 (0 보다 크면 풀이 포화된 상태)
+ * - es.client.pool.max       : 최대 커넥션 수
+ * - es.client.pool.lease     : 요청이 커넥션을 얻기까지 걸린 시간 (outcome=success|timeout|error|cancelled)
+ *                              유휴 커넥션이 없어 새로 연결하면 연결 수립 시간도 포함
+ */
+public class MeteredConnectionManager extends PoolingNHttpClientConnectionManager {
+    
+    private final Timer leaseSuccess;
+    private final Timer leaseTimeout;
+    private final Timer leaseError;
+    private final Timer leaseCancelled;
+    
+    public MeteredConnectionManager(ConnectingIOReactor ioReactor, Registry<SchemeIOSessionStrategy> registry,
+                                    MeterRegistry meterRegistry) {
+        super(ioReactor, registry);
+        gauge(meterRegistry, "es.client.pool.leased", "사용 중 커넥션 수", PoolStats::getLeased);
+        gauge(meterRegistry, "es.client.pool.available", "유휴 커넥션 수", PoolStats::getAvailable);
+        gauge(meterRegistry, "es.client.pool.pending", "커넥션 대기 요청 수", PoolStats::getPending);
+        gauge(meterRegistry, "es.client.pool.max", "최대 커넥션 수", PoolStats::getMax);
+        this.leaseSuccess = leaseTimer(meterRegistry, "success");
+        this.leaseTimeout = leaseTimer(meterRegistry, "timeout");
+        this.leaseError = leaseTimer(meterRegistry, "error");
+        this.leaseCancelled = leaseTimer(meterRegistry, "cancelled");
+    }
+    
+    @Override
+    public Future<NHttpClientConnection> requestConnection(HttpRoute route, Object state, long connectTimeout,
+                                                           long leaseTimeout, TimeUnit timeUnit,
+                                                           FutureCallback<NHttpClientConnection> callback) {
+        long startNanos = System.nanoTime();
+        return super.requestConnection(route, state, connectTimeout, leaseTimeout, timeUnit,
+                new FutureCallback<NHttpClientConnection>() {
+                    @Override
+                    public void completed(NHttpClientConnection connection) {
+                        record(leaseSuccess, startNanos);
+                        if (callback != null) {
+                            callback.completed(connection);
+                        }
+                    }
+                    
+                    @Override
+                    public void failed(Exception e) {
+                        boolean timedOut = e instanceof ConnectionPoolTimeoutException || e instanceof TimeoutException;
+                        record(timedOut ? MeteredConnectionManager.this.leaseTimeout : leaseError, startNanos);
+                        if (callback != null) {
+                            callback.failed(e);
+                        }
+                    }
+                    
+                    @Override
+                    public void cancelled() {
+                        record(leaseCancelled, startNanos);
+                        if (callback != null) {
+                            callback.cancelled();
+                        }
+                    }
+                });
+    }
+    
+    private void gauge(MeterRegistry meterRegistry, String name, String description, ToIntFunction<PoolStats> value) {
+        Gauge.builder(name, this, manager -> value.applyAsInt(manager.getTotalStats()))
+                .description(description)
+                .register(meterRegistry);
+    }
+    
+    private static Timer leaseTimer(MeterRegistry meterRegistry, String outcome) {
+        return Timer.builder("es.client.pool.lease")
+                .description("ES 커넥션 획득 대기 시간")
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+    
+    private static void record(Timer timer, long startNanos) {
+        timer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+}
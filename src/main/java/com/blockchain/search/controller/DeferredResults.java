@@ -0,0 +1,123 @@
+package com.blockchain.search.controller;
+
+import com.blockchain.search.dto.SearchResponse;
+import com.blockchain.search.util.EsFutures;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * CompletableFuture → DeferredResult 변환
+ * - 데드라인 초과 시 timeoutResult 응답 후 ES 호출 취소
+ * - 클라이언트 연결 종료(비동기 요청 오류) 시 ES 호출 취소
+ * - 매핑 스레드 풀 포화(RejectedExecutionException)는 503
+ * - 그 밖의 오류는 SearchResponse.ErrorType 에 따라 400(요청 오류) / 503(브레이커 열림) / 502(ES, 응답 변환 실패)
+ */
+final class DeferredResults {
+    
+    static final String OVERLOADED_MESSAGE = "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요";
+    
+    private DeferredResults() {}
+    
+    static <T> DeferredResult<T> of(CompletableFuture<T> future, boolean async, long timeoutMillis,
+                                    Supplier<T> timeoutResult, Function<Throwable, T> errorResult) {
+        DeferredResult<T> deferredResult = new DeferredResult<>(timeoutMillis);
+        
+        if (!async) {
+            // 동기 모드 - 요청 스레드에서 데드라인까지 대기
+            try {
+                future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) {
+                future.cancel(true);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                future.cancel(true);
+            } catch (ExecutionException | CancellationException e) {
+                // 아래 whenComplete 에서 오류 응답으로 변환
+            }
+            if (future.isCancelled()) {
+                deferredResult.setResult(timeoutResult.get());
+                return deferredResult;
+            }
+        }
+        
+        deferredResult.onTimeout(() -> {
+            future.cancel(true);
+            deferredResult.setResult(timeoutResult.get());
+        });
+        deferredResult.onError(error -> future.cancel(true));
+        
+        future.whenComplete((value, error) -> {
+            if (error == null) {
+                deferredResult.setResult(value);
+            } else if (!future.isCancelled()) {
+                deferredResult.setResult(errorResult.apply(EsFutures.unwrap(error)));
+            }
+        });
+        
+        return deferredResult;
+    }
+    
+    /**
+     * Map 응답 API 공통 - 타임아웃 504, 과부하 503, 오류는 errorStatus (success/message/error)
+     */
+    static DeferredResult<ResponseEntity<Map<String, Object>>> ofMap(
+            CompletableFuture<ResponseEntity<Map<String, Object>>> future, boolean async, long timeoutMillis,
+            String errorMessage) {
+        return of(future, async, timeoutMillis,
+                () -> {
+                    Map<String, Object> errorResponse = new HashMap<>();
+                    errorResponse.put("success", false);
+                    errorResponse.put("message", "검색 시간이 초과되었습니다");
+                    return ResponseEntity.status(HttpStatus.GATEWAY_TIMEOUT).body(errorResponse);
+                },
+                e -> {
+                    Map<String, Object> errorResponse = new HashMap<>();
+                    errorResponse.put("success", false);
+                    if (isOverloaded(e)) {
+                        errorResponse.put("message", OVERLOADED_MESSAGE);
+                        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(errorResponse);
+                    }
+                    errorResponse.put("message", errorMessage);
+                    errorResponse.put("error", e.getMessage());
+                    return ResponseEntity.status(errorStatus(SearchResponse.ErrorType.of(e))).body(errorResponse);
+                });
+    }
+    
+    /**
+     * 매핑 스레드 풀이 가득 차 작업이 거절된 경우 (ThreadPoolTaskExecutor 의 TaskRejectedException 포함)
+     */
+    static boolean isOverloaded(Throwable error) {
+        return error instanceof RejectedExecutionException;
+    }
+    
+    /**
+     * 실패 원인별 HTTP 상태 - 원인을 모르면 백엔드 오류(502)로 처리
+     */
+    static HttpStatus errorStatus(SearchResponse.ErrorType errorType) {
+        if (errorType == SearchResponse.ErrorType.INVALID_REQUEST) {
+            return HttpStatus.BAD_REQUEST;
+        }
+        if (errorType == SearchResponse.ErrorType.UNAVAILABLE) {
+            return HttpStatus.SERVICE_UNAVAILABLE;
+        }
+        return HttpStatus.BAD_GATEWAY;
+    }
+    
+    static <T> DeferredResult<T> completed(T value) {
+        DeferredResult<T> deferredResult = new DeferredResult<>();
+        deferredResult.setResult(value);
+        return deferredResult;
+    }
+}
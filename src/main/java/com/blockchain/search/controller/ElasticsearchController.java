@@ -1,16 +1,20 @@
 package com.blockchain.search.controller;
 
 import com.blockchain.search.service.SearchService;
+import com.blockchain.search.util.EsFutures;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.DeferredResult;
 
 import javax.validation.constraints.Max;
 import javax.validation.constraints.Min;
 import javax.validation.constraints.NotBlank;
 import java.util.Map;
 import java.util.HashMap;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequestMapping("/api/v1/es")
@@ -21,27 +25,27 @@ public class ElasticsearchController {
     @Autowired
     private SearchService searchService;
     
+    @Value("${search.async.enabled:true}")
+    private boolean asyncEnabled;
+    
+    @Value("${search.async.timeout:10000}")
+    private long requestTimeout;
+    
     /**
      * URL 방식으로 Elasticsearch 검색
-     * GET /api/v1/es/url-search?q={query}&index={index}&size={size}&network={network}
+     * GET /api/v1/es/url-search?q={query}&index={index}&size={size}&network={network}&projection={projection}
      */
     @GetMapping("/url-search")
-    public ResponseEntity<Map<String, Object>> searchByUrl(
+    public DeferredResult<ResponseEntity<Map<String, Object>>> searchByUrl(
             @RequestParam @NotBlank(message = "검색어는 필수입니다") String q,
             @RequestParam(defaultValue = "transactions") String index,
             @RequestParam(defaultValue = "20") @Min(1) @Max(100) Integer size,
-            @RequestParam(required = false) String network) {
+            @RequestParam(required = false) String network,
+            @RequestParam(required = false) String projection) {
         
-        try {
-            Map<String, Object> result = searchService.searchByUrl(q, index, size, network);
-            return ResponseEntity.ok(result);
-        } catch (Exception e) {
-            Map<String, Object> errorResponse = new HashMap<>();
-            errorResponse.put("success", false);
-            errorResponse.put("message", "URL 검색 중 오류가 발생했습니다");
-            errorResponse.put("error", e.getMessage());
-            return ResponseEntity.badRequest().body(errorResponse);
-        }
+        CompletableFuture<ResponseEntity<Map<String, Object>>> future = EsFutures.thenApply(
+                searchService.searchByUrlAsync(q, index, size, network, projection), ResponseEntity::ok);
+        return DeferredResults.ofMap(future, asyncEnabled, requestTimeout, "URL 검색 중 오류가 발생했습니다");
     }
     
     /**
@@ -49,26 +53,20 @@ public class ElasticsearchController {
      * POST /api/v1/es/query-search
      */
     @PostMapping("/query-search")
-    public ResponseEntity<Map<String, Object>> searchByQuery(
+    public DeferredResult<ResponseEntity<Map<String, Object>>> searchByQuery(
             @RequestBody Map<String, Object> requestBody) {
         
-        try {
-            String index = (String) requestBody.getOrDefault("index", "transactions");
-            Integer size = (Integer) requestBody.getOrDefault("size", 20);
-            
-            if (size == null || size < 1 || size > 100) {
-                size = 20;
-            }
-            
-            Map<String, Object> result = searchService.searchByQuery(index, requestBody, size);
-            return ResponseEntity.ok(result);
-        } catch (Exception e) {
-            Map<String, Object> errorResponse = new HashMap<>();
-            errorResponse.put("success", false);
-            errorResponse.put("message", "Query DSL 검색 중 오류가 발생했습니다");
-            errorResponse.put("error", e.getMessage());
-            return ResponseEntity.badRequest().body(errorResponse);
+        String index = String.valueOf(requestBody.getOrDefault("index", "transactions"));
+        Object sizeValue = requestBody.getOrDefault("size", 20);
+        int size = sizeValue instanceof Integer ? (Integer) sizeValue : 20;
+        
+        if (size < 1 || size > 100) {
+            size = 20;
         }
+        
+        CompletableFuture<ResponseEntity<Map<String, Object>>> future =
+                EsFutures.thenApply(searchService.searchByQueryAsync(index, requestBody, size), ResponseEntity::ok);
+        return DeferredResults.ofMap(future, asyncEnabled, requestTimeout, "Query DSL 검색 중 오류가 발생했습니다");
     }
     
     /**
@@ -109,6 +107,7 @@ public class ElasticsearchController {
                 response.put("index", indexName);
                 response.put("documentCount", indexStatus.get("documentCount"));
                 response.put("status", indexStatus.get("status"));
+                response.put("lastUpdated", indexStatus.get("lastUpdated"));
                 return ResponseEntity.ok(response);
             } else {
                 return ResponseEntity.notFound().build();
@@ -138,10 +137,17 @@ public class ElasticsearchController {
                         return (Long) indexStatus.get("documentCount");
                     })
                     .sum();
+            long totalStoreSizeBytes = indicesStatus.values().stream()
+                    .mapToLong(status -> {
+                        Map<String, Object> indexStatus = (Map<String, Object>) status;
+                        return (Long) indexStatus.get("storeSizeBytes");
+                    })
+                    .sum();
             
             Map<String, Object> stats = new HashMap<>();
             stats.put("totalIndices", indicesStatus.size());
             stats.put("totalDocuments", totalDocuments);
+            stats.put("totalStoreSizeBytes", totalStoreSizeBytes);
             stats.put("indices", indicesStatus);
             stats.put("timestamp", System.currentTimeMillis());
             
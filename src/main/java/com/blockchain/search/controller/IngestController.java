@@ -0,0 +1,71 @@
+package com.blockchain.search.controller;
+
+import com.blockchain.search.ingest.BlockIngestionService;
+import com.blockchain.search.ingest.BulkIndexer;
+import com.blockchain.search.service.IngestService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/v1/ingest")
+public class IngestController {
+    
+    @Autowired
+    private IngestService ingestService;
+    
+    @Autowired
+    private BlockIngestionService blockIngestionService;
+    
+    /**
+     * NDJSON/CSV 파일 벌크 적재
+     * POST /api/v1/ingest/{index} (multipart: file, format=ndjson|csv)
+     */
+    @PostMapping("/{index}")
+    public ResponseEntity<Map<String, Object>> load(
+            @PathVariable String index,
+            @RequestParam("file") MultipartFile file,
+            @RequestParam(required = false) String format) {
+        
+        long startTime = System.currentTimeMillis();
+        try (InputStream input = file.getInputStream()) {
+            BulkIndexer.Stats stats = ingestService.load(index, input, format, file.getOriginalFilename());
+            long elapsed = Math.max(System.currentTimeMillis() - startTime, 1);
+            
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", stats.getFailed() == 0);
+            response.put("index", index);
+            response.put("submitted", stats.getSubmitted());
+            response.put("succeeded", stats.getSucceeded());
+            response.put("failed", stats.getFailed());
+            response.put("bulkRequests", stats.getBulkRequests());
+            response.put("elapsedMs", elapsed);
+            response.put("docsPerSecond", stats.getSucceeded() * 1000 / elapsed);
+            
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("success", false);
+            errorResponse.put("message", "파일 적재 중 오류가 발생했습니다");
+            errorResponse.put("error", e.getMessage());
+            return ResponseEntity.badRequest().body(errorResponse);
+        }
+    }
+    
+    /**
+     * 네트워크별 블록 수집 상태
+     * GET /api/v1/ingest/blocks
+     */
+    @GetMapping("/blocks")
+    public ResponseEntity<Map<String, Object>> blockStatus() {
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", true);
+        response.put("networks", blockIngestionService.status());
+        return ResponseEntity.ok(response);
+    }
+}
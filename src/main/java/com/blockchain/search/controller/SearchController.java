@@ -2,20 +2,36 @@ package com.blockchain.search.controller;
 
 import com.blockchain.search.dto.SearchRequest;
 import com.blockchain.search.dto.SearchResponse;
+import com.blockchain.search.dto.SourceProjection;
+import com.blockchain.search.model.Address;
+import com.blockchain.search.model.Transaction;
 import com.blockchain.search.service.SearchService;
+import com.blockchain.search.util.EsFutures;
+import com.blockchain.search.util.QueryClassifier;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.DeferredResult;
 
 import javax.validation.Valid;
 import javax.validation.constraints.Max;
 import javax.validation.constraints.Min;
 import javax.validation.constraints.NotBlank;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.HashMap;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.BiFunction;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @RestController
@@ -30,18 +46,33 @@ public class SearchController {
     @Value("${search.autocomplete.max-results:10}")
     private int maxAutocompleteResults;
     
+    @Value("${search.async.enabled:true}")
+    private boolean asyncEnabled;
+    
+    @Value("${search.async.timeout:10000}")
+    private long requestTimeout;
+    
+    @Value("${search.batch.max-size:500}")
+    private int maxBatchSize;
+    
     /**
      * 통합 검색 API
      */
     @GetMapping("/search")
-    public ResponseEntity<SearchResponse> search(
+    public DeferredResult<ResponseEntity<SearchResponse>> search(
             @RequestParam @NotBlank(message = "검색어는 필수입니다") String q,
             @RequestParam(required = false) String network,
             @RequestParam(required = false, defaultValue = "all") String type,
             @RequestParam(defaultValue = "0") @Min(0) Integer page,
             @RequestParam(defaultValue = "20") @Min(1) @Max(100) Integer size,
             @RequestParam(defaultValue = "relevance") String sortBy,
-            @RequestParam(defaultValue = "desc") String sortOrder) {
+            @RequestParam(defaultValue = "desc") String sortOrder,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) String projection,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime fromTime,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime toTime,
+            @RequestParam(required = false) @Min(0) Long fromBlock,
+            @RequestParam(required = false) @Min(0) Long toBlock) {
         
         SearchRequest request = new SearchRequest();
         request.setQuery(q);
@@ -51,127 +82,255 @@ public class SearchController {
         request.setSize(size);
         request.setSortBy(sortBy);
         request.setSortOrder(sortOrder);
+        request.setCursor(cursor);
+        request.setProjection(projection);
+        request.setFromTime(fromTime);
+        request.setToTime(toTime);
+        request.setFromBlock(fromBlock);
+        request.setToBlock(toBlock);
+        
+        CompletableFuture<ResponseEntity<SearchResponse>> future = EsFutures.thenApply(
+                searchService.searchAsync(request), ResponseEntity::ok);
         
-        SearchResponse response = searchService.search(request);
-        return ResponseEntity.ok(response);
+        return DeferredResults.of(future, asyncEnabled, requestTimeout,
+                () -> ResponseEntity.status(HttpStatus.GATEWAY_TIMEOUT)
+                        .body(SearchResponse.error("검색 시간이 초과되었습니다", "deadline exceeded")),
+                e -> DeferredResults.isOverloaded(e)
+                        ? ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                                .body(SearchResponse.error(DeferredResults.OVERLOADED_MESSAGE, e.getMessage()))
+                        : ResponseEntity.ok(SearchResponse.error("검색 중 오류가 발생했습니다", e.getMessage())));
     }
     
     /**
      * 자동완성 API
      */
     @GetMapping("/autocomplete")
-    public ResponseEntity<Map<String, Object>> autocomplete(
+    public DeferredResult<ResponseEntity<Map<String, Object>>> autocomplete(
             @RequestParam @NotBlank(message = "검색어는 필수입니다") String q,
             @RequestParam(required = false) String network,
             @RequestParam(required = false) String type,
             @RequestParam(defaultValue = "10") @Min(1) @Max(50) Integer maxResults) {
         
-        List<Map<String, Object>> results = searchService.autocomplete(q, network, type, 
-                Math.min(maxResults, maxAutocompleteResults));
+        CompletableFuture<ResponseEntity<Map<String, Object>>> future = EsFutures.thenApply(
+                searchService.autocompleteAsync(q, network, type, Math.min(maxResults, maxAutocompleteResults)),
+                results -> {
+                    Map<String, Object> response = new HashMap<>();
+                    response.put("success", true);
+                    response.put("query", q);
+                    response.put("network", network);
+                    response.put("type", type);
+                    response.put("results", results);
+                    response.put("totalCount", results.size());
+                    return ResponseEntity.ok(response);
+                });
         
-        Map<String, Object> response = new HashMap<>();
-        response.put("success", true);
-        response.put("query", q);
-        response.put("network", network);
-        response.put("type", type);
-        response.put("results", results);
-        response.put("totalCount", results.size());
-        
-        return ResponseEntity.ok(response);
+        return DeferredResults.ofMap(future, asyncEnabled, requestTimeout, "자동완성 검색 중 오류가 발생했습니다");
     }
     
     /**
      * 트랜잭션 검색 API
      */
     @GetMapping("/transactions")
-    public ResponseEntity<Map<String, Object>> searchTransactions(
+    public DeferredResult<ResponseEntity<Map<String, Object>>> searchTransactions(
             @RequestParam(required = false) String hash,
             @RequestParam(required = false) String from,
             @RequestParam(required = false) String to,
             @RequestParam(required = false) String network,
             @RequestParam(defaultValue = "0") @Min(0) Integer page,
-            @RequestParam(defaultValue = "20") @Min(1) @Max(100) Integer size) {
+            @RequestParam(defaultValue = "20") @Min(1) @Max(100) Integer size,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime fromTime,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime toTime,
+            @RequestParam(required = false) @Min(0) Long fromBlock,
+            @RequestParam(required = false) @Min(0) Long toBlock) {
         
         String query = hash != null ? hash : (from != null ? from : to);
         if (query == null) {
             Map<String, Object> errorResponse = new HashMap<>();
             errorResponse.put("success", false);
             errorResponse.put("message", "hash, from, 또는 to 파라미터 중 하나는 필수입니다");
-            return ResponseEntity.badRequest().body(errorResponse);
+            return DeferredResults.completed(ResponseEntity.badRequest().body(errorResponse));
         }
         
-        List<Map<String, Object>> results = searchService.searchTransactions(query, network, page, size)
-                .stream()
-                .map(tx -> {
-                    Map<String, Object> txMap = new HashMap<>();
-                    txMap.put("txHash", tx.getTxHash());
-                    txMap.put("network", tx.getNetwork());
-                    txMap.put("fromAddress", tx.getFromAddress());
-                    txMap.put("toAddress", tx.getToAddress());
-                    txMap.put("blockNumber", tx.getBlockNumber());
-                    txMap.put("timestamp", tx.getTimestamp());
-                    txMap.put("value", tx.getValue());
-                    txMap.put("tokenSymbol", tx.getTokenSymbol());
-                    txMap.put("gasUsed", tx.getGasUsed());
-                    return txMap;
-                })
-                .collect(Collectors.toList());
-        
-        Map<String, Object> response = new HashMap<>();
-        response.put("success", true);
-        response.put("query", query);
-        response.put("network", network);
-        response.put("results", results);
-        response.put("totalCount", results.size());
-        response.put("page", page);
-        response.put("size", size);
-        
-        return ResponseEntity.ok(response);
+        // 주소 이력 등 깊은 페이지 탐색을 위해 커서(search_after) 지원 검색 사용
+        SearchRequest request = new SearchRequest(query, network);
+        request.setType("transaction");
+        request.setPage(page);
+        request.setSize(size);
+        request.setCursor(cursor);
+        request.setProjection(SourceProjection.SUMMARY.name()); // 응답 9개 필드만 조회 (inputData 제외)
+        request.setFromTime(fromTime);
+        request.setToTime(toTime);
+        request.setFromBlock(fromBlock);
+        request.setToBlock(toBlock);
+        
+        CompletableFuture<ResponseEntity<Map<String, Object>>> future = EsFutures.thenApply(
+                searchService.searchAsync(request),
+                searchResponse -> {
+                    if (!searchResponse.isSuccess()) {
+                        return errorResponse(searchResponse);
+                    }
+                    
+                    List<Map<String, Object>> results = searchResponse.getData().getTransactions()
+                            .stream()
+                            .map(SearchController::transactionSummary)
+                            .collect(Collectors.toList());
+                    
+                    Map<String, Object> response = new HashMap<>();
+                    response.put("success", true);
+                    response.put("query", query);
+                    response.put("network", network);
+                    response.put("results", results);
+                    response.put("totalCount", searchResponse.getData().getTotalCount());
+                    response.put("totalRelation", totalRelation(searchResponse));
+                    response.put("page", page);
+                    response.put("size", size);
+                    response.put("nextCursor", searchResponse.getData().getNextCursor());
+                    
+                    return ResponseEntity.ok(response);
+                });
+        
+        return DeferredResults.ofMap(future, asyncEnabled, requestTimeout, "트랜잭션 검색 중 오류가 발생했습니다");
     }
     
     /**
      * 주소 검색 API
      */
     @GetMapping("/addresses/{address}")
-    public ResponseEntity<Map<String, Object>> searchAddress(
+    public DeferredResult<ResponseEntity<Map<String, Object>>> searchAddress(
             @PathVariable @NotBlank(message = "주소는 필수입니다") String address,
             @RequestParam(required = false) String network) {
         
-        List<Map<String, Object>> results = searchService.searchAddresses(address, network, 0, 1)
-                .stream()
-                .map(addr -> {
-                    Map<String, Object> addrMap = new HashMap<>();
-                    addrMap.put("address", addr.getAddress());
-                    addrMap.put("network", addr.getNetwork());
-                    addrMap.put("balance", addr.getBalance());
-                    addrMap.put("tokenBalances", addr.getTokenBalances());
-                    addrMap.put("txCount", addr.getTxCount());
-                    addrMap.put("lastUpdated", addr.getLastUpdated());
-                    addrMap.put("type", addr.getType());
-                    addrMap.put("name", addr.getName());
-                    addrMap.put("verified", addr.getVerified());
-                    return addrMap;
-                })
-                .collect(Collectors.toList());
-        
-        if (results.isEmpty()) {
-            return ResponseEntity.notFound().build();
+        SearchRequest request = new SearchRequest(address, network);
+        request.setType("address");
+        request.setPage(0);
+        request.setSize(1);
+        request.setProjection(SourceProjection.DETAIL.name()); // tokenBalances 포함 상세 응답
+        
+        CompletableFuture<ResponseEntity<Map<String, Object>>> future = EsFutures.thenApply(
+                searchService.searchAsync(request),
+                searchResponse -> {
+                    if (!searchResponse.isSuccess()) {
+                        return errorResponse(searchResponse);
+                    }
+                    
+                    List<Map<String, Object>> results = searchResponse.getData().getAddresses()
+                            .stream()
+                            .map(SearchController::addressDetail)
+                            .collect(Collectors.toList());
+                    
+                    if (results.isEmpty()) {
+                        return ResponseEntity.notFound().<Map<String, Object>>build();
+                    }
+                    
+                    Map<String, Object> response = new HashMap<>();
+                    response.put("success", true);
+                    response.put("address", address);
+                    response.put("network", network);
+                    response.put("data", results.get(0));
+                    
+                    return ResponseEntity.ok(response);
+                });
+        
+        return DeferredResults.ofMap(future, asyncEnabled, requestTimeout, "주소 검색 중 오류가 발생했습니다");
+    }
+    
+    /**
+     * 트랜잭션 일괄 조회 API - 해시 목록을 ES 검색 한 번으로 조회
+     * POST /api/v1/batch/transactions {"hashes": [...], "network": "ethereum"}
+     */
+    @PostMapping("/batch/transactions")
+    public DeferredResult<ResponseEntity<Map<String, Object>>> batchTransactions(
+            @RequestBody Map<String, Object> requestBody) {
+        
+        return batchLookup(requestBody, "hashes", QueryClassifier.QueryType.TX_HASH, "트랜잭션 해시 형식이 아닙니다",
+                searchService::findTransactionsAsync, SearchController::transactionSummary,
+                "트랜잭션 일괄 조회 중 오류가 발생했습니다");
+    }
+    
+    /**
+     * 주소 일괄 조회 API - 주소 목록을 ES 검색 한 번으로 조회
+     * POST /api/v1/batch/addresses {"addresses": [...], "network": "ethereum"}
+     */
+    @PostMapping("/batch/addresses")
+    public DeferredResult<ResponseEntity<Map<String, Object>>> batchAddresses(
+            @RequestBody Map<String, Object> requestBody) {
+        
+        return batchLookup(requestBody, "addresses", QueryClassifier.QueryType.ADDRESS, "주소 형식이 아닙니다",
+                searchService::findAddressesAsync, SearchController::addressDetail,
+                "주소 일괄 조회 중 오류가 발생했습니다");
+    }
+    
+    /**
+     * 일괄 조회 공통 - 요청한 식별자 그대로를 키로 {"found": true, "data": {...}} 또는 {"found": false} 반환
+     * 형식이 맞지 않는 식별자는 조회하지 않고 found=false 와 error 로 표시
+     */
+    private <T> DeferredResult<ResponseEntity<Map<String, Object>>> batchLookup(
+            Map<String, Object> requestBody, String field, QueryClassifier.QueryType expectedType,
+            String invalidMessage, BiFunction<List<String>, String, CompletableFuture<Map<String, T>>> lookup,
+            Function<T, Map<String, Object>> toMap, String errorMessage) {
+        
+        Object values = requestBody.get(field);
+        String network = requestBody.get("network") instanceof String ? (String) requestBody.get("network") : null;
+        if (!(values instanceof List) || ((List<?>) values).isEmpty()) {
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("success", false);
+            errorResponse.put("message", field + " 목록은 필수입니다");
+            return DeferredResults.completed(ResponseEntity.badRequest().body(errorResponse));
+        }
+        if (((List<?>) values).size() > maxBatchSize) {
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("success", false);
+            errorResponse.put("message", "한 번에 조회할 수 있는 개수는 " + maxBatchSize + "개입니다");
+            return DeferredResults.completed(ResponseEntity.badRequest().body(errorResponse));
+        }
+        
+        // 요청 순서를 유지하고 중복은 한 번만 응답
+        Set<String> identifiers = new LinkedHashSet<>();
+        List<String> lookupValues = new ArrayList<>();
+        for (Object value : (List<?>) values) {
+            String identifier = String.valueOf(value);
+            if (identifiers.add(identifier) && QueryClassifier.classify(identifier) == expectedType) {
+                lookupValues.add(identifier);
+            }
         }
         
-        Map<String, Object> response = new HashMap<>();
-        response.put("success", true);
-        response.put("address", address);
-        response.put("network", network);
-        response.put("data", results.get(0));
+        CompletableFuture<ResponseEntity<Map<String, Object>>> future = EsFutures.thenApply(
+                lookup.apply(lookupValues, network),
+                found -> {
+                    Map<String, Object> results = new LinkedHashMap<>();
+                    int foundCount = 0;
+                    for (String identifier : identifiers) {
+                        Map<String, Object> result = new HashMap<>();
+                        T document = found.get(QueryClassifier.normalize(identifier));
+                        result.put("found", document != null);
+                        if (document != null) {
+                            result.put("data", toMap.apply(document));
+                            foundCount++;
+                        } else if (QueryClassifier.classify(identifier) != expectedType) {
+                            result.put("error", invalidMessage);
+                        }
+                        results.put(identifier, result);
+                    }
+                    
+                    Map<String, Object> response = new HashMap<>();
+                    response.put("success", true);
+                    response.put("network", network);
+                    response.put("results", results);
+                    response.put("foundCount", foundCount);
+                    response.put("notFoundCount", identifiers.size() - foundCount);
+                    
+                    return ResponseEntity.ok(response);
+                });
         
-        return ResponseEntity.ok(response);
+        return DeferredResults.ofMap(future, asyncEnabled, requestTimeout, errorMessage);
     }
     
     /**
      * 토큰 검색 API
      */
     @GetMapping("/tokens")
-    public ResponseEntity<Map<String, Object>> searchTokens(
+    public DeferredResult<ResponseEntity<Map<String, Object>>> searchTokens(
             @RequestParam(required = false) String symbol,
             @RequestParam(required = false) String name,
             @RequestParam(required = false) String network,
@@ -183,37 +342,98 @@ public class SearchController {
             Map<String, Object> errorResponse = new HashMap<>();
             errorResponse.put("success", false);
             errorResponse.put("message", "symbol 또는 name 파라미터 중 하나는 필수입니다");
-            return ResponseEntity.badRequest().body(errorResponse);
+            return DeferredResults.completed(ResponseEntity.badRequest().body(errorResponse));
         }
         
-        List<Map<String, Object>> results = searchService.searchTokens(query, network, page, size)
-                .stream()
-                .map(token -> {
-                    Map<String, Object> tokenMap = new HashMap<>();
-                    tokenMap.put("tokenAddress", token.getTokenAddress());
-                    tokenMap.put("network", token.getNetwork());
-                    tokenMap.put("symbol", token.getSymbol());
-                    tokenMap.put("name", token.getName());
-                    tokenMap.put("decimals", token.getDecimals());
-                    tokenMap.put("totalSupply", token.getTotalSupply());
-                    tokenMap.put("holders", token.getHolders());
-                    tokenMap.put("marketCap", token.getMarketCap());
-                    tokenMap.put("price", token.getPrice());
-                    tokenMap.put("contractType", token.getContractType());
-                    tokenMap.put("verified", token.getVerified());
-                    return tokenMap;
-                })
-                .collect(Collectors.toList());
-        
-        Map<String, Object> response = new HashMap<>();
-        response.put("success", true);
-        response.put("query", query);
-        response.put("network", network);
-        response.put("results", results);
-        response.put("totalCount", results.size());
-        response.put("page", page);
-        response.put("size", size);
-        
-        return ResponseEntity.ok(response);
+        SearchRequest request = new SearchRequest(query, network);
+        request.setType("token");
+        request.setPage(page);
+        request.setSize(size);
+        request.setProjection(SourceProjection.SUMMARY.name());
+        
+        CompletableFuture<ResponseEntity<Map<String, Object>>> future = EsFutures.thenApply(
+                searchService.searchAsync(request),
+                searchResponse -> {
+                    if (!searchResponse.isSuccess()) {
+                        return errorResponse(searchResponse);
+                    }
+                    
+                    List<Map<String, Object>> results = searchResponse.getData().getTokens()
+                            .stream()
+                            .map(token -> {
+                                Map<String, Object> tokenMap = new HashMap<>();
+                                tokenMap.put("tokenAddress", token.getTokenAddress());
+                                tokenMap.put("network", token.getNetwork());
+                                tokenMap.put("symbol", token.getSymbol());
+                                tokenMap.put("name", token.getName());
+                                tokenMap.put("decimals", token.getDecimals());
+                                tokenMap.put("totalSupply", token.getTotalSupply());
+                                tokenMap.put("holders", token.getHolders());
+                                tokenMap.put("marketCap", token.getMarketCap());
+                                tokenMap.put("price", token.getPrice());
+                                tokenMap.put("contractType", token.getContractType());
+                                tokenMap.put("verified", token.getVerified());
+                                return tokenMap;
+                            })
+                            .collect(Collectors.toList());
+                    
+                    Map<String, Object> response = new HashMap<>();
+                    response.put("success", true);
+                    response.put("query", query);
+                    response.put("network", network);
+                    response.put("results", results);
+                    response.put("totalCount", searchResponse.getData().getTotalCount());
+                    response.put("totalRelation", totalRelation(searchResponse));
+                    response.put("page", page);
+                    response.put("size", size);
+                    
+                    return ResponseEntity.ok(response);
+                });
+        
+        return DeferredResults.ofMap(future, asyncEnabled, requestTimeout, "토큰 검색 중 오류가 발생했습니다");
+    }
+    
+    private static Map<String, Object> transactionSummary(Transaction tx) {
+        Map<String, Object> txMap = new HashMap<>();
+        txMap.put("txHash", tx.getTxHash());
+        txMap.put("network", tx.getNetwork());
+        txMap.put("fromAddress", tx.getFromAddress());
+        txMap.put("toAddress", tx.getToAddress());
+        txMap.put("blockNumber", tx.getBlockNumber());
+        txMap.put("timestamp", tx.getTimestamp());
+        txMap.put("value", tx.getValue());
+        txMap.put("tokenSymbol", tx.getTokenSymbol());
+        txMap.put("gasUsed", tx.getGasUsed());
+        return txMap;
+    }
+    
+    private static Map<String, Object> addressDetail(Address addr) {
+        Map<String, Object> addrMap = new HashMap<>();
+        addrMap.put("address", addr.getAddress());
+        addrMap.put("network", addr.getNetwork());
+        addrMap.put("balance", addr.getBalance());
+        addrMap.put("tokenBalances", addr.getTokenBalances());
+        addrMap.put("txCount", addr.getTxCount());
+        addrMap.put("lastUpdated", addr.getLastUpdated());
+        addrMap.put("type", addr.getType());
+        addrMap.put("name", addr.getName());
+        addrMap.put("verified", addr.getVerified());
+        return addrMap;
+    }
+    
+    /**
+     * 단일 타입 검색의 총 개수 관계 (eq: 정확, gte: 한도까지만 센 하한값)
+     */
+    private static String totalRelation(SearchResponse searchResponse) {
+        Map<String, SearchResponse.Total> totals = searchResponse.getData().getTotals();
+        return totals == null || totals.isEmpty() ? null : totals.values().iterator().next().getRelation();
+    }
+    
+    private static ResponseEntity<Map<String, Object>> errorResponse(SearchResponse searchResponse) {
+        Map<String, Object> errorResponse = new HashMap<>();
+        errorResponse.put("success", false);
+        errorResponse.put("message", searchResponse.getMessage());
+        errorResponse.put("error", searchResponse.getError());
+        return ResponseEntity.status(DeferredResults.errorStatus(searchResponse.getErrorType())).body(errorResponse);
     }
 }
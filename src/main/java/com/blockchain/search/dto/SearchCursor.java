@@ -0,0 +1,69 @@
+package com.blockchain.search.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * search_after 기반 페이지 커서 - 인덱스별 마지막 정렬 값과 PIT(point-in-time) ID를 담은 불투명 토큰
+ */
+public class SearchCursor {
+    
+    private Map<String, List<Object>> searchAfter = new LinkedHashMap<>();
+    private String pitId;
+    
+    // Constructors
+    public SearchCursor() {}
+    
+    public boolean hasNext(String index) {
+        return searchAfter.containsKey(index);
+    }
+    
+    public Object[] searchAfterFor(String index) {
+        List<Object> sortValues = searchAfter.get(index);
+        return sortValues != null ? sortValues.toArray() : null;
+    }
+    
+    public void setNext(String index, Object[] sortValues) {
+        searchAfter.put(index, Arrays.asList(sortValues));
+    }
+    
+    @JsonIgnore
+    public boolean isEmpty() {
+        return searchAfter.isEmpty();
+    }
+    
+    public String encode(ObjectMapper objectMapper) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(this);
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(json);
+        } catch (Exception e) {
+            throw new IllegalStateException("커서 생성 중 오류 발생", e);
+        }
+    }
+    
+    public static SearchCursor decode(String token, ObjectMapper objectMapper) {
+        if (token == null || token.isEmpty()) {
+            return null;
+        }
+        try {
+            byte[] json = Base64.getUrlDecoder().decode(token.getBytes(StandardCharsets.US_ASCII));
+            return objectMapper.readValue(json, SearchCursor.class);
+        } catch (Exception e) {
+            throw new IllegalArgumentException("잘못된 커서입니다", e);
+        }
+    }
+    
+    // Getters and Setters
+    public Map<String, List<Object>> getSearchAfter() { return searchAfter; }
+    public void setSearchAfter(Map<String, List<Object>> searchAfter) { this.searchAfter = searchAfter; }
+    
+    public String getPitId() { return pitId; }
+    public void setPitId(String pitId) { this.pitId = pitId; }
+}
@@ -2,6 +2,7 @@ package com.blockchain.search.dto;
 
 import javax.validation.constraints.NotBlank;
 import javax.validation.constraints.Size;
+import java.time.LocalDateTime;
 
 public class SearchRequest {
     
@@ -21,6 +22,19 @@ public class SearchRequest {
     
     private String sortOrder = "desc"; // asc, desc
     
+    private String cursor; // search_after 커서 (이전 응답의 nextCursor)
+    
+    private String projection; // summary, detail (기본값 detail)
+    
+    // 트랜잭션 검색 범위 (선택) - 겹치는 월 파티션만 검색
+    private LocalDateTime fromTime; // UTC
+    
+    private LocalDateTime toTime;
+    
+    private Long fromBlock;
+    
+    private Long toBlock;
+    
     // Constructors
     public SearchRequest() {}
     
@@ -55,6 +69,31 @@ public class SearchRequest {
     public String getSortOrder() { return sortOrder; }
     public void setSortOrder(String sortOrder) { this.sortOrder = sortOrder; }
     
+    public String getCursor() { return cursor; }
+    public void setCursor(String cursor) { this.cursor = cursor; }
+    
+    public String getProjection() { return projection; }
+    public void setProjection(String projection) { this.projection = projection; }
+    
+    public LocalDateTime getFromTime() { return fromTime; }
+    public void setFromTime(LocalDateTime fromTime) { this.fromTime = fromTime; }
+    
+    public LocalDateTime getToTime() { return toTime; }
+    public void setToTime(LocalDateTime toTime) { this.toTime = toTime; }
+    
+    public Long getFromBlock() { return fromBlock; }
+    public void setFromBlock(Long fromBlock) { this.fromBlock = fromBlock; }
+    
+    public Long getToBlock() { return toBlock; }
+    public void setToBlock(Long toBlock) { this.toBlock = toBlock; }
+    
+    /**
+     * 시간 또는 블록 범위가 하나라도 지정되었는지
+     */
+    public boolean hasRange() {
+        return fromTime != null || toTime != null || fromBlock != null || toBlock != null;
+    }
+    
     @Override
     public String toString() {
         return "SearchRequest{" +
@@ -65,6 +104,12 @@ public class SearchRequest {
                 ", size=" + size +
                 ", sortBy='" + sortBy + '\'' +
                 ", sortOrder='" + sortOrder + '\'' +
+                ", cursor='" + cursor + '\'' +
+                ", projection='" + projection + '\'' +
+                ", fromTime=" + fromTime +
+                ", toTime=" + toTime +
+                ", fromBlock=" + fromBlock +
+                ", toBlock=" + toBlock +
                 '}';
     }
 }
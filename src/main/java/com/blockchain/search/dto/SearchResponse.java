@@ -3,8 +3,11 @@ package com.blockchain.search.dto;
 import com.blockchain.search.model.Address;
 import com.blockchain.search.model.Token;
 import com.blockchain.search.model.Transaction;
+import com.blockchain.search.resilience.CircuitBreakerOpenException;
 
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
 
 public class SearchResponse {
     
@@ -13,6 +16,8 @@ public class SearchResponse {
     private SearchData data;
     private long searchTime;
     private String error;
+    private boolean stale; // ES 장애(서킷 브레이커 열림)로 이전 검색 결과를 반환한 경우 true
+    private ErrorType errorType; // 실패 원인 - Map 응답 API 가 HTTP 상태를 고르는 데 사용
     
     // Nested class for search data
     public static class SearchData {
@@ -21,9 +26,14 @@ public class SearchResponse {
         private List<Transaction> transactions;
         private List<Address> addresses;
         private List<Token> tokens;
-        private long totalCount;
+        private long totalCount; // 인덱스별 총 개수(totals)의 합
+        private Map<String, Total> totals; // 인덱스별 검색 결과 총 개수
         private int page;
         private int size;
+        private Map<String, Long> indexSearchTimes; // 인덱스별 ES 처리 시간(ms)
+        private String nextCursor; // 다음 페이지 커서, 마지막 페이지면 null
+        private Map<String, IndexResult> indexResults; // 인덱스별 완료 상태 (제한 시간 초과, 부분 결과, 오류)
+        private boolean partial; // 한 인덱스라도 결과가 완전하지 않으면 true
         
         // Constructors
         public SearchData() {}
@@ -52,11 +62,101 @@ public class SearchResponse {
         public long getTotalCount() { return totalCount; }
         public void setTotalCount(long totalCount) { this.totalCount = totalCount; }
         
+        public Map<String, Total> getTotals() { return totals; }
+        public void setTotals(Map<String, Total> totals) { this.totals = totals; }
+        
         public int getPage() { return page; }
         public void setPage(int page) { this.page = page; }
         
         public int getSize() { return size; }
         public void setSize(int size) { this.size = size; }
+        
+        public Map<String, Long> getIndexSearchTimes() { return indexSearchTimes; }
+        public void setIndexSearchTimes(Map<String, Long> indexSearchTimes) { this.indexSearchTimes = indexSearchTimes; }
+        
+        public String getNextCursor() { return nextCursor; }
+        public void setNextCursor(String nextCursor) { this.nextCursor = nextCursor; }
+        
+        public Map<String, IndexResult> getIndexResults() { return indexResults; }
+        public void setIndexResults(Map<String, IndexResult> indexResults) { this.indexResults = indexResults; }
+        
+        public boolean isPartial() { return partial; }
+        public void setPartial(boolean partial) { this.partial = partial; }
+    }
+    
+    /**
+     * 인덱스별 검색 완료 상태
+     * - timedOut: 제한 시간 안에 응답이 없었거나 ES 가 timeout 으로 수집을 중단함
+     * - partial : 결과가 완전하지 않음 (timedOut, 일부 샤드 실패, terminate_after, 오류)
+     * - error   : 이 인덱스만 실패한 경우의 오류 메시지
+     */
+    public static class IndexResult {
+        
+        private boolean partial;
+        private boolean timedOut;
+        private String error;
+        
+        public IndexResult() {}
+        
+        public IndexResult(boolean partial, boolean timedOut, String error) {
+            this.partial = partial;
+            this.timedOut = timedOut;
+            this.error = error;
+        }
+        
+        public boolean isPartial() { return partial; }
+        public void setPartial(boolean partial) { this.partial = partial; }
+        
+        public boolean isTimedOut() { return timedOut; }
+        public void setTimedOut(boolean timedOut) { this.timedOut = timedOut; }
+        
+        public String getError() { return error; }
+        public void setError(String error) { this.error = error; }
+    }
+    
+    /**
+     * 검색 결과 총 개수 - relation 이 gte 면 search.total-hits.track-up-to 한도까지만 센 하한값
+     */
+    public static class Total {
+        
+        public static final String EQUAL_TO = "eq";
+        public static final String GREATER_THAN_OR_EQUAL_TO = "gte";
+        
+        private long value;
+        private String relation;
+        
+        public Total() {}
+        
+        public Total(long value, String relation) {
+            this.value = value;
+            this.relation = relation;
+        }
+        
+        public long getValue() { return value; }
+        public void setValue(long value) { this.value = value; }
+        
+        public String getRelation() { return relation; }
+        public void setRelation(String relation) { this.relation = relation; }
+    }
+    
+    /**
+     * 실패 원인 구분
+     * - INVALID_REQUEST: 잘못된 커서, 지원하지 않는 인덱스 등 요청 오류 (400)
+     * - UNAVAILABLE    : 서킷 브레이커 열림, 응답 변환 스레드 풀 포화 (503)
+     * - BACKEND        : ES 호출/응답 변환 실패 (502)
+     */
+    public enum ErrorType {
+        INVALID_REQUEST, UNAVAILABLE, BACKEND;
+        
+        public static ErrorType of(Throwable error) {
+            if (error instanceof IllegalArgumentException) {
+                return INVALID_REQUEST;
+            }
+            if (error instanceof CircuitBreakerOpenException || error instanceof RejectedExecutionException) {
+                return UNAVAILABLE;
+            }
+            return BACKEND;
+        }
     }
     
     // Constructors
@@ -84,6 +184,21 @@ public class SearchResponse {
         return response;
     }
     
+    public static SearchResponse error(String message, Throwable error) {
+        SearchResponse response = error(message, error.getMessage());
+        response.setErrorType(ErrorType.of(error));
+        return response;
+    }
+    
+    /**
+     * 이전 검색 결과를 stale 로 표시한 복사본 - 캐시에 있는 원본은 수정하지 않음
+     */
+    public static SearchResponse stale(SearchResponse cached, String message) {
+        SearchResponse response = success(message, cached.getData(), cached.getSearchTime());
+        response.setStale(true);
+        return response;
+    }
+    
     // Getters and Setters
     public boolean isSuccess() { return success; }
     public void setSuccess(boolean success) { this.success = success; }
@@ -99,4 +214,10 @@ public class SearchResponse {
     
     public String getError() { return error; }
     public void setError(String error) { this.error = error; }
+    
+    public boolean isStale() { return stale; }
+    public void setStale(boolean stale) { this.stale = stale; }
+    
+    public ErrorType getErrorType() { return errorType; }
+    public void setErrorType(ErrorType errorType) { this.errorType = errorType; }
 }
@@ -0,0 +1,69 @@
+package com.blockchain.search.dto;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * _source 필드 프로젝션 프로필 - 응답에 쓰지 않는 필드(inputData, tokenBalances 등)는 ES에서 가져오지 않음
+ * - SUMMARY: 목록 API 응답 필드만
+ * - DETAIL: 전체 문서 (색인 전용 suggest 제외)
+ * - AUTOCOMPLETE: 자동완성 표시 필드만
+ */
+public enum SourceProjection {
+    
+    SUMMARY(fields(
+            new String[]{"txHash", "network", "fromAddress", "toAddress", "blockNumber", "timestamp",
+                    "value", "tokenSymbol", "gasUsed"},
+            new String[]{"address", "network", "balance", "txCount", "lastUpdated", "type", "name", "verified"},
+            new String[]{"tokenAddress", "network", "symbol", "name", "decimals", "totalSupply", "holders",
+                    "marketCap", "price", "contractType", "verified"})),
+    
+    DETAIL(new HashMap<>()),
+    
+    AUTOCOMPLETE(fields(
+            new String[]{"txHash", "network", "fromAddress", "toAddress"},
+            new String[]{"address", "network", "name"},
+            new String[]{"symbol", "name", "network", "tokenAddress"}));
+    
+    private static final String[] EXCLUDES = {"suggest"};
+    
+    private final Map<String, String[]> includes;
+    
+    SourceProjection(Map<String, String[]> includes) {
+        this.includes = includes;
+    }
+    
+    /**
+     * 인덱스별 포함 필드 (null이면 전체)
+     */
+    public String[] includes(String index) {
+        return includes.get(index);
+    }
+    
+    public String[] excludes() {
+        return EXCLUDES;
+    }
+    
+    /**
+     * 요청 파라미터 변환 - 비어 있으면 기본값 사용
+     */
+    public static SourceProjection from(String value, SourceProjection defaultProjection) {
+        if (value == null || value.trim().isEmpty()) {
+            return defaultProjection;
+        }
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("지원하지 않는 프로젝션입니다: " + value);
+        }
+    }
+    
+    private static Map<String, String[]> fields(String[] transactions, String[] addresses, String[] tokens) {
+        Map<String, String[]> fields = new HashMap<>();
+        fields.put("transactions", transactions);
+        fields.put("addresses", addresses);
+        fields.put("tokens", tokens);
+        return fields;
+    }
+}
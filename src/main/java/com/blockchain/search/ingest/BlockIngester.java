@@ -0,0 +1,259 @@
+package com.blockchain.search.ingest;
+
+import com.blockchain.search.model.Transaction;
+import com.blockchain.search.util.EsFutures;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.web3j.protocol.Web3j;
+import org.web3j.protocol.core.BatchRequest;
+import org.web3j.protocol.core.BatchResponse;
+import org.web3j.protocol.core.DefaultBlockParameter;
+import org.web3j.protocol.core.Response;
+import org.web3j.protocol.core.methods.response.EthBlock;
+import org.web3j.protocol.core.methods.response.EthGetTransactionReceipt;
+import org.web3j.protocol.core.methods.response.TransactionReceipt;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 네트워크 하나의 블록 수집기
+ * - 한 라운드에서 window 크기 블록 구간 concurrency 개를 동시에 조회
+ * - 구간마다 eth_getBlockByNumber 를 JSON-RPC 배치 한 번으로, 영수증(eth_getTransactionReceipt)도 배치로 조회
+ * - 라운드의 모든 문서가 색인된 뒤에만 체크포인트 갱신 - 실패 시 같은 구간을 다시 수집 (문서 ID가 고정이라 중복 없음)
+ */
+public class BlockIngester implements Runnable {
+    
+    private static final Logger log = LoggerFactory.getLogger(BlockIngester.class);
+    
+    private final String network;
+    private final Web3j web3j;
+    private final BulkIndexer indexer;
+    private final IngestCheckpointRepository checkpointRepository;
+    private final ExecutorService fetchExecutor;
+    private final Settings settings;
+    
+    private volatile boolean running = true;
+    private volatile long safeHead = -1;
+    private volatile long lastIndexedBlock = -1;
+    
+    public BlockIngester(String network, Web3j web3j, BulkIndexer indexer,
+                         IngestCheckpointRepository checkpointRepository, ExecutorService fetchExecutor,
+                         Settings settings) {
+        this.network = network;
+        this.web3j = web3j;
+        this.indexer = indexer;
+        this.checkpointRepository = checkpointRepository;
+        this.fetchExecutor = fetchExecutor;
+        this.settings = settings;
+    }
+    
+    @Override
+    public void run() {
+        log.info("[{}] 블록 수집 시작 (window={}, concurrency={})", network, settings.window, settings.concurrency);
+        
+        while (running) {
+            try {
+                if (!ingestRound()) {
+                    sleep(settings.pollIntervalMillis); // 최신 블록까지 따라잡음
+                }
+            } catch (Exception e) {
+                log.warn("[{}] 블록 수집 실패, 재시도 예정: {}", network, EsFutures.unwrap(e).getMessage());
+                sleep(settings.pollIntervalMillis);
+            }
+        }
+        
+        log.info("[{}] 블록 수집 종료 (마지막 색인 블록: {})", network, lastIndexedBlock);
+    }
+    
+    /**
+     * 한 라운드 수집 - 수집할 블록이 없으면 false
+     */
+    public boolean ingestRound() throws IOException, InterruptedException {
+        safeHead = web3j.ethBlockNumber().send().getBlockNumber().longValue() - settings.confirmations;
+        if (lastIndexedBlock < 0) {
+            lastIndexedBlock = initialCheckpoint();
+        }
+        
+        long from = lastIndexedBlock + 1;
+        if (from > safeHead) {
+            return false;
+        }
+        long to = Math.min(from + (long) settings.window * settings.concurrency - 1, safeHead);
+        
+        // 구간별 병렬 조회
+        List<CompletableFuture<List<Transaction>>> windows = new ArrayList<>();
+        for (long start = from; start <= to; start += settings.window) {
+            long windowStart = start;
+            long windowEnd = Math.min(start + settings.window - 1, to);
+            windows.add(CompletableFuture.supplyAsync(() -> fetchWindow(windowStart, windowEnd), fetchExecutor));
+        }
+        
+        long failedBefore = indexer.stats().getFailed();
+        int count = 0;
+        for (CompletableFuture<List<Transaction>> window : windows) {
+            for (Transaction transaction : window.join()) {
+                indexer.index(transaction);
+                count++;
+            }
+        }
+        
+        if (!indexer.flushAndWait(settings.indexTimeoutMillis, TimeUnit.MILLISECONDS)) {
+            throw new IllegalStateException("색인 응답 대기 시간 초과 (블록 " + from + "~" + to + ")");
+        }
+        if (indexer.stats().getFailed() > failedBefore) {
+            throw new IllegalStateException("일부 트랜잭션 색인 실패 (블록 " + from + "~" + to + ")");
+        }
+        
+        checkpointRepository.save(new IngestCheckpoint(network, to));
+        lastIndexedBlock = to;
+        log.debug("[{}] 블록 {}~{} 색인 완료: 트랜잭션 {}건 (head {})", network, from, to, count, safeHead);
+        return true;
+    }
+    
+    private long initialCheckpoint() {
+        return checkpointRepository.findById(network)
+                .map(IngestCheckpoint::getLastBlock)
+                .orElseGet(() -> settings.startBlock >= 0 ? settings.startBlock - 1 : safeHead);
+    }
+    
+    private List<Transaction> fetchWindow(long from, long to) {
+        try {
+            BatchRequest blockBatch = web3j.newBatch();
+            for (long number = from; number <= to; number++) {
+                blockBatch.add(web3j.ethGetBlockByNumber(DefaultBlockParameter.valueOf(BigInteger.valueOf(number)), true));
+            }
+            
+            List<EthBlock.Block> blocks = new ArrayList<>();
+            List<EthBlock.TransactionObject> transactions = new ArrayList<>();
+            for (Response<?> response : sendBatch(blockBatch)) {
+                EthBlock.Block block = ((EthBlock) response).getBlock();
+                if (block == null) {
+                    throw new IllegalStateException("블록을 찾을 수 없습니다 (" + from + "~" + to + ")");
+                }
+                blocks.add(block);
+                for (EthBlock.TransactionResult<?> result : block.getTransactions()) {
+                    transactions.add((EthBlock.TransactionObject) result.get());
+                }
+            }
+            
+            Map<String, TransactionReceipt> receipts = settings.receipts
+                    ? fetchReceipts(transactions)
+                    : new HashMap<>();
+            
+            List<Transaction> documents = new ArrayList<>(transactions.size());
+            Map<BigInteger, LocalDateTime> timestamps = new HashMap<>();
+            for (EthBlock.Block block : blocks) {
+                timestamps.put(block.getNumber(),
+                        LocalDateTime.ofEpochSecond(block.getTimestamp().longValue(), 0, ZoneOffset.UTC));
+            }
+            for (EthBlock.TransactionObject transaction : transactions) {
+                documents.add(toDocument(transaction, timestamps.get(transaction.getBlockNumber()),
+                        receipts.get(transaction.getHash())));
+            }
+            return documents;
+        } catch (IOException e) {
+            throw new RuntimeException("블록 조회 중 오류 발생 (" + from + "~" + to + ")", e);
+        }
+    }
+    
+    private Map<String, TransactionReceipt> fetchReceipts(List<EthBlock.TransactionObject> transactions)
+            throws IOException {
+        Map<String, TransactionReceipt> receipts = new HashMap<>();
+        for (int start = 0; start < transactions.size(); start += settings.receiptBatchSize) {
+            BatchRequest receiptBatch = web3j.newBatch();
+            int end = Math.min(start + settings.receiptBatchSize, transactions.size());
+            for (int i = start; i < end; i++) {
+                receiptBatch.add(web3j.ethGetTransactionReceipt(transactions.get(i).getHash()));
+            }
+            for (Response<?> response : sendBatch(receiptBatch)) {
+                ((EthGetTransactionReceipt) response).getTransactionReceipt()
+                        .ifPresent(receipt -> receipts.put(receipt.getTransactionHash(), receipt));
+            }
+        }
+        return receipts;
+    }
+    
+    private static List<? extends Response<?>> sendBatch(BatchRequest batch) throws IOException {
+        BatchResponse batchResponse = batch.send();
+        for (Response<?> response : batchResponse.getResponses()) {
+            if (response.hasError()) {
+                throw new IOException("JSON-RPC 오류: " + response.getError().getMessage());
+            }
+        }
+        return batchResponse.getResponses();
+    }
+    
+    private Transaction toDocument(EthBlock.TransactionObject source, LocalDateTime timestamp,
+                                   TransactionReceipt receipt) {
+        Transaction transaction = new Transaction();
+        transaction.setTxHash(source.getHash());
+        transaction.setNetwork(network);
+        transaction.setFromAddress(source.getFrom());
+        // 컨트랙트 생성 트랜잭션은 to 가 없으므로 생성된 컨트랙트 주소 사용
+        transaction.setToAddress(source.getTo() != null ? source.getTo()
+                : receipt != null ? receipt.getContractAddress() : null);
+        transaction.setBlockNumber(source.getBlockNumber().longValue());
+        transaction.setTimestamp(timestamp);
+        transaction.setValue(source.getValue().toString());
+        transaction.setGasPrice(source.getGasPriceRaw() != null ? source.getGasPrice().toString() : null);
+        transaction.setInputData(source.getInput());
+        if (receipt != null) {
+            transaction.setGasUsed(receipt.getGasUsed().longValue());
+            transaction.setStatus(receipt.isStatusOK() ? "success" : "failed");
+        }
+        return transaction;
+    }
+    
+    public void stop() {
+        running = false;
+    }
+    
+    public String getNetwork() { return network; }
+    public long getSafeHead() { return safeHead; }
+    public long getLastIndexedBlock() { return lastIndexedBlock; }
+    
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+    
+    /**
+     * 수집 설정 (ingest.blocks.*)
+     */
+    public static class Settings {
+        
+        private final int window;
+        private final int concurrency;
+        private final int confirmations;
+        private final long startBlock;
+        private final boolean receipts;
+        private final int receiptBatchSize;
+        private final long pollIntervalMillis;
+        private final long indexTimeoutMillis;
+        
+        public Settings(int window, int concurrency, int confirmations, long startBlock, boolean receipts,
+                        int receiptBatchSize, long pollIntervalMillis, long indexTimeoutMillis) {
+            this.window = window;
+            this.concurrency = concurrency;
+            this.confirmations = confirmations;
+            this.startBlock = startBlock;
+            this.receipts = receipts;
+            this.receiptBatchSize = receiptBatchSize;
+            this.pollIntervalMillis = pollIntervalMillis;
+            this.indexTimeoutMillis = indexTimeoutMillis;
+        }
+    }
+}
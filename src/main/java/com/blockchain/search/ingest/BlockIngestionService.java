@@ -0,0 +1,164 @@
+package com.blockchain.search.ingest;
+
+import com.blockchain.search.config.BlockchainProperties;
+import com.blockchain.search.service.IngestService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.web3j.protocol.Web3j;
+import org.web3j.protocol.http.HttpService;
+
+import javax.annotation.PreDestroy;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * blockchain.networks 에 설정된 네트워크별 블록 수집기 실행/종료 관리
+ * ingest.blocks.enabled=true 일 때만 시작하며, ingest.blocks.networks 로 대상 네트워크를 제한할 수 있음
+ */
+@Component
+public class BlockIngestionService implements ApplicationRunner {
+    
+    private static final Logger log = LoggerFactory.getLogger(BlockIngestionService.class);
+    
+    @Autowired
+    private BlockchainProperties blockchainProperties;
+    
+    @Autowired
+    private IngestService ingestService;
+    
+    @Autowired
+    private IngestCheckpointRepository checkpointRepository;
+    
+    @Value("${ingest.blocks.enabled:false}")
+    private boolean enabled;
+    
+    @Value("${ingest.blocks.networks:}")
+    private Set<String> networks;
+    
+    @Value("${ingest.blocks.window:20}")
+    private int window;
+    
+    @Value("${ingest.blocks.concurrency:4}")
+    private int concurrency;
+    
+    @Value("${ingest.blocks.confirmations:12}")
+    private int confirmations;
+    
+    @Value("${ingest.blocks.start-block:-1}")
+    private long startBlock;
+    
+    @Value("${ingest.blocks.receipts:true}")
+    private boolean receipts;
+    
+    @Value("${ingest.blocks.receipt-batch-size:200}")
+    private int receiptBatchSize;
+    
+    @Value("${ingest.blocks.poll-interval:15000}")
+    private long pollInterval;
+    
+    @Value("${ingest.blocks.index-timeout:60000}")
+    private long indexTimeout;
+    
+    private final List<Running> running = new ArrayList<>();
+    
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!enabled) {
+            return;
+        }
+        
+        BlockIngester.Settings settings = new BlockIngester.Settings(window, concurrency, confirmations, startBlock,
+                receipts, receiptBatchSize, pollInterval, indexTimeout);
+        
+        blockchainProperties.byNetworkKey().forEach((network, config) -> {
+            if (!networks.isEmpty() && !networks.contains(network)) {
+                return;
+            }
+            if (!StringUtils.hasText(config.getRpcUrl())) {
+                log.warn("[{}] RPC URL이 없어 블록 수집을 건너뜁니다", network);
+                return;
+            }
+            start(network, config.getRpcUrl(), settings);
+        });
+    }
+    
+    private synchronized void start(String network, String rpcUrl, BlockIngester.Settings settings) {
+        Web3j web3j = Web3j.build(new HttpService(rpcUrl));
+        BulkIndexer indexer = ingestService.createIndexer();
+        ExecutorService fetchExecutor = Executors.newFixedThreadPool(concurrency,
+                new CustomizableThreadFactory("ingest-" + network + "-fetch-"));
+        
+        BlockIngester ingester = new BlockIngester(network, web3j, indexer, checkpointRepository, fetchExecutor,
+                settings);
+        Thread thread = new Thread(ingester, "ingest-" + network);
+        thread.setDaemon(true);
+        thread.start();
+        
+        running.add(new Running(ingester, thread, web3j, indexer, fetchExecutor));
+    }
+    
+    /**
+     * 네트워크별 수집 상태 (마지막 색인 블록, 확정 head, 지연 블록 수)
+     */
+    public synchronized List<Map<String, Object>> status() {
+        List<Map<String, Object>> status = new ArrayList<>();
+        for (Running entry : running) {
+            BlockIngester ingester = entry.ingester;
+            Map<String, Object> networkStatus = new HashMap<>();
+            networkStatus.put("network", ingester.getNetwork());
+            networkStatus.put("lastIndexedBlock", ingester.getLastIndexedBlock());
+            networkStatus.put("safeHead", ingester.getSafeHead());
+            networkStatus.put("lag", Math.max(ingester.getSafeHead() - ingester.getLastIndexedBlock(), 0));
+            networkStatus.put("indexed", entry.indexer.stats().getSucceeded());
+            networkStatus.put("failed", entry.indexer.stats().getFailed());
+            status.add(networkStatus);
+        }
+        return status;
+    }
+    
+    @PreDestroy
+    public synchronized void stop() {
+        for (Running entry : running) {
+            entry.ingester.stop();
+            entry.thread.interrupt();
+        }
+        for (Running entry : running) {
+            try {
+                entry.thread.join(TimeUnit.SECONDS.toMillis(30));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            entry.fetchExecutor.shutdownNow();
+            entry.indexer.close();
+            entry.web3j.shutdown();
+        }
+        running.clear();
+    }
+    
+    private static class Running {
+        
+        private final BlockIngester ingester;
+        private final Thread thread;
+        private final Web3j web3j;
+        private final BulkIndexer indexer;
+        private final ExecutorService fetchExecutor;
+        
+        Running(BlockIngester ingester, Thread thread, Web3j web3j, BulkIndexer indexer,
+                ExecutorService fetchExecutor) {
+            this.ingester = ingester;
+            this.thread = thread;
+            this.web3j = web3j;
+            this.indexer = indexer;
+            this.fetchExecutor = fetchExecutor;
+        }
+    }
+}
@@ -0,0 +1,290 @@
+package com.blockchain.search.ingest;
+
+import com.blockchain.search.cache.NegativeLookupCache;
+import com.blockchain.search.model.Address;
+import com.blockchain.search.model.Token;
+import com.blockchain.search.model.Transaction;
+import com.blockchain.search.service.impl.AutocompleteEngine;
+import com.blockchain.search.service.impl.TransactionPartitions;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.elasticsearch.action.bulk.BackoffPolicy;
+import org.elasticsearch.action.bulk.BulkItemResponse;
+import org.elasticsearch.action.bulk.BulkProcessor;
+import org.elasticsearch.action.bulk.BulkRequest;
+import org.elasticsearch.action.bulk.BulkResponse;
+import org.elasticsearch.action.index.IndexRequest;
+import org.elasticsearch.client.RequestOptions;
+import org.elasticsearch.client.RestHighLevelClient;
+import org.elasticsearch.common.unit.ByteSizeValue;
+import org.elasticsearch.core.TimeValue;
+import org.elasticsearch.xcontent.XContentType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * transactions/addresses/tokens 벌크 색인기 (BulkProcessor 기반)
+ * - 문서 수(bulkActions)와 바이트(bulkSize) 중 먼저 도달한 기준으로 배치 전송
+ * - 동시 벌크 요청 수(concurrentRequests) 제한 - 한도에 도달하면 index() 호출 스레드가 대기 (생산자 backpressure)
+ * - ES가 거부(429)한 항목은 지수 backoff로 재시도
+ * 문서 ID는 network:hash 형태로 고정해 같은 파일을 다시 적재해도 중복되지 않음
+ * (트랜잭션 파티셔닝 사용 시 timestamp 월 파티션에 저장 - 같은 트랜잭션은 항상 같은 파티션)
+ * 트랜잭션 해시와 주소는 벌크 요청에 넣은 직후 네거티브 캐시에 기록 - 검색에 반영(refresh)되기 전에 필터에 들어감
+ */
+public class BulkIndexer implements Closeable {
+    
+    private static final Logger log = LoggerFactory.getLogger(BulkIndexer.class);
+    
+    private final ObjectMapper objectMapper;
+    private final BulkProcessor bulkProcessor;
+    private final boolean partitionTransactions;
+    private final boolean routeByNetwork;
+    private final NegativeLookupCache negativeLookupCache;
+    
+    private final AtomicLong submitted = new AtomicLong();
+    private final AtomicLong succeeded = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicLong bulkRequests = new AtomicLong();
+    private final Object completion = new Object();
+    
+    public BulkIndexer(RestHighLevelClient client, ObjectMapper objectMapper, Settings settings) {
+        this(client, objectMapper, settings, null);
+    }
+    
+    /**
+     * @param negativeLookupCache 색인 요청을 보낸 트랜잭션 해시/주소를 기록할 네거티브 캐시 (null 이면 기록 안 함)
+     */
+    public BulkIndexer(RestHighLevelClient client, ObjectMapper objectMapper, Settings settings,
+                       NegativeLookupCache negativeLookupCache) {
+        this.objectMapper = objectMapper;
+        this.negativeLookupCache = negativeLookupCache;
+        this.partitionTransactions = settings.partitionTransactions;
+        this.routeByNetwork = settings.routeByNetwork;
+        this.bulkProcessor = BulkProcessor.builder(
+                        (request, listener) -> client.bulkAsync(request, RequestOptions.DEFAULT, listener),
+                        new Listener(), "bulk-indexer")
+                .setBulkActions(settings.bulkActions)
+                .setBulkSize(settings.bulkSize)
+                .setConcurrentRequests(settings.concurrentRequests)
+                .setFlushInterval(settings.flushInterval)
+                .setBackoffPolicy(BackoffPolicy.exponentialBackoff(settings.backoffDelay, settings.maxRetries))
+                .build();
+    }
+    
+    public void index(Transaction transaction) {
+        String index = partitionTransactions
+                ? TransactionPartitions.indexName(transaction.getTimestamp())
+                : TransactionPartitions.ALIAS;
+        add(index, documentId(transaction.getNetwork(), transaction.getTxHash(), transaction.getId()),
+                transaction.getNetwork(), transaction);
+        if (negativeLookupCache != null) {
+            negativeLookupCache.record(TransactionPartitions.ALIAS, transaction.getNetwork(), transaction.getTxHash());
+        }
+    }
+    
+    public void index(Address address) {
+        if (address.getSuggest() == null) {
+            address.setSuggest(AutocompleteEngine.addressSuggest(address));
+        }
+        add("addresses", documentId(address.getNetwork(), address.getAddress(), address.getId()),
+                address.getNetwork(), address);
+        if (negativeLookupCache != null) {
+            negativeLookupCache.record("addresses", address.getNetwork(), address.getAddress());
+        }
+    }
+    
+    public void index(Token token) {
+        if (token.getSuggest() == null) {
+            token.setSuggest(AutocompleteEngine.tokenSuggest(token));
+        }
+        add("tokens", documentId(token.getNetwork(), token.getTokenAddress(), token.getId()),
+                token.getNetwork(), token);
+    }
+    
+    /**
+     * 모델 타입에 맞는 인덱스로 색인
+     */
+    public void index(Object document) {
+        if (document instanceof Transaction) {
+            index((Transaction) document);
+        } else if (document instanceof Address) {
+            index((Address) document);
+        } else if (document instanceof Token) {
+            index((Token) document);
+        } else {
+            throw new IllegalArgumentException("지원하지 않는 문서 타입입니다: " + document.getClass().getName());
+        }
+    }
+    
+    private void add(String index, String id, String network, Object document) {
+        byte[] source;
+        try {
+            source = objectMapper.writeValueAsBytes(document);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("문서 직렬화 중 오류 발생: " + id, e);
+        }
+        
+        // 동시 요청 한도에 도달하면 이전 배치가 끝날 때까지 대기
+        submitted.incrementAndGet();
+        IndexRequest request = new IndexRequest(index).id(id).source(source, XContentType.JSON);
+        if (routeByNetwork && network != null) {
+            request.routing(network); // 검색 시 network 파라미터와 같은 값으로 라우팅
+        }
+        bulkProcessor.add(request);
+    }
+    
+    /**
+     * 배치 기준에 도달하지 않은 문서도 즉시 전송
+     */
+    public void flush() {
+        bulkProcessor.flush();
+    }
+    
+    /**
+     * 남은 배치를 전송하고 지금까지 추가한 문서의 응답을 모두 받을 때까지 대기 (이후에도 색인 가능)
+     * 체크포인트처럼 "여기까지 저장됨"을 확정해야 할 때 사용
+     */
+    public boolean flushAndWait(long timeout, TimeUnit unit) throws InterruptedException {
+        bulkProcessor.flush();
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        synchronized (completion) {
+            while (stats().getPending() > 0) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    return false;
+                }
+                TimeUnit.NANOSECONDS.timedWait(completion, remaining);
+            }
+        }
+        return true;
+    }
+    
+    /**
+     * 남은 배치를 전송하고 진행 중인 요청이 모두 끝날 때까지 대기 (이후 색인 불가)
+     */
+    public boolean awaitClose(long timeout, TimeUnit unit) throws InterruptedException {
+        return bulkProcessor.awaitClose(timeout, unit);
+    }
+    
+    @Override
+    public void close() {
+        try {
+            if (!bulkProcessor.awaitClose(1, TimeUnit.MINUTES)) {
+                log.warn("벌크 색인 종료 대기 시간 초과 - 미완료 요청이 있을 수 있습니다");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+    
+    public Stats stats() {
+        return new Stats(submitted.get(), succeeded.get(), failed.get(), bulkRequests.get());
+    }
+    
+    static String documentId(String network, String hash, String id) {
+        if (id != null && !id.isEmpty()) {
+            return id;
+        }
+        if (hash == null || hash.isEmpty()) {
+            throw new IllegalArgumentException("문서 ID를 만들 수 없습니다 (해시/주소 없음)");
+        }
+        String normalized = hash.trim().toLowerCase(Locale.ROOT);
+        return network != null ? network + ":" + normalized : normalized;
+    }
+    
+    private class Listener implements BulkProcessor.Listener {
+        
+        @Override
+        public void beforeBulk(long executionId, BulkRequest request) {
+            bulkRequests.incrementAndGet();
+        }
+        
+        @Override
+        public void afterBulk(long executionId, BulkRequest request, BulkResponse response) {
+            int failures = 0;
+            if (response.hasFailures()) {
+                for (BulkItemResponse item : response.getItems()) {
+                    if (item.isFailed()) {
+                        failures++;
+                        log.debug("벌크 항목 색인 실패 [{}/{}]: {}", item.getIndex(), item.getId(), item.getFailureMessage());
+                    }
+                }
+                log.warn("벌크 요청 #{} 일부 실패: {}/{}건", executionId, failures, request.numberOfActions());
+            }
+            succeeded.addAndGet(request.numberOfActions() - failures);
+            failed.addAndGet(failures);
+            signalCompletion();
+        }
+        
+        @Override
+        public void afterBulk(long executionId, BulkRequest request, Throwable failure) {
+            failed.addAndGet(request.numberOfActions());
+            log.error("벌크 요청 #{} 실패 ({}건): {}", executionId, request.numberOfActions(), failure.getMessage());
+            signalCompletion();
+        }
+        
+        private void signalCompletion() {
+            synchronized (completion) {
+                completion.notifyAll();
+            }
+        }
+    }
+    
+    /**
+     * BulkProcessor 설정
+     */
+    public static class Settings {
+        
+        private final int bulkActions;
+        private final ByteSizeValue bulkSize;
+        private final int concurrentRequests;
+        private final TimeValue flushInterval;
+        private final TimeValue backoffDelay;
+        private final int maxRetries;
+        private final boolean partitionTransactions;
+        private final boolean routeByNetwork;
+        
+        public Settings(int bulkActions, ByteSizeValue bulkSize, int concurrentRequests, TimeValue flushInterval,
+                        TimeValue backoffDelay, int maxRetries, boolean partitionTransactions,
+                        boolean routeByNetwork) {
+            this.bulkActions = bulkActions;
+            this.bulkSize = bulkSize;
+            this.concurrentRequests = concurrentRequests;
+            this.flushInterval = flushInterval;
+            this.backoffDelay = backoffDelay;
+            this.maxRetries = maxRetries;
+            this.partitionTransactions = partitionTransactions;
+            this.routeByNetwork = routeByNetwork;
+        }
+    }
+    
+    /**
+     * 색인 통계 (누적)
+     */
+    public static class Stats {
+        
+        private final long submitted;
+        private final long succeeded;
+        private final long failed;
+        private final long bulkRequests;
+        
+        Stats(long submitted, long succeeded, long failed, long bulkRequests) {
+            this.submitted = submitted;
+            this.succeeded = succeeded;
+            this.failed = failed;
+            this.bulkRequests = bulkRequests;
+        }
+        
+        public long getSubmitted() { return submitted; }
+        public long getSucceeded() { return succeeded; }
+        public long getFailed() { return failed; }
+        public long getBulkRequests() { return bulkRequests; }
+        
+        public long getPending() { return submitted - succeeded - failed; }
+    }
+}
@@ -0,0 +1,73 @@
+package com.blockchain.search.ingest;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvParser;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Locale;
+import java.util.function.Consumer;
+
+/**
+ * 적재 파일 스트리밍 파서 - 파일 전체를 메모리에 올리지 않고 한 문서씩 모델 클래스로 변환
+ * - NDJSON: 한 줄에 JSON 문서 하나
+ * - CSV: 첫 줄 헤더가 모델 필드명 (중첩 필드인 Address.tokenBalances 는 지원하지 않음)
+ */
+public class DocumentReader {
+    
+    public enum Format {
+        NDJSON, CSV;
+        
+        /**
+         * 형식 파라미터 또는 파일 확장자로 판단 (기본값 NDJSON)
+         */
+        public static Format of(String format, String filename) {
+            if (format != null && !format.trim().isEmpty()) {
+                try {
+                    return valueOf(format.trim().toUpperCase(Locale.ROOT));
+                } catch (IllegalArgumentException e) {
+                    throw new IllegalArgumentException("지원하지 않는 파일 형식입니다: " + format);
+                }
+            }
+            if (filename != null && filename.toLowerCase(Locale.ROOT).endsWith(".csv")) {
+                return CSV;
+            }
+            return NDJSON;
+        }
+    }
+    
+    private final ObjectMapper objectMapper;
+    private final CsvMapper csvMapper;
+    
+    public DocumentReader(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        this.csvMapper = new CsvMapper();
+        this.csvMapper.findAndRegisterModules();
+        this.csvMapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        this.csvMapper.enable(CsvParser.Feature.EMPTY_STRING_AS_NULL);
+    }
+    
+    /**
+     * 문서를 하나씩 consumer 에 전달하고 읽은 문서 수를 반환
+     */
+    public <T> long read(InputStream input, Format format, Class<T> type, Consumer<? super T> consumer)
+            throws IOException {
+        ObjectReader reader = format == Format.CSV
+                ? csvMapper.readerFor(type).with(CsvSchema.emptySchema().withHeader())
+                : objectMapper.readerFor(type);
+        
+        long count = 0;
+        try (MappingIterator<T> documents = reader.readValues(input)) {
+            while (documents.hasNextValue()) {
+                consumer.accept(documents.nextValue());
+                count++;
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,44 @@
+package com.blockchain.search.ingest;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import java.time.LocalDateTime;
+
+/**
+ * 네트워크별 마지막 색인 블록 번호 - 재시작 시 다음 블록부터 이어서 수집
+ */
+@Entity
+@Table(name = "ingest_checkpoint")
+public class IngestCheckpoint {
+    
+    @Id
+    @Column(length = 50)
+    private String network;
+    
+    @Column(name = "last_block", nullable = false)
+    private Long lastBlock;
+    
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+    
+    // Constructors
+    public IngestCheckpoint() {}
+    
+    public IngestCheckpoint(String network, Long lastBlock) {
+        this.network = network;
+        this.lastBlock = lastBlock;
+        this.updatedAt = LocalDateTime.now();
+    }
+    
+    // Getters and Setters
+    public String getNetwork() { return network; }
+    public void setNetwork(String network) { this.network = network; }
+    
+    public Long getLastBlock() { return lastBlock; }
+    public void setLastBlock(Long lastBlock) { this.lastBlock = lastBlock; }
+    
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+    public void setUpdatedAt(LocalDateTime updatedAt) { this.updatedAt = updatedAt; }
+}
@@ -0,0 +1,6 @@
+package com.blockchain.search.ingest;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface IngestCheckpointRepository extends JpaRepository<IngestCheckpoint, String> {
+}
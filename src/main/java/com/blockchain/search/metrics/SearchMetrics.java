@@ -0,0 +1,279 @@
+package com.blockchain.search.metrics;
+
+import com.blockchain.search.cache.NegativeLookupCache;
+import com.blockchain.search.resilience.CircuitBreaker;
+import com.blockchain.search.util.EsFutures;
+import com.blockchain.search.util.QueryClassifier;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 검색 경로 지표 (/actuator/prometheus) - ES 쪽 지연과 API 서버(JVM) 쪽 지연을 구분하기 위함
+ * - search.requests    : 작업/인덱스별 전체 처리 시간 (outcome=success|error|cancelled, percentile histogram)
+ * - search.es.took     : ES 가 응답에 보고한 처리 시간(took)
+ * - search.es.overhead : ES 왕복 시간 - took (네트워크, HTTP 응답 파싱)
+ * - search.mapping     : 히트 _source 를 응답 객체로 변환하는 시간
+ * - search.queries     : 검색어 유형별 요청 수 (hash, address, wildcard, fuzzy, match, dsl)
+ * - search.errors      : 작업/인덱스/예외 타입별 오류 수
+ * - search.coalescing  : 동시 동일 요청 합치기 (role=leader: 실제 실행, follower: 진행 중인 요청 결과 공유)
+ * - search.hedges      : 헤지 요청 (outcome=won: 헤지가 먼저 응답, lost: 원 요청이 먼저 응답, skipped: 동시 헤지 상한 초과)
+ * - search.breaker.state / search.breaker.rejected : 인덱스별 서킷 브레이커 상태(0 closed, 1 open, 2 half-open)와 거부 수
+ * - search.fallback    : 브레이커가 열려 이전 검색 결과(search-stale 캐시)로 응답한 수
+ * - search.negative_cache.* : 해시/주소 Bloom 필터 조회(result=miss: ES 호출 생략, pass: ES 로 전달), 메모리, 예상 거짓 양성 비율
+ * 캐시 적중 응답과 follower 는 search.requests 에 포함하지 않음 (cache.gets, search.coalescing 지표 참고)
+ * 미터는 태그 값 조합별로 처음 한 번만 등록하고 MeterTable 에 보관 - 요청마다 builder/Tags 를 만들거나 레지스트리를 조회하지 않음
+ */
+@Component
+public class SearchMetrics {
+    
+    // URL/DSL 검색은 임의 인덱스를 받으므로 태그 값을 제한
+    private static final Set<String> KNOWN_INDICES = new HashSet<>(Arrays.asList(
+            "transactions", "addresses", "tokens", "all"));
+    
+    private static final String NONE = "";
+    
+    @Autowired
+    private MeterRegistry meterRegistry;
+    
+    private final MeterTable<Counter> queries = new MeterTable<>((operation, queryClass, ignored) ->
+            Counter.builder("search.queries")
+                    .description("검색어 유형별 요청 수")
+                    .tags("operation", operation, "class", queryClass)
+                    .register(meterRegistry));
+    
+    private final MeterTable<Counter> coalescing = new MeterTable<>((operation, role, ignored) ->
+            Counter.builder("search.coalescing")
+                    .description("동시 동일 요청 합치기 (leader: 실행, follower: 결과 공유)")
+                    .tags("operation", operation, "role", role)
+                    .register(meterRegistry));
+    
+    private final MeterTable<Counter> hedges = new MeterTable<>((target, outcome, ignored) ->
+            Counter.builder("search.hedges")
+                    .description("헤지 요청 수")
+                    .tags("target", target, "outcome", outcome)
+                    .register(meterRegistry));
+    
+    private final MeterTable<Counter> breakerRejected = new MeterTable<>((index, ignored, ignored2) ->
+            Counter.builder("search.breaker.rejected")
+                    .description("서킷 브레이커가 열려 ES 를 호출하지 않은 요청 수")
+                    .tags("index", index)
+                    .register(meterRegistry));
+    
+    private final MeterTable<Counter> negativeCacheLookups = new MeterTable<>((index, result, ignored) ->
+            Counter.builder("search.negative_cache.lookups")
+                    .description("네거티브 캐시 조회 (result=miss: 없는 값이라 ES 호출 생략, pass: ES 로 전달)")
+                    .tags("index", index, "result", result)
+                    .register(meterRegistry));
+    
+    private final MeterTable<Counter> fallbacks = new MeterTable<>((operation, result, ignored) ->
+            Counter.builder("search.fallback")
+                    .description("서킷 브레이커가 열렸을 때 이전 검색 결과 응답 (result=stale: 응답, miss: 캐시 없음)")
+                    .tags("operation", operation, "result", result)
+                    .register(meterRegistry));
+    
+    private final MeterTable<Timer> requests = new MeterTable<>((operation, index, outcome) ->
+            Timer.builder("search.requests")
+                    .description("검색 작업 전체 처리 시간 (ES 호출 + 응답 변환)")
+                    .tags("operation", operation, "index", index, "outcome", outcome)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+    
+    private final MeterTable<Counter> errors = new MeterTable<>((operation, index, exception) ->
+            Counter.builder("search.errors")
+                    .description("검색 오류 수")
+                    .tags("operation", operation, "index", index, "exception", exception)
+                    .register(meterRegistry));
+    
+    private final MeterTable<Timer> esTook = new MeterTable<>((operation, index, ignored) ->
+            Timer.builder("search.es.took")
+                    .description("ES 가 보고한 검색 처리 시간")
+                    .tags("operation", operation, "index", index)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+    
+    private final MeterTable<Timer> esOverhead = new MeterTable<>((operation, index, ignored) ->
+            Timer.builder("search.es.overhead")
+                    .description("ES 왕복 시간 중 took 을 뺀 시간 (네트워크, 응답 파싱)")
+                    .tags("operation", operation, "index", index)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+    
+    private final MeterTable<Timer> mapping = new MeterTable<>((operation, index, ignored) ->
+            Timer.builder("search.mapping")
+                    .description("검색 히트를 응답 객체로 변환하는 시간")
+                    .tags("operation", operation, "index", index)
+                    .register(meterRegistry));
+    
+    /**
+     * 검색어 유형 - 완전한 해시/주소는 term 조회, 부분 hex 는 prefix(wildcard 계열), 텍스트는 fuzzy multi_match
+     */
+    public static String queryClass(String query) {
+        switch (QueryClassifier.classify(query)) {
+            case TX_HASH:
+                return "hash";
+            case ADDRESS:
+                return "address";
+            case HEX_FRAGMENT:
+            case TRUNCATED_HEX:
+                return "wildcard";
+            default:
+                return "fuzzy";
+        }
+    }
+    
+    public void countQuery(String operation, String queryClass) {
+        queries.get(operation, queryClass, NONE).increment();
+    }
+    
+    /**
+     * 합치기 비율 = follower / (leader + follower)
+     */
+    public void countCoalescing(String operation, boolean leader) {
+        coalescing.get(operation, leader ? "leader" : "follower", NONE).increment();
+    }
+    
+    public void countHedge(String target, boolean won) {
+        hedges.get(target, won ? "won" : "lost", NONE).increment();
+    }
+    
+    public void countHedgeSkipped(String target) {
+        hedges.get(target, "skipped", NONE).increment();
+    }
+    
+    public void registerBreaker(String index, CircuitBreaker breaker) {
+        Gauge.builder("search.breaker.state", breaker, b -> b.state().ordinal())
+                .description("ES 서킷 브레이커 상태 (0 closed, 1 open, 2 half-open)")
+                .tags("index", index)
+                .register(meterRegistry);
+    }
+    
+    public void countBreakerRejected(String index) {
+        breakerRejected.get(index, NONE, NONE).increment();
+    }
+    
+    public void registerNegativeCache(String index, NegativeLookupCache cache) {
+        Gauge.builder("search.negative_cache.memory", cache, c -> c.memoryBytes(index))
+                .description("네거티브 캐시 Bloom 필터 메모리")
+                .baseUnit("bytes")
+                .tags("index", index)
+                .register(meterRegistry);
+        Gauge.builder("search.negative_cache.fpp", cache, c -> c.expectedFpp(index))
+                .description("네거티브 캐시 예상 거짓 양성 비율 (네트워크별 필터 중 최댓값)")
+                .tags("index", index)
+                .register(meterRegistry);
+        Gauge.builder("search.negative_cache.insertions", cache, c -> c.insertions(index))
+                .description("네거티브 캐시에 기록한 값 수")
+                .tags("index", index)
+                .register(meterRegistry);
+    }
+    
+    public void countNegativeCache(String index, boolean exists) {
+        negativeCacheLookups.get(index, exists ? "pass" : "miss", NONE).increment();
+    }
+    
+    public void countFallback(String operation, boolean served) {
+        fallbacks.get(operation, served ? "stale" : "miss", NONE).increment();
+    }
+    
+    /**
+     * 작업 전체 처리 시간 기록 - error 가 있으면 오류 카운터도 증가 (취소는 데드라인 초과/연결 종료이므로 제외)
+     */
+    public void recordRequest(String operation, String index, long startNanos, Throwable error) {
+        Throwable cause = error != null ? EsFutures.unwrap(error) : null;
+        String outcome = cause == null ? "success" : cause instanceof CancellationException ? "cancelled" : "error";
+        
+        requests.get(operation, indexTag(index), outcome)
+                .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+        
+        if ("error".equals(outcome)) {
+            errors.get(operation, indexTag(index), cause.getClass().getSimpleName()).increment();
+        }
+    }
+    
+    /**
+     * ES 호출 한 건의 took / 클라이언트 쪽 오버헤드 기록 - call 은 이 메서드 안에서 요청을 보내야 왕복 시간이 정확함
+     */
+    public CompletableFuture<org.elasticsearch.action.search.SearchResponse> timeEs(
+            String operation, String index, Supplier<CompletableFuture<org.elasticsearch.action.search.SearchResponse>> call) {
+        long startNanos = System.nanoTime();
+        CompletableFuture<org.elasticsearch.action.search.SearchResponse> future = call.get();
+        future.whenComplete((response, error) -> {
+            if (response != null) {
+                recordEs(operation, index, response, System.nanoTime() - startNanos);
+            }
+        });
+        return future;
+    }
+    
+    /**
+     * _msearch 처럼 왕복 한 번에 여러 응답이 오는 경우 항목별로 호출
+     */
+    public void recordEs(String operation, String index, org.elasticsearch.action.search.SearchResponse response,
+                         long roundTripNanos) {
+        long tookNanos = response.getTook().nanos();
+        String indexTag = indexTag(index);
+        esTook.get(operation, indexTag, NONE).record(tookNanos, TimeUnit.NANOSECONDS);
+        esOverhead.get(operation, indexTag, NONE).record(Math.max(roundTripNanos - tookNanos, 0), TimeUnit.NANOSECONDS);
+    }
+    
+    public <T> T timeMapping(String operation, String index, Supplier<T> call) {
+        return mapping.get(operation, indexTag(index), NONE).record(call);
+    }
+    
+    /**
+     * 태그/브레이커 키로 쓸 인덱스 이름 - 알려진 인덱스 외에는 other
+     */
+    public static String indexTag(String index) {
+        return index != null && KNOWN_INDICES.contains(index) ? index : "other";
+    }
+    
+    /**
+     * 태그 값(최대 3개, 안 쓰는 자리는 NONE) 조합별 미터 - 태그 값 순서대로 중첩한 맵이라 조회 시 객체를 만들지 않음
+     * 태그 값은 작업 이름, indexTag, 고정 결과 값 등 개수가 제한된 값만 사용
+     */
+    private static final class MeterTable<M> {
+        
+        private final ConcurrentMap<String, ConcurrentMap<String, ConcurrentMap<String, M>>> meters =
+                new ConcurrentHashMap<>();
+        private final MeterFactory<M> factory;
+        
+        MeterTable(MeterFactory<M> factory) {
+            this.factory = factory;
+        }
+        
+        M get(String first, String second, String third) {
+            ConcurrentMap<String, ConcurrentMap<String, M>> byFirst = meters.get(first);
+            if (byFirst == null) {
+                byFirst = meters.computeIfAbsent(first, ignored -> new ConcurrentHashMap<>());
+            }
+            ConcurrentMap<String, M> bySecond = byFirst.get(second);
+            if (bySecond == null) {
+                bySecond = byFirst.computeIfAbsent(second, ignored -> new ConcurrentHashMap<>());
+            }
+            M meter = bySecond.get(third);
+            if (meter == null) {
+                meter = bySecond.computeIfAbsent(third, ignored -> factory.create(first, second, third));
+            }
+            return meter;
+        }
+    }
+    
+    @FunctionalInterface
+    private interface MeterFactory<M> {
+        M create(String first, String second, String third);
+    }
+}
@@ -1,20 +1,34 @@
 package com.blockchain.search.model;
 
 import org.springframework.data.annotation.Id;
+import org.springframework.data.elasticsearch.annotations.CompletionContext;
+import org.springframework.data.elasticsearch.annotations.CompletionField;
 import org.springframework.data.elasticsearch.annotations.Document;
 import org.springframework.data.elasticsearch.annotations.Field;
 import org.springframework.data.elasticsearch.annotations.FieldType;
+import org.springframework.data.elasticsearch.annotations.InnerField;
+import org.springframework.data.elasticsearch.annotations.MultiField;
+import org.springframework.data.elasticsearch.annotations.Setting;
+import org.springframework.data.elasticsearch.core.suggest.Completion;
 
 import java.time.LocalDateTime;
 import java.util.List;
 
 @Document(indexName = "addresses")
+@Setting(settingPath = "elasticsearch/analysis.json")
 public class Address {
     
     @Id
     private String id;
     
-    @Field(type = FieldType.Keyword, analyzer = "address_analyzer")
+    @MultiField(
+            mainField = @Field(type = FieldType.Keyword, normalizer = "hex_normalizer"),
+            otherFields = {
+                    @InnerField(suffix = "prefix", type = FieldType.Text,
+                            analyzer = "hex_prefix_analyzer", searchAnalyzer = "hex_search_analyzer"),
+                    @InnerField(suffix = "reversed", type = FieldType.Text,
+                            analyzer = "hex_reverse_analyzer", searchAnalyzer = "hex_search_analyzer")
+            })
     private String address;
     
     @Field(type = FieldType.Keyword)
@@ -41,6 +55,11 @@ public class Address {
     @Field(type = FieldType.Boolean)
     private Boolean verified;
     
+    @CompletionField(maxInputLength = 100, contexts = {
+            @CompletionContext(name = "network", type = CompletionContext.ContextMappingType.CATEGORY, path = "network")
+    })
+    private Completion suggest; // 자동완성 (ENS name or contract name)
+    
     // Nested class for token balances
     public static class TokenBalance {
         @Field(type = FieldType.Keyword)
@@ -124,6 +143,9 @@ public class Address {
     public Boolean getVerified() { return verified; }
     public void setVerified(Boolean verified) { this.verified = verified; }
     
+    public Completion getSuggest() { return suggest; }
+    public void setSuggest(Completion suggest) { this.suggest = suggest; }
+    
     @Override
     public String toString() {
         return "Address{" +
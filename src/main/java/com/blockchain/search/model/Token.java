@@ -1,19 +1,33 @@
 package com.blockchain.search.model;
 
 import org.springframework.data.annotation.Id;
+import org.springframework.data.elasticsearch.annotations.CompletionContext;
+import org.springframework.data.elasticsearch.annotations.CompletionField;
 import org.springframework.data.elasticsearch.annotations.Document;
 import org.springframework.data.elasticsearch.annotations.Field;
 import org.springframework.data.elasticsearch.annotations.FieldType;
+import org.springframework.data.elasticsearch.annotations.InnerField;
+import org.springframework.data.elasticsearch.annotations.MultiField;
+import org.springframework.data.elasticsearch.annotations.Setting;
+import org.springframework.data.elasticsearch.core.suggest.Completion;
 
 import java.math.BigDecimal;
 
 @Document(indexName = "tokens")
+@Setting(settingPath = "elasticsearch/analysis.json")
 public class Token {
     
     @Id
     private String id;
     
-    @Field(type = FieldType.Keyword)
+    @MultiField(
+            mainField = @Field(type = FieldType.Keyword, normalizer = "hex_normalizer"),
+            otherFields = {
+                    @InnerField(suffix = "prefix", type = FieldType.Text,
+                            analyzer = "hex_prefix_analyzer", searchAnalyzer = "hex_search_analyzer"),
+                    @InnerField(suffix = "reversed", type = FieldType.Text,
+                            analyzer = "hex_reverse_analyzer", searchAnalyzer = "hex_search_analyzer")
+            })
     private String tokenAddress;
     
     @Field(type = FieldType.Keyword)
@@ -22,7 +36,7 @@ public class Token {
     @Field(type = FieldType.Text, analyzer = "token_analyzer", searchAnalyzer = "token_search_analyzer")
     private String symbol;
     
-    @Field(type = FieldType.Text, analyzer = "token_analyzer")
+    @Field(type = FieldType.Text, analyzer = "token_analyzer", searchAnalyzer = "token_search_analyzer")
     private String name;
     
     @Field(type = FieldType.Integer)
@@ -52,6 +66,11 @@ public class Token {
     @Field(type = FieldType.Keyword)
     private String description;
     
+    @CompletionField(maxInputLength = 100, contexts = {
+            @CompletionContext(name = "network", type = CompletionContext.ContextMappingType.CATEGORY, path = "network")
+    })
+    private Completion suggest; // 자동완성 (symbol, name)
+    
     // Constructors
     public Token() {}
     
@@ -105,6 +124,9 @@ public class Token {
     public String getDescription() { return description; }
     public void setDescription(String description) { this.description = description; }
     
+    public Completion getSuggest() { return suggest; }
+    public void setSuggest(Completion suggest) { this.suggest = suggest; }
+    
     @Override
     public String toString() {
         return "Token{" +
@@ -5,32 +5,57 @@ import org.springframework.data.annotation.Id;
 import org.springframework.data.elasticsearch.annotations.Document;
 import org.springframework.data.elasticsearch.annotations.Field;
 import org.springframework.data.elasticsearch.annotations.FieldType;
+import org.springframework.data.elasticsearch.annotations.InnerField;
+import org.springframework.data.elasticsearch.annotations.MultiField;
+import org.springframework.data.elasticsearch.annotations.Setting;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Document(indexName = "transactions")
+@Setting(settingPath = "elasticsearch/analysis.json")
 public class Transaction {
     
     @Id
     private String id;
     
-    @Field(type = FieldType.Keyword, analyzer = "hash_analyzer")
+    @MultiField(
+            mainField = @Field(type = FieldType.Keyword, normalizer = "hex_normalizer"),
+            otherFields = {
+                    @InnerField(suffix = "prefix", type = FieldType.Text,
+                            analyzer = "hex_prefix_analyzer", searchAnalyzer = "hex_search_analyzer"),
+                    @InnerField(suffix = "reversed", type = FieldType.Text,
+                            analyzer = "hex_reverse_analyzer", searchAnalyzer = "hex_search_analyzer")
+            })
     private String txHash;
     
     @Field(type = FieldType.Keyword)
     private String network;
     
-    @Field(type = FieldType.Keyword, analyzer = "address_analyzer")
+    @MultiField(
+            mainField = @Field(type = FieldType.Keyword, normalizer = "hex_normalizer"),
+            otherFields = {
+                    @InnerField(suffix = "prefix", type = FieldType.Text,
+                            analyzer = "hex_prefix_analyzer", searchAnalyzer = "hex_search_analyzer"),
+                    @InnerField(suffix = "reversed", type = FieldType.Text,
+                            analyzer = "hex_reverse_analyzer", searchAnalyzer = "hex_search_analyzer")
+            })
     private String fromAddress;
     
-    @Field(type = FieldType.Keyword, analyzer = "address_analyzer")
+    @MultiField(
+            mainField = @Field(type = FieldType.Keyword, normalizer = "hex_normalizer"),
+            otherFields = {
+                    @InnerField(suffix = "prefix", type = FieldType.Text,
+                            analyzer = "hex_prefix_analyzer", searchAnalyzer = "hex_search_analyzer"),
+                    @InnerField(suffix = "reversed", type = FieldType.Text,
+                            analyzer = "hex_reverse_analyzer", searchAnalyzer = "hex_search_analyzer")
+            })
     private String toAddress;
     
     @Field(type = FieldType.Long)
     private Long blockNumber;
     
-    @Field(type = FieldType.Date)
+    @Field(type = FieldType.Date, format = {}, pattern = "uuuu-MM-dd HH:mm:ss") // @JsonFormat 과 같은 형식
     @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
     private LocalDateTime timestamp;
     
@@ -52,7 +77,7 @@ public class Transaction {
     @Field(type = FieldType.Keyword)
     private String status;
     
-    @Field(type = FieldType.Text)
+    @Field(type = FieldType.Keyword, index = false, docValues = false) // 조회 응답용으로 _source 에만 보관
     private String inputData;
     
     // Constructors
@@ -0,0 +1,130 @@
+package com.blockchain.search.resilience;
+
+import java.util.function.LongSupplier;
+
+/**
+ * 인덱스별 서킷 브레이커 - 최근 windowSize 건 중 실패 비율이 임계값을 넘으면 열림(OPEN)
+ * 열린 동안은 ES 를 호출하지 않고 즉시 실패하며, openNanos 가 지나면 halfOpenCalls 건만 시험 호출(HALF_OPEN)
+ * 시험 호출이 모두 성공하면 닫히고(CLOSED) 하나라도 실패하면 다시 열림
+ */
+public class CircuitBreaker {
+    
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+    
+    private final int minimumCalls;
+    private final double failureRateThreshold;
+    private final long openNanos;
+    private final int halfOpenCalls;
+    private final LongSupplier nanoClock;
+    
+    // 최근 호출 결과 (true: 실패) - guarded by this
+    private final boolean[] outcomes;
+    private int next;
+    private int recorded;
+    private int failures;
+    
+    private State state = State.CLOSED;
+    private long openedAt;
+    private int trialPermits;
+    private int trialSuccesses;
+    
+    /**
+     * @param failureRateThreshold 0~1
+     */
+    public CircuitBreaker(int windowSize, int minimumCalls, double failureRateThreshold, long openNanos,
+                          int halfOpenCalls) {
+        this(windowSize, minimumCalls, failureRateThreshold, openNanos, halfOpenCalls, System::nanoTime);
+    }
+    
+    CircuitBreaker(int windowSize, int minimumCalls, double failureRateThreshold, long openNanos,
+                   int halfOpenCalls, LongSupplier nanoClock) {
+        this.nanoClock = nanoClock;
+        this.outcomes = new boolean[windowSize];
+        this.minimumCalls = Math.min(minimumCalls, windowSize);
+        this.failureRateThreshold = failureRateThreshold;
+        this.openNanos = openNanos;
+        this.halfOpenCalls = Math.max(halfOpenCalls, 1);
+    }
+    
+    /**
+     * 호출 허용 여부 - true 면 호출 결과를 onSuccess/onFailure/onIgnored 중 하나로 반드시 알려야 함
+     */
+    public synchronized boolean tryAcquire() {
+        if (state == State.OPEN) {
+            if (nanoClock.getAsLong() - openedAt < openNanos) {
+                return false;
+            }
+            state = State.HALF_OPEN;
+            trialPermits = halfOpenCalls;
+            trialSuccesses = 0;
+        }
+        if (state == State.HALF_OPEN) {
+            if (trialPermits == 0) {
+                return false;
+            }
+            trialPermits--;
+        }
+        return true;
+    }
+    
+    public synchronized void onSuccess() {
+        if (state == State.HALF_OPEN) {
+            if (++trialSuccesses >= halfOpenCalls) {
+                close();
+            }
+        } else if (state == State.CLOSED) {
+            record(false);
+        }
+    }
+    
+    public synchronized void onFailure() {
+        if (state == State.HALF_OPEN) {
+            open();
+        } else if (state == State.CLOSED) {
+            record(true);
+            if (recorded >= minimumCalls && failures >= failureRateThreshold * recorded) {
+                open();
+            }
+        }
+    }
+    
+    /**
+     * 판단에 쓰지 않는 결과 (취소, 잘못된 쿼리 등) - 시험 호출이었다면 허용 횟수를 돌려줌
+     */
+    public synchronized void onIgnored() {
+        if (state == State.HALF_OPEN) {
+            trialPermits++;
+        }
+    }
+    
+    public synchronized State state() {
+        return state;
+    }
+    
+    private void record(boolean failure) {
+        if (recorded == outcomes.length) {
+            if (outcomes[next]) {
+                failures--;
+            }
+        } else {
+            recorded++;
+        }
+        outcomes[next] = failure;
+        if (failure) {
+            failures++;
+        }
+        next = (next + 1) % outcomes.length;
+    }
+    
+    private void open() {
+        state = State.OPEN;
+        openedAt = nanoClock.getAsLong();
+    }
+    
+    private void close() {
+        state = State.CLOSED;
+        next = 0;
+        recorded = 0;
+        failures = 0;
+    }
+}
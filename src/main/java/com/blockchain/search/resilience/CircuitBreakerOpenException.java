@@ -0,0 +1,18 @@
+package com.blockchain.search.resilience;
+
+/**
+ * 서킷 브레이커가 열려 ES 를 호출하지 않고 실패한 요청
+ */
+public class CircuitBreakerOpenException extends RuntimeException {
+    
+    private final String index;
+    
+    public CircuitBreakerOpenException(String index) {
+        super("ES 서킷 브레이커가 열려 있습니다: " + index);
+        this.index = index;
+    }
+    
+    public String getIndex() {
+        return index;
+    }
+}
@@ -0,0 +1,56 @@
+package com.blockchain.search.resilience;
+
+import java.util.Arrays;
+
+/**
+ * 최근 응답 시간의 백분위 추정 - 고정 크기 링 버퍼에 기록하고 REFRESH_EVERY 건마다 정렬해 다시 계산
+ * 요청마다 정렬하지 않으므로 조회 비용은 필드 읽기 수준
+ */
+public class LatencyWindow {
+    
+    private static final int REFRESH_EVERY = 64;
+    
+    private final long[] samples; // guarded by this
+    private final double percentile;
+    private int next;
+    private int recorded;
+    private int sinceRefresh;
+    
+    private volatile long percentileNanos = -1;
+    
+    /**
+     * @param percentile 0~1 (예: 0.95)
+     */
+    public LatencyWindow(int size, double percentile) {
+        this.samples = new long[size];
+        this.percentile = percentile;
+    }
+    
+    public void record(long nanos) {
+        long[] snapshot = null;
+        int count = 0;
+        synchronized (this) {
+            samples[next] = nanos;
+            next = (next + 1) % samples.length;
+            if (recorded < samples.length) {
+                recorded++;
+            }
+            if (++sinceRefresh >= REFRESH_EVERY) {
+                sinceRefresh = 0;
+                count = recorded;
+                snapshot = Arrays.copyOf(samples, count);
+            }
+        }
+        if (snapshot != null) {
+            Arrays.sort(snapshot);
+            percentileNanos = snapshot[Math.min((int) Math.ceil(percentile * count) - 1, count - 1)];
+        }
+    }
+    
+    /**
+     * 백분위 값, 아직 표본이 부족하면 -1
+     */
+    public long percentileNanos() {
+        return percentileNanos;
+    }
+}
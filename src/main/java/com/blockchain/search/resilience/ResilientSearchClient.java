@@ -0,0 +1,319 @@
+package com.blockchain.search.resilience;
+
+import com.blockchain.search.metrics.SearchMetrics;
+import com.blockchain.search.util.EsFutures;
+import org.elasticsearch.ElasticsearchStatusException;
+import org.elasticsearch.action.ActionListener;
+import org.elasticsearch.action.search.MultiSearchRequest;
+import org.elasticsearch.action.search.MultiSearchResponse;
+import org.elasticsearch.client.Cancellable;
+import org.elasticsearch.client.RequestOptions;
+import org.elasticsearch.client.ResponseException;
+import org.elasticsearch.client.RestHighLevelClient;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * 요청 경로의 ES 검색 호출을 감싸는 복원력 계층
+ * - 서킷 브레이커: 인덱스별로 실패(연결 오류, 5xx/429, slow-call 이상 걸린 호출)가 몰리면 열려서 즉시 실패
+ *   (CircuitBreakerOpenException) - 장애 중인 클러스터에 요청이 계속 쌓이지 않도록 함
+ * - 헤지 요청: 응답이 최근 p95(hedge.percentile)를 넘도록 오지 않으면 같은 요청을 한 번 더 보내고 먼저 온 응답 사용
+ *   RestClient 가 노드를 돌아가며 고르므로 두 번째 요청은 다른 노드(elasticsearch.hosts)로 감
+ *   늦은 쪽은 취소하며, 동시에 나가는 헤지 수는 hedge.max-in-flight 로 제한 (클러스터 전체가 느릴 때 부하가 두 배가 되지 않도록)
+ * 검색은 읽기 전용이라 중복 실행해도 안전함
+ */
+@Component
+public class ResilientSearchClient {
+    
+    @Autowired
+    @Qualifier("customElasticsearchClient")
+    private RestHighLevelClient elasticsearchClient;
+    
+    @Autowired
+    private SearchMetrics searchMetrics;
+    
+    @Value("${search.resilience.circuit-breaker.enabled:true}")
+    private boolean circuitBreakerEnabled;
+    
+    @Value("${search.resilience.circuit-breaker.window-size:50}")
+    private int windowSize;
+    
+    @Value("${search.resilience.circuit-breaker.minimum-calls:20}")
+    private int minimumCalls;
+    
+    @Value("${search.resilience.circuit-breaker.failure-rate-threshold:50}")
+    private int failureRateThreshold;
+    
+    @Value("${search.resilience.circuit-breaker.slow-call-duration:5000}")
+    private long slowCallDuration;
+    
+    @Value("${search.resilience.circuit-breaker.open-duration:30000}")
+    private long openDuration;
+    
+    @Value("${search.resilience.circuit-breaker.half-open-calls:3}")
+    private int halfOpenCalls;
+    
+    @Value("${search.resilience.hedge.enabled:true}")
+    private boolean hedgeEnabled;
+    
+    @Value("${search.resilience.hedge.percentile:0.95}")
+    private double hedgePercentile;
+    
+    @Value("${search.resilience.hedge.min-delay:20}")
+    private long hedgeMinDelay;
+    
+    @Value("${search.resilience.hedge.max-in-flight:16}")
+    private int hedgeMaxInFlight;
+    
+    private final ConcurrentMap<String, CircuitBreaker> breakers = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, LatencyWindow> latencies = new ConcurrentHashMap<>();
+    private final ScheduledThreadPoolExecutor hedgeScheduler = hedgeScheduler();
+    private Semaphore hedgeBudget;
+    
+    @PostConstruct
+    public void init() {
+        hedgeBudget = new Semaphore(hedgeMaxInFlight);
+    }
+    
+    public CompletableFuture<org.elasticsearch.action.search.SearchResponse> search(
+            String index, org.elasticsearch.action.search.SearchRequest searchRequest) {
+        String key = SearchMetrics.indexTag(index);
+        CircuitBreaker breaker = breaker(key);
+        if (!breaker.tryAcquire()) {
+            searchMetrics.countBreakerRejected(key);
+            return failed(new CircuitBreakerOpenException(key));
+        }
+        long startNanos = System.nanoTime();
+        CompletableFuture<org.elasticsearch.action.search.SearchResponse> result = hedged(key,
+                listener -> elasticsearchClient.searchAsync(searchRequest, RequestOptions.DEFAULT, listener));
+        result.whenComplete((response, error) -> record(breaker, error, startNanos));
+        return result;
+    }
+    
+    /**
+     * _msearch - 대상 인덱스 브레이커가 모두 허용해야 전송하고, 결과는 항목별로 해당 인덱스 브레이커에 기록
+     */
+    public CompletableFuture<MultiSearchResponse> msearch(List<String> indices, MultiSearchRequest multiSearchRequest) {
+        List<CircuitBreaker> acquired = new ArrayList<>();
+        Set<String> keys = new LinkedHashSet<>();
+        indices.forEach(index -> keys.add(SearchMetrics.indexTag(index)));
+        for (String key : keys) {
+            CircuitBreaker breaker = breaker(key);
+            if (!breaker.tryAcquire()) {
+                acquired.forEach(CircuitBreaker::onIgnored);
+                searchMetrics.countBreakerRejected(key);
+                return failed(new CircuitBreakerOpenException(key));
+            }
+            acquired.add(breaker);
+        }
+        long startNanos = System.nanoTime();
+        CompletableFuture<MultiSearchResponse> result = hedged("msearch:" + String.join(",", keys),
+                listener -> elasticsearchClient.msearchAsync(multiSearchRequest, RequestOptions.DEFAULT, listener));
+        result.whenComplete((response, error) -> {
+            if (response == null) {
+                acquired.forEach(breaker -> record(breaker, error, startNanos));
+                return;
+            }
+            // 같은 인덱스가 여러 항목이면 실패가 하나라도 있으면 실패로 기록
+            Map<String, Throwable> failures = new HashMap<>();
+            MultiSearchResponse.Item[] items = response.getResponses();
+            for (int i = 0; i < items.length && i < indices.size(); i++) {
+                if (items[i].isFailure() && isFailure(items[i].getFailure())) {
+                    failures.putIfAbsent(SearchMetrics.indexTag(indices.get(i)), items[i].getFailure());
+                }
+            }
+            int i = 0;
+            for (String key : keys) {
+                record(acquired.get(i++), failures.get(key), startNanos);
+            }
+        });
+        return result;
+    }
+    
+    public CircuitBreaker.State state(String index) {
+        CircuitBreaker breaker = breakers.get(SearchMetrics.indexTag(index));
+        return breaker != null ? breaker.state() : CircuitBreaker.State.CLOSED;
+    }
+    
+    private CircuitBreaker breaker(String key) {
+        return breakers.computeIfAbsent(key, ignored -> {
+            CircuitBreaker breaker = new CircuitBreaker(windowSize, minimumCalls, failureRateThreshold / 100.0,
+                    TimeUnit.MILLISECONDS.toNanos(openDuration), halfOpenCalls);
+            searchMetrics.registerBreaker(key, breaker);
+            return breaker;
+        });
+    }
+    
+    private void record(CircuitBreaker breaker, Throwable error, long startNanos) {
+        if (!circuitBreakerEnabled) {
+            return;
+        }
+        boolean slow = System.nanoTime() - startNanos >= TimeUnit.MILLISECONDS.toNanos(slowCallDuration);
+        Throwable cause = error != null ? EsFutures.unwrap(error) : null;
+        if (slow || (cause != null && isFailure(cause))) {
+            breaker.onFailure();
+        } else if (cause == null) {
+            breaker.onSuccess();
+        } else {
+            breaker.onIgnored();
+        }
+    }
+    
+    /**
+     * 클러스터 상태를 나타내는 오류만 실패로 봄 - 취소(데드라인/연결 종료)와 4xx(잘못된 쿼리)는 제외, 429 는 포함
+     */
+    private static boolean isFailure(Throwable cause) {
+        if (cause instanceof CancellationException) {
+            return false;
+        }
+        int status = -1;
+        if (cause instanceof ElasticsearchStatusException) {
+            status = ((ElasticsearchStatusException) cause).status().getStatus();
+        } else if (cause instanceof ResponseException) {
+            status = ((ResponseException) cause).getResponse().getStatusLine().getStatusCode();
+        }
+        return status < 0 || status >= 500 || status == 429;
+    }
+    
+    /**
+     * 원 요청이 key 의 최근 백분위 응답 시간 안에 끝나지 않으면 헤지 요청을 보내고 먼저 성공한 응답으로 완료
+     * 한쪽이 실패하면 다른 쪽을 기다리고, 결과 future 를 취소하면 진행 중인 요청을 모두 취소
+     */
+    private <T> CompletableFuture<T> hedged(String key, Function<ActionListener<T>, Cancellable> call) {
+        LatencyWindow window = latencies.computeIfAbsent(key, ignored -> new LatencyWindow(1024, hedgePercentile));
+        long startNanos = System.nanoTime();
+        HedgedCall<T> hedgedCall = new HedgedCall<>();
+        hedgedCall.attempt(EsFutures.execute(call), false);
+        
+        long percentileNanos = window.percentileNanos();
+        ScheduledFuture<?> hedgeTimer = null;
+        if (hedgeEnabled && percentileNanos > 0) {
+            long delayNanos = Math.max(percentileNanos, TimeUnit.MILLISECONDS.toNanos(hedgeMinDelay));
+            hedgeTimer = hedgeScheduler.schedule(() -> sendHedge(key, hedgedCall, call), delayNanos,
+                    TimeUnit.NANOSECONDS);
+        }
+        
+        ScheduledFuture<?> timer = hedgeTimer;
+        hedgedCall.result.whenComplete((value, error) -> {
+            if (timer != null) {
+                timer.cancel(false);
+            }
+            hedgedCall.cancelRemaining();
+            if (error == null) {
+                window.record(System.nanoTime() - startNanos);
+            }
+            if (hedgedCall.hedged) {
+                searchMetrics.countHedge(key, hedgedCall.hedgeWon);
+            }
+        });
+        return hedgedCall.result;
+    }
+    
+    private <T> void sendHedge(String key, HedgedCall<T> hedgedCall, Function<ActionListener<T>, Cancellable> call) {
+        // 브레이커가 시험 호출 중(HALF_OPEN)이면 헤지하지 않음
+        if (hedgedCall.result.isDone()
+                || (!key.startsWith("msearch:") && state(key) != CircuitBreaker.State.CLOSED)) {
+            return;
+        }
+        Semaphore budget = hedgeBudget;
+        if (!budget.tryAcquire()) {
+            searchMetrics.countHedgeSkipped(key);
+            return;
+        }
+        CompletableFuture<T> hedge = EsFutures.execute(call);
+        hedge.whenComplete((value, error) -> budget.release());
+        hedgedCall.attempt(hedge, true);
+    }
+    
+    private static ScheduledThreadPoolExecutor hedgeScheduler() {
+        ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "search-hedge");
+            thread.setDaemon(true);
+            return thread;
+        });
+        // 대부분의 타이머는 원 요청이 먼저 끝나 취소되므로 큐에서 바로 제거
+        scheduler.setRemoveOnCancelPolicy(true);
+        return scheduler;
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        hedgeScheduler.shutdownNow();
+    }
+    
+    private static <T> CompletableFuture<T> failed(Throwable error) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        future.completeExceptionally(error);
+        return future;
+    }
+    
+    /**
+     * 원 요청과 헤지 요청 중 먼저 성공한 응답으로 result 를 완료
+     */
+    static class HedgedCall<T> {
+        
+        final CompletableFuture<T> result = new CompletableFuture<>();
+        private final List<CompletableFuture<T>> attempts = new ArrayList<>(2); // guarded by this
+        private int pending; // guarded by this
+        private boolean settled; // guarded by this
+        volatile boolean hedged;
+        volatile boolean hedgeWon;
+        
+        void attempt(CompletableFuture<T> attempt, boolean hedge) {
+            synchronized (this) {
+                if (!result.isDone()) {
+                    attempts.add(attempt);
+                    pending++;
+                    hedged |= hedge;
+                    attempt.whenComplete((value, error) -> complete(value, error, hedge));
+                    return;
+                }
+            }
+            attempt.cancel(true);
+        }
+        
+        private void complete(T value, Throwable error, boolean hedge) {
+            synchronized (this) {
+                pending--;
+                if (settled || (error != null && pending > 0)) {
+                    return;
+                }
+                settled = true;
+                hedgeWon = error == null && hedge;
+            }
+            if (error == null) {
+                result.complete(value);
+            } else {
+                result.completeExceptionally(error);
+            }
+        }
+        
+        void cancelRemaining() {
+            List<CompletableFuture<T>> remaining;
+            synchronized (this) {
+                remaining = new ArrayList<>(attempts);
+            }
+            remaining.forEach(attempt -> attempt.cancel(true));
+        }
+    }
+}
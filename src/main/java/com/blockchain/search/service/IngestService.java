@@ -0,0 +1,18 @@
+package com.blockchain.search.service;
+
+import com.blockchain.search.ingest.BulkIndexer;
+
+import java.io.InputStream;
+
+public interface IngestService {
+    
+    /**
+     * NDJSON/CSV 파일 적재 - 모든 배치가 끝날 때까지 대기 후 통계 반환
+     */
+    BulkIndexer.Stats load(String index, InputStream input, String format, String filename);
+    
+    /**
+     * 설정값(ingest.bulk.*)이 적용된 새 벌크 색인기 - 호출자가 close 해야 함
+     */
+    BulkIndexer createIndexer();
+}
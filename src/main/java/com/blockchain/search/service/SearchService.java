@@ -6,8 +6,10 @@ import com.blockchain.search.model.Address;
 import com.blockchain.search.model.Token;
 import com.blockchain.search.model.Transaction;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 public interface SearchService {
     
@@ -16,6 +18,11 @@ public interface SearchService {
      */
     SearchResponse search(SearchRequest request);
     
+    /**
+     * 통합 검색 (비동기) - ES 응답을 기다리는 동안 요청 스레드를 점유하지 않음
+     */
+    CompletableFuture<SearchResponse> searchAsync(SearchRequest request);
+    
     /**
      * 트랜잭션 검색
      */
@@ -31,21 +38,47 @@ public interface SearchService {
      */
     List<Token> searchTokens(String query, String network, int page, int size);
     
+    /**
+     * 트랜잭션 해시 일괄 조회 - 정규화(소문자)한 해시별 트랜잭션, 찾지 못한 해시는 결과에 없음
+     */
+    CompletableFuture<Map<String, Transaction>> findTransactionsAsync(Collection<String> hashes, String network);
+    
+    /**
+     * 주소 일괄 조회 - 정규화(소문자)한 주소별 주소 정보, 찾지 못한 주소는 결과에 없음
+     */
+    CompletableFuture<Map<String, Address>> findAddressesAsync(Collection<String> addresses, String network);
+    
     /**
      * 자동완성 검색
      */
     List<Map<String, Object>> autocomplete(String query, String network, String type, int maxResults);
     
     /**
-     * URL 방식으로 Elasticsearch 검색
+     * 자동완성 검색 (비동기)
      */
-    Map<String, Object> searchByUrl(String query, String index, int size, String network);
+    CompletableFuture<List<Map<String, Object>>> autocompleteAsync(String query, String network, String type, int maxResults);
+    
+    /**
+     * URL 방식으로 Elasticsearch 검색 (projection: summary, detail, autocomplete - 비어 있으면 detail)
+     */
+    Map<String, Object> searchByUrl(String query, String index, int size, String network, String projection);
+    
+    /**
+     * URL 방식으로 Elasticsearch 검색 (비동기)
+     */
+    CompletableFuture<Map<String, Object>> searchByUrlAsync(String query, String index, int size, String network,
+                                                            String projection);
     
     /**
      * Query DSL 방식으로 Elasticsearch 검색
      */
     Map<String, Object> searchByQuery(String index, Map<String, Object> query, int size);
     
+    /**
+     * Query DSL 방식으로 Elasticsearch 검색 (비동기)
+     */
+    CompletableFuture<Map<String, Object>> searchByQueryAsync(String index, Map<String, Object> query, int size);
+    
     /**
      * 인덱스 상태 확인
      */
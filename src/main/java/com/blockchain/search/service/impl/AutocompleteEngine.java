@@ -0,0 +1,331 @@
+package com.blockchain.search.service.impl;
+
+import com.blockchain.search.dto.SourceProjection;
+import com.blockchain.search.metrics.SearchMetrics;
+import com.blockchain.search.model.Address;
+import com.blockchain.search.model.Token;
+import com.blockchain.search.resilience.ResilientSearchClient;
+import com.blockchain.search.util.CancellationScope;
+import com.blockchain.search.util.QueryClassifier;
+import com.blockchain.search.util.TopKPrefixTrie;
+import org.elasticsearch.action.search.MultiSearchRequest;
+import org.elasticsearch.action.search.MultiSearchResponse;
+import org.elasticsearch.client.RequestOptions;
+import org.elasticsearch.client.RestHighLevelClient;
+import org.elasticsearch.index.query.BoolQueryBuilder;
+import org.elasticsearch.index.query.QueryBuilders;
+import org.elasticsearch.search.SearchHit;
+import org.elasticsearch.search.builder.SearchSourceBuilder;
+import org.elasticsearch.search.sort.SortOrder;
+import org.elasticsearch.search.suggest.Suggest;
+import org.elasticsearch.search.suggest.SuggestBuilder;
+import org.elasticsearch.search.suggest.SuggestBuilders;
+import org.elasticsearch.search.suggest.completion.CompletionSuggestion;
+import org.elasticsearch.search.suggest.completion.CompletionSuggestionBuilder;
+import org.elasticsearch.search.suggest.completion.context.CategoryQueryContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.elasticsearch.core.suggest.Completion;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
+
+/**
+ * 자동완성 전용 엔진
+ * - 텍스트: tokens/addresses 의 completion suggester(suggest 필드)
+ * - hex: edge n-gram(.prefix) term 조회
+ * - 인기 토큰 심볼은 메모리 트라이에서 ES 호출 없이 응답
+ */
+@Component
+public class AutocompleteEngine {
+
+    private static final Logger log = LoggerFactory.getLogger(AutocompleteEngine.class);
+
+    private static final String ALL_NETWORKS = "";
+    private static final String SUGGEST_FIELD = "suggest";
+
+    // elasticsearch/analysis.json 의 hex_edge_ngram 설정과 일치해야 함
+    private static final int HEX_PREFIX_MIN_GRAM = 4;
+    private static final int HEX_PREFIX_MAX_GRAM = 20;
+
+    @Autowired
+    @Qualifier("customElasticsearchClient")
+    private RestHighLevelClient elasticsearchClient;
+
+    @Autowired
+    private ResilientSearchClient resilientSearchClient;
+
+    @Autowired
+    @Qualifier("searchExecutor")
+    private Executor searchExecutor;
+
+    @Autowired
+    private SearchMetrics searchMetrics;
+
+    @Value("${search.autocomplete.max-results:10}")
+    private int maxResults;
+
+    @Value("${search.autocomplete.hot-symbols.enabled:true}")
+    private boolean hotSymbolsEnabled;
+
+    @Value("${search.autocomplete.hot-symbols.size:5000}")
+    private int hotSymbolsSize;
+
+    @Value("${elasticsearch.index.routing-by-network:false}")
+    private boolean routingByNetwork;
+
+    // 네트워크별 인기 토큰 심볼 트라이 (ALL_NETWORKS 키는 전체 네트워크)
+    private volatile Map<String, TopKPrefixTrie<Map<String, Object>>> hotSymbolTries = Collections.emptyMap();
+
+    /**
+     * 자동완성 (비동기) - future 취소 시 진행 중인 ES 호출도 취소
+     */
+    public CompletableFuture<List<Map<String, Object>>> suggestAsync(String query, String network, String type, int limit) {
+        QueryClassifier.QueryType queryType = QueryClassifier.classify(query);
+
+        // 1. 인기 토큰 심볼 트라이 - 결과가 충분하면 ES 호출 생략
+        if (queryType == QueryClassifier.QueryType.TEXT && ("token".equals(type) || type == null)) {
+            List<Map<String, Object>> hot = searchHotSymbols(query, network);
+            if (hot.size() >= limit) {
+                return CompletableFuture.completedFuture(new ArrayList<>(hot.subList(0, limit)));
+            }
+        }
+
+        // 2. 타입별 경량 요청을 하나의 _msearch로 전송
+        MultiSearchRequest multiSearchRequest = new MultiSearchRequest();
+        List<String> requestTypes = new ArrayList<>();
+        // 축약 해시(0xabc…def)도 hex 요청으로 - 완성 제안(suggest)은 텍스트 접두사만 맞추므로 일치할 수 없음
+        boolean hex = queryType != QueryClassifier.QueryType.TEXT;
+
+        if ("token".equals(type) || type == null) {
+            multiSearchRequest.add(hex
+                    ? hexPrefixRequest("tokens", "tokenAddress", query, network, limit)
+                    : completionRequest("tokens", query, network, limit));
+            requestTypes.add("token");
+        }
+        if ("address".equals(type) || type == null) {
+            multiSearchRequest.add(hex
+                    ? hexPrefixRequest("addresses", "address", query, network, limit)
+                    : completionRequest("addresses", query, network, limit));
+            requestTypes.add("address");
+        }
+        if (("transaction".equals(type) || type == null) && hex) {
+            // 트랜잭션은 해시 접두사로만 자동완성
+            multiSearchRequest.add(hexPrefixRequest("transactions", "txHash", query, network, limit));
+            requestTypes.add("transaction");
+        }
+
+        if (requestTypes.isEmpty()) {
+            return CompletableFuture.completedFuture(new ArrayList<>());
+        }
+
+        CancellationScope scope = new CancellationScope();
+        long startNanos = System.nanoTime();
+        List<String> indices = requestTypes.stream().map(requestType -> requestType + "s").collect(Collectors.toList());
+        CompletableFuture<List<Map<String, Object>>> result = scope.track(
+                resilientSearchClient.msearch(indices, multiSearchRequest))
+                .thenApply(response -> {
+                    recordTook(response, requestTypes, System.nanoTime() - startNanos);
+                    return response;
+                })
+                .thenApplyAsync(response -> toResults(response, requestTypes, hex, limit), searchExecutor);
+        return scope.bind(result);
+    }
+
+    private void recordTook(MultiSearchResponse multiSearchResponse, List<String> requestTypes, long roundTripNanos) {
+        MultiSearchResponse.Item[] items = multiSearchResponse.getResponses();
+        for (int i = 0; i < items.length; i++) {
+            if (!items[i].isFailure()) {
+                searchMetrics.recordEs("autocomplete", requestTypes.get(i) + "s", items[i].getResponse(), roundTripNanos);
+            }
+        }
+    }
+
+    private List<Map<String, Object>> toResults(MultiSearchResponse multiSearchResponse, List<String> requestTypes,
+                                                boolean hex, int limit) {
+        MultiSearchResponse.Item[] items = multiSearchResponse.getResponses();
+
+        List<Map<String, Object>> results = new ArrayList<>(limit);
+        for (int i = 0; i < items.length && results.size() < limit; i++) {
+            if (items[i].isFailure()) {
+                log.debug("자동완성 검색 실패 ({}): {}", requestTypes.get(i), items[i].getFailureMessage());
+                continue;
+            }
+            for (SearchHit hit : suggestionHits(items[i].getResponse(), hex)) {
+                if (results.size() >= limit) {
+                    break;
+                }
+                Map<String, Object> result = new HashMap<>(hit.getSourceAsMap());
+                result.put("type", requestTypes.get(i));
+                results.add(result);
+            }
+        }
+        return results;
+    }
+
+    private org.elasticsearch.action.search.SearchRequest completionRequest(
+            String index, String query, String network, int limit) {
+        CompletionSuggestionBuilder completion = SuggestBuilders.completionSuggestion(SUGGEST_FIELD)
+                .prefix(query)
+                .size(limit)
+                .skipDuplicates(true);
+        if (StringUtils.hasText(network)) {
+            completion.contexts(Collections.singletonMap("network",
+                    Collections.singletonList(CategoryQueryContext.builder().setCategory(network).build())));
+        }
+
+        SearchSourceBuilder sourceBuilder = new SearchSourceBuilder()
+                .size(0)
+                .fetchSource(SourceProjection.AUTOCOMPLETE.includes(index), null)
+                .suggest(new SuggestBuilder().addSuggestion(SUGGEST_FIELD, completion));
+
+        return routeByNetwork(new org.elasticsearch.action.search.SearchRequest(index).source(sourceBuilder), network);
+    }
+
+    /**
+     * hex 접두사 요청 - 축약 해시는 앞부분을 접두사로, 뒷부분을 역순 서브필드(.reversed) 접두사로 함께 거름
+     */
+    private org.elasticsearch.action.search.SearchRequest hexPrefixRequest(
+            String index, String field, String query, String network, int limit) {
+        QueryClassifier.HexFragment fragment = QueryClassifier.parseFragment(query);
+        BoolQueryBuilder boolQuery = QueryBuilders.boolQuery();
+        if (fragment.hasHead() || !fragment.hasTail()) {
+            String prefix = fragment.getHead();
+            boolQuery.filter(prefix.length() >= HEX_PREFIX_MIN_GRAM && prefix.length() <= HEX_PREFIX_MAX_GRAM
+                    ? QueryBuilders.termQuery(field + ".prefix", prefix)
+                    : QueryBuilders.prefixQuery(field, prefix));
+        }
+        if (fragment.hasTail()) {
+            String reversedTail = new StringBuilder(fragment.getTail()).reverse().toString();
+            boolQuery.filter(QueryBuilders.prefixQuery(field + ".reversed", reversedTail));
+        }
+        if (StringUtils.hasText(network)) {
+            boolQuery.filter(QueryBuilders.termQuery("network", network));
+        }
+
+        SearchSourceBuilder sourceBuilder = new SearchSourceBuilder()
+                .query(boolQuery)
+                .size(limit)
+                .fetchSource(SourceProjection.AUTOCOMPLETE.includes(index), null)
+                .trackTotalHits(false);
+
+        return routeByNetwork(new org.elasticsearch.action.search.SearchRequest(index).source(sourceBuilder), network);
+    }
+
+    /**
+     * 네트워크 라우팅 모드면 해당 네트워크 샤드로만 요청
+     */
+    private org.elasticsearch.action.search.SearchRequest routeByNetwork(
+            org.elasticsearch.action.search.SearchRequest searchRequest, String network) {
+        if (routingByNetwork && StringUtils.hasText(network)) {
+            searchRequest.routing(network);
+        }
+        return searchRequest;
+    }
+
+    private List<SearchHit> suggestionHits(org.elasticsearch.action.search.SearchResponse response, boolean hex) {
+        if (hex) {
+            return Arrays.asList(response.getHits().getHits());
+        }
+
+        Suggest suggest = response.getSuggest();
+        if (suggest == null) {
+            return Collections.emptyList();
+        }
+        CompletionSuggestion suggestion = suggest.getSuggestion(SUGGEST_FIELD);
+        List<SearchHit> hits = new ArrayList<>();
+        for (CompletionSuggestion.Entry.Option option : suggestion.getOptions()) {
+            hits.add(option.getHit());
+        }
+        return hits;
+    }
+
+    private List<Map<String, Object>> searchHotSymbols(String query, String network) {
+        if (!hotSymbolsEnabled) {
+            return Collections.emptyList();
+        }
+        TopKPrefixTrie<Map<String, Object>> trie =
+                hotSymbolTries.get(StringUtils.hasText(network) ? network : ALL_NETWORKS);
+        return trie != null ? trie.search(query) : Collections.emptyList();
+    }
+
+    /**
+     * 보유자 수 상위 토큰으로 심볼 트라이 재구축
+     */
+    @Scheduled(initialDelayString = "${search.autocomplete.hot-symbols.initial-delay:10000}",
+            fixedDelayString = "${search.autocomplete.hot-symbols.refresh-interval:300000}")
+    public void refreshHotSymbols() {
+        if (!hotSymbolsEnabled) {
+            return;
+        }
+        try {
+            SearchSourceBuilder sourceBuilder = new SearchSourceBuilder()
+                    .size(hotSymbolsSize)
+                    .fetchSource(SourceProjection.AUTOCOMPLETE.includes("tokens"), null)
+                    .sort("holders", SortOrder.DESC)
+                    .trackTotalHits(false);
+            org.elasticsearch.action.search.SearchResponse response = elasticsearchClient.search(
+                    new org.elasticsearch.action.search.SearchRequest("tokens").source(sourceBuilder),
+                    RequestOptions.DEFAULT);
+
+            Map<String, TopKPrefixTrie<Map<String, Object>>> tries = new HashMap<>();
+            for (SearchHit hit : response.getHits().getHits()) {
+                Map<String, Object> source = hit.getSourceAsMap();
+                Map<String, Object> result = new HashMap<>();
+                result.put("type", "token");
+                result.put("symbol", source.get("symbol"));
+                result.put("name", source.get("name"));
+                result.put("network", source.get("network"));
+                result.put("tokenAddress", source.get("tokenAddress"));
+                Map<String, Object> entry = Collections.unmodifiableMap(result);
+
+                String symbol = (String) source.get("symbol");
+                tries.computeIfAbsent(ALL_NETWORKS, ignored -> new TopKPrefixTrie<>(maxResults)).insert(symbol, entry);
+                Object network = source.get("network");
+                if (network != null) {
+                    tries.computeIfAbsent(network.toString(), ignored -> new TopKPrefixTrie<>(maxResults))
+                            .insert(symbol, entry);
+                }
+            }
+
+            hotSymbolTries = tries;
+            log.debug("인기 토큰 심볼 트라이 갱신: {}건", response.getHits().getHits().length);
+        } catch (Exception e) {
+            log.warn("인기 토큰 심볼 트라이 갱신 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 토큰 자동완성 입력값 - 심볼/이름, 보유자 수를 가중치로 사용
+     */
+    public static Completion tokenSuggest(Token token) {
+        Completion completion = new Completion(nonBlank(token.getSymbol(), token.getName()));
+        completion.setWeight(weight(token.getHolders()));
+        return completion;
+    }
+
+    /**
+     * 주소 자동완성 입력값 - ENS/컨트랙트 이름, 트랜잭션 수를 가중치로 사용
+     */
+    public static Completion addressSuggest(Address address) {
+        Completion completion = new Completion(nonBlank(address.getName()));
+        completion.setWeight(weight(address.getTxCount()));
+        return completion;
+    }
+
+    private static String[] nonBlank(String... values) {
+        return Arrays.stream(values).filter(StringUtils::hasText).toArray(String[]::new);
+    }
+
+    private static int weight(Long value) {
+        return value == null ? 0 : (int) Math.min(value, Integer.MAX_VALUE);
+    }
+}
@@ -0,0 +1,110 @@
+package com.blockchain.search.service.impl;
+
+import com.blockchain.search.cache.NegativeLookupCache;
+import com.blockchain.search.ingest.BulkIndexer;
+import com.blockchain.search.ingest.DocumentReader;
+import com.blockchain.search.model.Address;
+import com.blockchain.search.model.Token;
+import com.blockchain.search.model.Transaction;
+import com.blockchain.search.service.IngestService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.elasticsearch.client.RestHighLevelClient;
+import org.elasticsearch.common.unit.ByteSizeValue;
+import org.elasticsearch.core.TimeValue;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+@Service
+public class IngestServiceImpl implements IngestService {
+    
+    private static final Logger log = LoggerFactory.getLogger(IngestServiceImpl.class);
+    
+    @Autowired
+    @Qualifier("customElasticsearchClient")
+    private RestHighLevelClient elasticsearchClient;
+    
+    @Autowired
+    private ObjectMapper objectMapper;
+    
+    @Autowired
+    private NegativeLookupCache negativeLookupCache;
+    
+    @Value("${ingest.bulk.actions:1000}")
+    private int bulkActions;
+    
+    @Value("${ingest.bulk.size:5mb}")
+    private String bulkSize;
+    
+    @Value("${ingest.bulk.concurrent-requests:2}")
+    private int concurrentRequests;
+    
+    @Value("${ingest.bulk.flush-interval:5s}")
+    private String flushInterval;
+    
+    @Value("${ingest.bulk.backoff.initial-delay:100ms}")
+    private String backoffDelay;
+    
+    @Value("${ingest.bulk.backoff.max-retries:5}")
+    private int maxRetries;
+    
+    @Value("${elasticsearch.index.partitioning.enabled:false}")
+    private boolean partitionTransactions;
+    
+    @Value("${elasticsearch.index.routing-by-network:false}")
+    private boolean routeByNetwork;
+    
+    @Override
+    public BulkIndexer.Stats load(String index, InputStream input, String format, String filename) {
+        Class<?> type = documentType(index);
+        DocumentReader.Format fileFormat = DocumentReader.Format.of(format, filename);
+        
+        long startTime = System.currentTimeMillis();
+        BulkIndexer indexer = createIndexer();
+        try {
+            long read = new DocumentReader(objectMapper).read(input, fileFormat, type, indexer::index);
+            log.info("{} 적재 파일 읽기 완료: {}건 ({})", index, read, fileFormat);
+        } catch (IOException e) {
+            throw new RuntimeException("적재 파일 읽기 중 오류 발생", e);
+        } finally {
+            indexer.close();
+        }
+        
+        BulkIndexer.Stats stats = indexer.stats();
+        log.info("{} 적재 완료: 성공 {}건, 실패 {}건, 벌크 요청 {}회, {}ms", index, stats.getSucceeded(),
+                stats.getFailed(), stats.getBulkRequests(), System.currentTimeMillis() - startTime);
+        return stats;
+    }
+    
+    @Override
+    public BulkIndexer createIndexer() {
+        return new BulkIndexer(elasticsearchClient, objectMapper, new BulkIndexer.Settings(
+                bulkActions,
+                ByteSizeValue.parseBytesSizeValue(bulkSize, "ingest.bulk.size"),
+                concurrentRequests,
+                TimeValue.parseTimeValue(flushInterval, "ingest.bulk.flush-interval"),
+                TimeValue.parseTimeValue(backoffDelay, "ingest.bulk.backoff.initial-delay"),
+                maxRetries,
+                partitionTransactions,
+                routeByNetwork), negativeLookupCache);
+    }
+    
+    private Class<?> documentType(String index) {
+        switch (index) {
+            case "transactions":
+                return Transaction.class;
+            case "addresses":
+                return Address.class;
+            case "tokens":
+                return Token.class;
+            default:
+                throw new IllegalArgumentException("지원하지 않는 인덱스입니다: " + index);
+        }
+    }
+}
@@ -1,26 +1,71 @@
 package com.blockchain.search.service.impl;
 
+import com.blockchain.search.cache.NegativeLookupCache;
+import com.blockchain.search.cache.SearchCacheKeyGenerator;
+import com.blockchain.search.dto.SearchCursor;
 import com.blockchain.search.dto.SearchRequest;
 import com.blockchain.search.dto.SearchResponse;
+import com.blockchain.search.dto.SourceProjection;
+import com.blockchain.search.metrics.SearchMetrics;
 import com.blockchain.search.model.Address;
 import com.blockchain.search.model.Token;
 import com.blockchain.search.model.Transaction;
+import com.blockchain.search.resilience.CircuitBreakerOpenException;
+import com.blockchain.search.resilience.ResilientSearchClient;
 import com.blockchain.search.service.SearchService;
+import com.blockchain.search.stats.IndexStatsCollector;
+import com.blockchain.search.util.CancellationScope;
+import com.blockchain.search.util.EsFutures;
+import com.blockchain.search.util.QueryClassifier;
+import com.blockchain.search.util.SearchDeadline;
+import com.blockchain.search.util.SingleFlight;
+import com.blockchain.search.util.SourceDecoder;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import org.elasticsearch.action.ActionListener;
+import org.elasticsearch.action.search.ClosePointInTimeRequest;
+import org.elasticsearch.action.search.MultiSearchRequest;
+import org.elasticsearch.action.search.MultiSearchResponse;
+import org.elasticsearch.action.search.OpenPointInTimeRequest;
+import org.elasticsearch.action.search.OpenPointInTimeResponse;
+import org.elasticsearch.action.search.ShardSearchFailure;
 import org.elasticsearch.client.RequestOptions;
 import org.elasticsearch.client.RestHighLevelClient;
+import org.elasticsearch.core.TimeValue;
 import org.elasticsearch.index.query.BoolQueryBuilder;
+import org.elasticsearch.index.query.QueryBuilder;
 import org.elasticsearch.index.query.QueryBuilders;
+import org.elasticsearch.index.query.TermQueryBuilder;
+import org.apache.lucene.search.TotalHits;
 import org.elasticsearch.search.SearchHit;
+import org.elasticsearch.search.SearchHits;
+import org.elasticsearch.search.builder.PointInTimeBuilder;
 import org.elasticsearch.search.builder.SearchSourceBuilder;
+import org.elasticsearch.search.collapse.CollapseBuilder;
+import org.elasticsearch.search.internal.InternalSearchResponse;
 import org.elasticsearch.search.sort.SortOrder;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
 
-import java.io.IOException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
 import java.util.*;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 @Service
@@ -30,226 +75,1032 @@ public class SearchServiceImpl implements SearchService {
     @Qualifier("customElasticsearchClient")
     private RestHighLevelClient elasticsearchClient;
     
+    // elasticsearch/analysis.json 의 hex_edge_ngram 설정과 일치해야 함
+    private static final int HEX_PREFIX_MIN_GRAM = 4;
+    private static final int HEX_PREFIX_MAX_GRAM = 20;
+    
+    // Transaction.timestamp 매핑 형식과 일치해야 함
+    private static final DateTimeFormatter TIMESTAMP_FORMAT = DateTimeFormatter.ofPattern("uuuu-MM-dd HH:mm:ss");
+    
     @Autowired
     private ObjectMapper objectMapper;
     
+    @Autowired
+    private SourceDecoder sourceDecoder;
+    
+    @Autowired
+    private AutocompleteEngine autocompleteEngine;
+    
+    @Autowired
+    private TransactionPartitions transactionPartitions;
+    
+    @Autowired
+    private IndexStatsCollector indexStatsCollector;
+    
+    @Autowired
+    private SearchMetrics searchMetrics;
+    
+    @Autowired
+    private ResilientSearchClient resilientSearchClient;
+    
+    @Autowired
+    private NegativeLookupCache negativeLookupCache;
+    
+    @Autowired
+    private CacheManager cacheManager;
+    
+    @Autowired
+    @Qualifier("searchExecutor")
+    private Executor searchExecutor;
+    
+    @Value("${search.multi-search.enabled:true}")
+    private boolean multiSearchEnabled;
+    
+    @Value("${search.pagination.point-in-time.enabled:false}")
+    private boolean pointInTimeEnabled;
+    
+    @Value("${search.pagination.point-in-time.keep-alive:1m}")
+    private String pointInTimeKeepAlive;
+    
+    @Value("${elasticsearch.index.routing-by-network:false}")
+    private boolean routingByNetwork;
+    
+    @Value("${search.total-hits.track-up-to:10000}")
+    private int trackTotalHitsUpTo;
+    
+    @Value("${search.coalescing.enabled:true}")
+    private boolean coalescingEnabled;
+    
+    @Value("${search.resilience.fallback.enabled:true}")
+    private boolean staleFallbackEnabled;
+    
+    @Value("${search.deadline.enabled:true}")
+    private boolean deadlineEnabled;
+    
+    @Value("${search.deadline.budget:3000}")
+    private long deadlineBudget;
+    
+    @Value("${search.deadline.es-margin:200}")
+    private long deadlineEsMargin;
+    
+    @Value("${search.deadline.terminate-after:0}")
+    private int terminateAfter;
+    
+    private final SingleFlight<String, SearchResponse> searchFlights = new SingleFlight<>();
+    private final SingleFlight<String, List<Map<String, Object>>> autocompleteFlights = new SingleFlight<>();
+    
     @Override
+    @Cacheable(cacheNames = "search", keyGenerator = "searchCacheKeyGenerator",
+            condition = "#request.cursor == null", unless = "!#result.success || #result.stale || #result.data.partial")
     public SearchResponse search(SearchRequest request) {
+        return coalesceSearch(request, null, null).join();
+    }
+    
+    @Override
+    public CompletableFuture<SearchResponse> searchAsync(SearchRequest request) {
+        // @Cacheable은 CompletableFuture를 지원하지 않으므로 같은 캐시/키를 직접 사용
+        Cache cache = request.getCursor() == null ? cacheManager.getCache("search") : null;
+        String key = SearchCacheKeyGenerator.searchKey(request);
+        if (cache != null) {
+            SearchResponse cached = cache.get(key, SearchResponse.class);
+            if (cached != null) {
+                return CompletableFuture.completedFuture(cached);
+            }
+        }
+        
+        return coalesceSearch(request, cache, key);
+    }
+    
+    /**
+     * 캐시 미스인 같은 검색이 동시에 들어오면(인기 토큰 출시 직후 같은 심볼 검색 등) ES 호출 하나를 공유
+     * 캐시 저장은 실제로 검색한 leader 만 수행 - 브레이커가 열렸을 때 쓸 수 있도록 search-stale 에도 저장
+     */
+    private CompletableFuture<SearchResponse> coalesceSearch(SearchRequest request, Cache cache, String cacheKey) {
+        String flightKey = SearchCacheKeyGenerator.flightKey(request);
+        return coalesce(searchFlights, operationName(request.getType()), flightKey, () -> {
+            CompletableFuture<SearchResponse> result = doSearchAsync(request);
+            if (request.getCursor() == null) {
+                result.thenAccept(response -> {
+                    // 부분 결과(제한 시간 초과 인덱스 포함)는 다음 요청에서 다시 검색하도록 캐시하지 않음
+                    if (!response.isSuccess() || response.isStale() || response.getData().isPartial()) {
+                        return;
+                    }
+                    if (cache != null) {
+                        cache.put(cacheKey, response);
+                    }
+                    Cache staleCache = staleFallbackEnabled ? cacheManager.getCache("search-stale") : null;
+                    if (staleCache != null) {
+                        staleCache.put(SearchCacheKeyGenerator.searchKey(request), response);
+                    }
+                });
+            }
+            return result;
+        });
+    }
+    
+    private <T> CompletableFuture<T> coalesce(SingleFlight<String, T> flights, String operation, String key,
+                                              Supplier<CompletableFuture<T>> call) {
+        if (!coalescingEnabled) {
+            return call.get();
+        }
+        AtomicBoolean leader = new AtomicBoolean();
+        CompletableFuture<T> result = flights.execute(key, () -> {
+            leader.set(true);
+            return call.get();
+        });
+        searchMetrics.countCoalescing(operation, leader.get());
+        return result;
+    }
+    
+    /**
+     * 통합 검색 본체 - 실패는 SearchResponse.error 로 완료되며, 결과 future 취소 시 진행 중인 ES 호출도 취소
+     * search.deadline.budget 이 지나면 그때까지 끝난 인덱스 결과만으로 응답 (나머지는 indexResults 에 timedOut 표시)
+     */
+    private CompletableFuture<SearchResponse> doSearchAsync(SearchRequest request) {
         long startTime = System.currentTimeMillis();
+        long startNanos = System.nanoTime();
+        String operation = operationName(request.getType());
+        String metricIndex = metricIndex(request.getType());
+        searchMetrics.countQuery(operation, SearchMetrics.queryClass(request.getQuery()));
+        CancellationScope scope = new CancellationScope();
+        SearchDeadline deadline = deadlineEnabled
+                ? SearchDeadline.after(deadlineBudget, deadlineEsMargin, terminateAfter)
+                : SearchDeadline.none();
+        
+        List<String> indices;
+        SearchCursor cursor;
+        Map<String, org.elasticsearch.action.search.SearchRequest> searchRequests = new LinkedHashMap<>();
+        List<List<String>> transactionSteps = Collections.emptyList();
+        Map<String, SearchResponse.Total> cachedTotals = new HashMap<>();
+        Map<String, CompletableFuture<SearchResponse.Total>> countFutures = new LinkedHashMap<>();
+        boolean usePointInTime;
+        CompletableFuture<Void> prepared;
         
         try {
-            SearchResponse.SearchData searchData = new SearchResponse.SearchData(
-                    request.getQuery(), request.getNetwork());
+            cursor = SearchCursor.decode(request.getCursor(), objectMapper);
+            SourceProjection projection = SourceProjection.from(request.getProjection(), SourceProjection.DETAIL);
             
-            // 검색 타입에 따라 다른 검색 수행
-            String type = request.getType();
-            if ("transaction".equals(type) || "all".equals(type)) {
-                List<Transaction> transactions = searchTransactions(
-                        request.getQuery(), request.getNetwork(), request.getPage(), request.getSize());
-                searchData.setTransactions(transactions);
-            }
-            
-            if ("address".equals(type) || "all".equals(type)) {
-                List<Address> addresses = searchAddresses(
-                        request.getQuery(), request.getNetwork(), request.getPage(), request.getSize());
-                searchData.setAddresses(addresses);
+            // 검색 타입에 따라 대상 인덱스별 요청 구성
+            indices = targetIndices(request.getType());
+            for (String index : indices) {
+                if (cursor != null && !cursor.hasNext(index)) {
+                    continue; // 이전 페이지에서 결과가 끝난 인덱스
+                }
+                if (!mightExist(index, request.getQuery(), request.getNetwork())) {
+                    cachedTotals.put(index, new SearchResponse.Total(0, SearchResponse.Total.EQUAL_TO));
+                    continue; // 색인된 적 없는 해시/주소 - ES 호출 생략
+                }
+                org.elasticsearch.action.search.SearchRequest searchRequest = buildSearchRequest(
+                        index, request.getQuery(), request.getNetwork(), request.getPage(), request.getSize(), projection);
+                if (cursor != null) {
+                    searchRequest.source().from(0).searchAfter(cursor.searchAfterFor(index));
+                }
+                if ("transactions".equals(index)) {
+                    applyTransactionRange(searchRequest, request);
+                    transactionSteps = transactionPartitions.plan(request.getFromTime(),
+                            upperTimeBound(request.getToTime(), cursor), request.getFromBlock(), request.getToBlock());
+                    if (transactionSteps.isEmpty()) {
+                        continue; // 범위와 겹치는 파티션 없음
+                    }
+                }
+                searchRequests.put(index, searchRequest);
             }
             
-            if ("token".equals(type) || "all".equals(type)) {
-                List<Token> tokens = searchTokens(
-                        request.getQuery(), request.getNetwork(), request.getPage(), request.getSize());
-                searchData.setTokens(tokens);
+            // 총 개수 - 캐시에 있으면 검색에서 계수를 생략하고, 페이지 응답으로 전체를 셀 수 없는 인덱스
+            // (커서로 끝난 인덱스, 파티션 순차 검색/커서 페이지의 트랜잭션)는 별도 계수 요청
+            Cache countCache = cacheManager.getCache("search-counts");
+            for (String index : indices) {
+                if (cachedTotals.containsKey(index)) {
+                    continue;
+                }
+                org.elasticsearch.action.search.SearchRequest searchRequest = searchRequests.get(index);
+                SearchResponse.Total cached = countCache != null
+                        ? countCache.get(SearchCacheKeyGenerator.countKey(request, index), SearchResponse.Total.class)
+                        : null;
+                if (cached != null) {
+                    cachedTotals.put(index, cached);
+                    if (searchRequest != null) {
+                        searchRequest.source().trackTotalHits(false);
+                    }
+                } else if (searchRequest == null
+                        || ("transactions".equals(index) && (cursor != null || transactionSteps.size() > 1))) {
+                    countFutures.put(index, countAsync(operation, index, request, deadline, scope));
+                }
             }
             
-            // 총 개수 계산
-            long totalCount = (searchData.getTransactions() != null ? searchData.getTransactions().size() : 0) +
-                            (searchData.getAddresses() != null ? searchData.getAddresses().size() : 0) +
-                            (searchData.getTokens() != null ? searchData.getTokens().size() : 0);
-            searchData.setTotalCount(totalCount);
-            searchData.setPage(request.getPage());
-            searchData.setSize(request.getSize());
-            
-            long searchTime = System.currentTimeMillis() - startTime;
-            
-            return SearchResponse.success("검색이 완료되었습니다", searchData, searchTime);
+            // 단일 인덱스 커서 페이지는 PIT로 스냅샷 고정
+            usePointInTime = cursor != null && pointInTimeEnabled && searchRequests.size() == 1;
             
+            // 파티션 묶음이 하나이거나 PIT 면 한 요청으로, 여러 묶음이면 최신 묶음부터 순차 검색
+            org.elasticsearch.action.search.SearchRequest transactionRequest = searchRequests.get("transactions");
+            if (transactionRequest != null && (usePointInTime || transactionSteps.size() == 1)) {
+                transactionRequest.indices(transactionSteps.stream().flatMap(List::stream).toArray(String[]::new))
+                        .indicesOptions(TransactionPartitions.INDICES_OPTIONS);
+                transactionSteps = Collections.emptyList();
+            }
+            prepared = usePointInTime
+                    ? applyPointInTime(searchRequests.values().iterator().next(), cursor.getPitId(), scope)
+                    : CompletableFuture.completedFuture(null);
         } catch (Exception e) {
-            return SearchResponse.error("검색 중 오류가 발생했습니다", e.getMessage());
+            searchMetrics.recordRequest(operation, metricIndex, startNanos, e);
+            return CompletableFuture.completedFuture(SearchResponse.error("검색 중 오류가 발생했습니다", e));
         }
+        
+        List<List<String>> partitionSteps = transactionSteps;
+        CompletableFuture<SearchResponse> result = prepared
+                .thenCompose(ignored -> {
+                    Map<String, CompletableFuture<org.elasticsearch.action.search.SearchResponse>> searches =
+                            partitionSteps.isEmpty()
+                                    ? executeSearches(operation, searchRequests, deadline, scope)
+                                    : executeWithPartitionWalk(operation, searchRequests, partitionSteps, deadline, scope);
+                    List<CompletableFuture<?>> pending = new ArrayList<>(searches.values());
+                    pending.addAll(countFutures.values());
+                    return deadline.await(pending).thenApply(settled -> {
+                        // 제한 시간까지 끝나지 않은 검색/계수 요청 취소
+                        scope.cancel();
+                        return searches;
+                    });
+                })
+                .thenApplyAsync(searches -> toSearchResponse(operation, request, indices, cursor, searches,
+                        cachedTotals, countFutures, usePointInTime, startTime), searchExecutor)
+                .whenComplete((response, error) -> searchMetrics.recordRequest(operation, metricIndex, startNanos, error))
+                .exceptionally(e -> fallback(operation, request, EsFutures.unwrap(e)));
+        return scope.bind(result);
     }
     
-    @Override
-    public List<Transaction> searchTransactions(String query, String network, int page, int size) {
-        try {
-            org.elasticsearch.action.search.SearchRequest searchRequest = new org.elasticsearch.action.search.SearchRequest("transactions");
-            SearchSourceBuilder sourceBuilder = new SearchSourceBuilder();
-            
-            // 쿼리 구성
-            BoolQueryBuilder boolQuery = QueryBuilders.boolQuery();
-            
-            // 검색어가 해시인지 확인
-            if (isHash(query)) {
-                boolQuery.should(QueryBuilders.wildcardQuery("txHash", "*" + query + "*"));
-                boolQuery.should(QueryBuilders.wildcardQuery("fromAddress", "*" + query + "*"));
-                boolQuery.should(QueryBuilders.wildcardQuery("toAddress", "*" + query + "*"));
-            } else {
-                boolQuery.should(QueryBuilders.multiMatchQuery(query, "txHash", "fromAddress", "toAddress")
-                        .fuzziness("AUTO"));
+    /**
+     * 브레이커가 열려 있으면 같은 검색의 이전 결과(search-stale, search.resilience.fallback.stale-ttl)를 stale 표시와 함께 반환
+     * 커서 페이지는 페이지 위치가 이전 결과와 맞지 않으므로 제외
+     */
+    private SearchResponse fallback(String operation, SearchRequest request, Throwable error) {
+        if (error instanceof RejectedExecutionException) {
+            // 매핑 풀 과부하는 오류 응답(200)이 아니라 503 으로 내보내도록 그대로 전파
+            throw new CompletionException(error);
+        }
+        if (error instanceof CircuitBreakerOpenException && staleFallbackEnabled && request.getCursor() == null) {
+            Cache staleCache = cacheManager.getCache("search-stale");
+            SearchResponse stale = staleCache != null
+                    ? staleCache.get(SearchCacheKeyGenerator.searchKey(request), SearchResponse.class)
+                    : null;
+            searchMetrics.countFallback(operation, stale != null);
+            if (stale != null) {
+                return SearchResponse.stale(stale, "검색 엔진 장애로 이전 검색 결과를 반환합니다");
             }
-            
-            // 네트워크 필터
-            if (StringUtils.hasText(network)) {
-                boolQuery.filter(QueryBuilders.termQuery("network", network));
+        }
+        return SearchResponse.error("검색 중 오류가 발생했습니다", error);
+    }
+    
+    /**
+     * 인덱스별 검색 future 로 응답 구성 - 끝나지 않았거나 실패한 인덱스는 빈 결과와 indexResults 표시로 대신하고,
+     * 응답한 인덱스가 하나도 없으면 첫 오류(없으면 시간 초과)로 실패
+     */
+    private SearchResponse toSearchResponse(String operation, SearchRequest request, List<String> indices,
+                                            SearchCursor cursor,
+                                            Map<String, CompletableFuture<org.elasticsearch.action.search.SearchResponse>> searches,
+                                            Map<String, SearchResponse.Total> cachedTotals,
+                                            Map<String, CompletableFuture<SearchResponse.Total>> countFutures,
+                                            boolean usePointInTime, long startTime) {
+        SearchResponse.SearchData searchData = new SearchResponse.SearchData(
+                request.getQuery(), request.getNetwork());
+        
+        SearchCursor nextCursor = new SearchCursor();
+        Map<String, Long> indexSearchTimes = new LinkedHashMap<>();
+        Map<String, SearchResponse.Total> totals = new LinkedHashMap<>();
+        Map<String, SearchResponse.IndexResult> indexResults = new LinkedHashMap<>();
+        boolean answered = searches.isEmpty();
+        Throwable firstError = null;
+        for (String index : indices) {
+            CompletableFuture<org.elasticsearch.action.search.SearchResponse> search = searches.get(index);
+            org.elasticsearch.action.search.SearchResponse response = null;
+            SearchResponse.IndexResult indexResult = null;
+            if (search != null) {
+                Throwable error = failure(search);
+                if (error == null) {
+                    response = search.join();
+                    answered = true;
+                    indexResult = partialResult(response);
+                } else if (error instanceof CancellationException) {
+                    indexResult = new SearchResponse.IndexResult(true, true, null);
+                } else {
+                    firstError = firstError != null ? firstError : error;
+                    indexResult = new SearchResponse.IndexResult(true, false, error.getMessage());
+                }
+            }
+            if (indexResult != null) {
+                indexResults.put(index, indexResult);
             }
             
-            sourceBuilder.query(boolQuery);
-            sourceBuilder.from(page * size);
-            sourceBuilder.size(size);
-            sourceBuilder.sort("timestamp", SortOrder.DESC);
-            
-            searchRequest.source(sourceBuilder);
+            setResults(operation, searchData, index, response);
+            SearchResponse.Total total = resolveTotal(request, index, response, indexResult == null,
+                    cachedTotals, countFutures);
+            if (total != null) {
+                totals.put(index, total);
+            }
+            if (response == null) {
+                // 응답이 없는 인덱스는 다음 페이지에서 같은 위치부터 다시 검색
+                if (search != null && cursor != null && cursor.hasNext(index)) {
+                    nextCursor.setNext(index, cursor.searchAfterFor(index));
+                    if (usePointInTime) {
+                        nextCursor.setPitId(cursor.getPitId());
+                    }
+                }
+                continue;
+            }
             
-            org.elasticsearch.action.search.SearchResponse response = 
-                    elasticsearchClient.search(searchRequest, RequestOptions.DEFAULT);
+            // 인덱스별 ES 처리 시간(took) 기록
+            indexSearchTimes.put(index, response.getTook().getMillis());
             
-            return Arrays.stream(response.getHits().getHits())
-                    .map(hit -> objectMapper.convertValue(hit.getSourceAsMap(), Transaction.class))
-                    .collect(Collectors.toList());
-                    
-        } catch (IOException e) {
-            throw new RuntimeException("트랜잭션 검색 중 오류 발생", e);
+            // 페이지가 가득 찼으면 마지막 정렬 값으로 다음 커서 생성
+            SearchHit[] hits = response.getHits().getHits();
+            if (hits.length > 0 && hits.length == request.getSize()) {
+                nextCursor.setNext(index, hits[hits.length - 1].getSortValues());
+            }
+            if (usePointInTime) {
+                nextCursor.setPitId(response.pointInTimeId());
+            }
+        }
+        if (!answered) {
+            throw new CompletionException(firstError != null ? firstError
+                    : new TimeoutException("제한 시간 안에 응답한 인덱스가 없습니다"));
+        }
+        searchData.setIndexSearchTimes(indexSearchTimes);
+        if (!indexResults.isEmpty()) {
+            searchData.setIndexResults(indexResults);
+            searchData.setPartial(true);
+        }
+        
+        if (!nextCursor.isEmpty()) {
+            searchData.setNextCursor(nextCursor.encode(objectMapper));
+        } else if (nextCursor.getPitId() != null) {
+            closePointInTime(nextCursor.getPitId());
         }
+        
+        // 총 개수 - 인덱스별 hits.total 의 합 (현재 페이지 크기가 아님)
+        searchData.setTotals(totals);
+        searchData.setTotalCount(totals.values().stream().mapToLong(SearchResponse.Total::getValue).sum());
+        searchData.setPage(request.getPage());
+        searchData.setSize(request.getSize());
+        
+        long searchTime = System.currentTimeMillis() - startTime;
+        
+        return SearchResponse.success("검색이 완료되었습니다", searchData, searchTime);
     }
     
-    @Override
-    public List<Address> searchAddresses(String query, String network, int page, int size) {
+    /**
+     * ES 가 결과를 다 모으지 못한 응답 (timeout, 일부 샤드 실패, terminate_after) 이면 부분 결과 표시, 아니면 null
+     */
+    private SearchResponse.IndexResult partialResult(org.elasticsearch.action.search.SearchResponse response) {
+        boolean timedOut = response.isTimedOut();
+        boolean shardsFailed = response.getSuccessfulShards() < response.getTotalShards();
+        boolean terminated = terminateAfter > 0 && Boolean.TRUE.equals(response.isTerminatedEarly());
+        return timedOut || shardsFailed || terminated ? new SearchResponse.IndexResult(true, timedOut, null) : null;
+    }
+    
+    /**
+     * 끝나지 않았거나 취소된 future 는 CancellationException, 실패는 원인 예외, 성공은 null
+     */
+    private static Throwable failure(CompletableFuture<?> future) {
+        if (!future.isDone()) {
+            return new CancellationException();
+        }
         try {
-            org.elasticsearch.action.search.SearchRequest searchRequest = new org.elasticsearch.action.search.SearchRequest("addresses");
-            SearchSourceBuilder sourceBuilder = new SearchSourceBuilder();
-            
-            BoolQueryBuilder boolQuery = QueryBuilders.boolQuery();
-            
-            if (isHash(query)) {
-                boolQuery.should(QueryBuilders.wildcardQuery("address", "*" + query + "*"));
-            } else {
-                boolQuery.should(QueryBuilders.multiMatchQuery(query, "address", "name")
-                        .fuzziness("AUTO"));
+            future.join();
+            return null;
+        } catch (CancellationException e) {
+            return e;
+        } catch (CompletionException e) {
+            return EsFutures.unwrap(e);
+        }
+    }
+    
+    /**
+     * 인덱스 총 개수 - 캐시 값, 별도 계수 결과, 페이지 응답의 hits.total 순으로 사용하고 새로 센 값은 짧은 TTL 로 캐시
+     * 계수가 제한 시간 안에 끝나지 않았으면 페이지 응답 값을 쓰며, 부분 결과의 hits.total 은 캐시하지 않음
+     */
+    private SearchResponse.Total resolveTotal(SearchRequest request, String index,
+                                              org.elasticsearch.action.search.SearchResponse response, boolean complete,
+                                              Map<String, SearchResponse.Total> cachedTotals,
+                                              Map<String, CompletableFuture<SearchResponse.Total>> countFutures) {
+        SearchResponse.Total total = cachedTotals.get(index);
+        if (total != null) {
+            return total;
+        }
+        
+        CompletableFuture<SearchResponse.Total> counted = countFutures.get(index);
+        if (counted != null && failure(counted) == null) {
+            total = counted.join();
+        }
+        boolean cacheable = total != null;
+        if (total == null && response != null) {
+            total = toTotal(response.getHits().getTotalHits());
+            cacheable = complete;
+        }
+        
+        Cache countCache = cacheManager.getCache("search-counts");
+        if (total != null && cacheable && countCache != null) {
+            countCache.put(SearchCacheKeyGenerator.countKey(request, index), total);
+        }
+        return total;
+    }
+    
+    /**
+     * 총 개수만 세는 요청(size 0) - 트랜잭션은 커서 위치와 무관하게 범위와 겹치는 모든 파티션이 대상
+     */
+    private CompletableFuture<SearchResponse.Total> countAsync(String operation, String index, SearchRequest request,
+                                                              SearchDeadline deadline, CancellationScope scope) {
+        org.elasticsearch.action.search.SearchRequest countRequest = buildSearchRequest(
+                index, request.getQuery(), request.getNetwork(), 0, 0, SourceProjection.DETAIL);
+        countRequest.source().fetchSource(false);
+        deadline.apply(countRequest.source());
+        
+        if ("transactions".equals(index)) {
+            applyTransactionRange(countRequest, request);
+            String[] partitions = transactionPartitions.plan(request.getFromTime(), request.getToTime(),
+                            request.getFromBlock(), request.getToBlock())
+                    .stream()
+                    .flatMap(List::stream)
+                    .toArray(String[]::new);
+            if (partitions.length == 0) {
+                return CompletableFuture.completedFuture(
+                        new SearchResponse.Total(0, SearchResponse.Total.EQUAL_TO));
             }
+            countRequest.indices(partitions).indicesOptions(TransactionPartitions.INDICES_OPTIONS);
+        }
+        
+        return searchMetrics.timeEs(operation + ".count", index, () -> scope.track(
+                        resilientSearchClient.search(index, countRequest)))
+                // timeout/terminate_after 로 중단된 계수는 일부만 센 값이므로 사용하지 않음
+                .thenApply(response -> response.isTimedOut() || Boolean.TRUE.equals(response.isTerminatedEarly())
+                        ? null : toTotal(response.getHits().getTotalHits()));
+    }
+    
+    private static SearchResponse.Total toTotal(TotalHits totalHits) {
+        if (totalHits == null) {
+            return null;
+        }
+        return new SearchResponse.Total(totalHits.value, totalHits.relation == TotalHits.Relation.EQUAL_TO
+                ? SearchResponse.Total.EQUAL_TO : SearchResponse.Total.GREATER_THAN_OR_EQUAL_TO);
+    }
+    
+    /**
+     * 지표 작업 이름 - 단일 타입 검색은 타입별 작업, type=all 은 search
+     */
+    private static String operationName(String type) {
+        if ("transaction".equals(type)) {
+            return "searchTransactions";
+        }
+        if ("address".equals(type)) {
+            return "searchAddresses";
+        }
+        if ("token".equals(type)) {
+            return "searchTokens";
+        }
+        return "search";
+    }
+    
+    private String metricIndex(String type) {
+        List<String> indices = targetIndices(type);
+        return indices.size() == 1 ? indices.get(0) : "all";
+    }
+    
+    private List<String> targetIndices(String type) {
+        if ("all".equals(type)) {
+            return Arrays.asList("transactions", "addresses", "tokens");
+        }
+        if ("transaction".equals(type)) {
+            return Collections.singletonList("transactions");
+        }
+        if ("address".equals(type)) {
+            return Collections.singletonList("addresses");
+        }
+        if ("token".equals(type)) {
+            return Collections.singletonList("tokens");
+        }
+        return Collections.emptyList();
+    }
+    
+    /**
+     * 트랜잭션 시간/블록 범위 필터 - 파티션 선택과 별개로 파티션 안에서도 범위를 정확히 적용
+     */
+    private void applyTransactionRange(org.elasticsearch.action.search.SearchRequest searchRequest,
+                                       SearchRequest request) {
+        BoolQueryBuilder boolQuery = (BoolQueryBuilder) searchRequest.source().query();
+        if (request.getFromTime() != null || request.getToTime() != null) {
+            boolQuery.filter(QueryBuilders.rangeQuery("timestamp")
+                    .gte(request.getFromTime() != null ? TIMESTAMP_FORMAT.format(request.getFromTime()) : null)
+                    .lte(request.getToTime() != null ? TIMESTAMP_FORMAT.format(request.getToTime()) : null));
+        }
+        if (request.getFromBlock() != null || request.getToBlock() != null) {
+            boolQuery.filter(QueryBuilders.rangeQuery("blockNumber")
+                    .gte(request.getFromBlock())
+                    .lte(request.getToBlock()));
+        }
+    }
+    
+    /**
+     * 커서 페이지는 마지막 항목의 timestamp(첫 정렬 값) 이후 파티션을 볼 필요가 없음
+     */
+    private static LocalDateTime upperTimeBound(LocalDateTime toTime, SearchCursor cursor) {
+        Object[] searchAfter = cursor != null ? cursor.searchAfterFor("transactions") : null;
+        if (searchAfter == null || searchAfter.length == 0 || !(searchAfter[0] instanceof Number)) {
+            return toTime;
+        }
+        LocalDateTime cursorTime = LocalDateTime.ofInstant(
+                Instant.ofEpochMilli(((Number) searchAfter[0]).longValue()), ZoneOffset.UTC);
+        return toTime == null || cursorTime.isBefore(toTime) ? cursorTime : toTime;
+    }
+    
+    /**
+     * 트랜잭션은 파티션 순차 검색, 나머지 인덱스는 기존 방식으로 동시에 실행
+     */
+    private Map<String, CompletableFuture<org.elasticsearch.action.search.SearchResponse>> executeWithPartitionWalk(
+            String operation, Map<String, org.elasticsearch.action.search.SearchRequest> searchRequests,
+            List<List<String>> steps, SearchDeadline deadline, CancellationScope scope) {
+        Map<String, org.elasticsearch.action.search.SearchRequest> others = new LinkedHashMap<>(searchRequests);
+        org.elasticsearch.action.search.SearchRequest transactionRequest = others.remove("transactions");
+        
+        CompletableFuture<org.elasticsearch.action.search.SearchResponse> transactions =
+                searchPartitions(operation, transactionRequest, steps, deadline, scope);
+        Map<String, CompletableFuture<org.elasticsearch.action.search.SearchResponse>> futures =
+                new LinkedHashMap<>(executeSearches(operation, others, deadline, scope));
+        futures.put("transactions", transactions);
+        return futures;
+    }
+    
+    /**
+     * 트랜잭션 파티션 묶음을 최신순으로 하나씩 검색하고 페이지(from + size)가 차면 나머지 묶음은 검색하지 않음
+     * 묶음끼리는 월 구간이 겹치지 않으므로 timestamp 내림차순 결과를 묶음 순서대로 이어 붙이면 전체 정렬과 같음
+     */
+    private CompletableFuture<org.elasticsearch.action.search.SearchResponse> searchPartitions(
+            String operation, org.elasticsearch.action.search.SearchRequest searchRequest, List<List<String>> steps,
+            SearchDeadline deadline, CancellationScope scope) {
+        int skip = Math.max(searchRequest.source().from(), 0);
+        return searchPartitionStep(operation, searchRequest, steps, 0, skip,
+                new PartitionPage(searchRequest.source().size()), deadline, scope);
+    }
+    
+    private CompletableFuture<org.elasticsearch.action.search.SearchResponse> searchPartitionStep(
+            String operation, org.elasticsearch.action.search.SearchRequest searchRequest, List<List<String>> steps,
+            int step, int skip, PartitionPage page, SearchDeadline deadline, CancellationScope scope) {
+        int remaining = page.remaining();
+        // 건너뛸 문서 수를 알아야 하므로 skip + remaining 까지만 정확히 계수
+        SearchSourceBuilder sourceBuilder = searchRequest.source().shallowCopy()
+                .from(skip)
+                .size(remaining)
+                .trackTotalHitsUpTo(skip + remaining);
+        deadline.apply(sourceBuilder);
+        org.elasticsearch.action.search.SearchRequest stepRequest = new org.elasticsearch.action.search.SearchRequest(
+                steps.get(step).toArray(new String[0]), sourceBuilder)
+                .indicesOptions(TransactionPartitions.INDICES_OPTIONS)
+                .routing(searchRequest.routing());
+        
+        return searchMetrics.timeEs(operation, "transactions", () -> scope.track(
+                        resilientSearchClient.search("transactions", stepRequest)))
+                .thenCompose(response -> {
+                    page.add(response);
+                    boolean last = step + 1 >= steps.size();
+                    if (page.remaining() == 0 || last) {
+                        return CompletableFuture.completedFuture(page.toResponse(last));
+                    }
+                    // 이번 묶음이 timeout 으로 중단됐거나 남은 묶음을 검색할 시간이 없으면 지금까지 모은 결과를 부분 결과로 반환
+                    if (response.isTimedOut() || deadline.isExhausted()) {
+                        page.markTimedOut();
+                        return CompletableFuture.completedFuture(page.toResponse(false));
+                    }
+                    long matched = response.getHits().getTotalHits() != null
+                            ? response.getHits().getTotalHits().value : 0;
+                    int nextSkip = response.getHits().getHits().length > 0 ? 0 : (int) Math.max(skip - matched, 0);
+                    return searchPartitionStep(operation, searchRequest, steps, step + 1, nextSkip, page, deadline,
+                            scope);
+                });
+    }
+    
+    /**
+     * 인덱스별 요청 실행 - 두 개 이상이면 _msearch 한 번으로, 비활성화 시 개별 searchAsync 병렬 전송
+     */
+    private Map<String, CompletableFuture<org.elasticsearch.action.search.SearchResponse>> executeSearches(
+            String operation, Map<String, org.elasticsearch.action.search.SearchRequest> searchRequests,
+            SearchDeadline deadline, CancellationScope scope) {
+        searchRequests.values().forEach(searchRequest -> deadline.apply(searchRequest.source()));
+        Map<String, CompletableFuture<org.elasticsearch.action.search.SearchResponse>> futures = new LinkedHashMap<>();
+        
+        if (searchRequests.size() > 1 && multiSearchEnabled) {
+            MultiSearchRequest multiSearchRequest = new MultiSearchRequest();
+            searchRequests.values().forEach(multiSearchRequest::add);
             
-            if (StringUtils.hasText(network)) {
-                boolQuery.filter(QueryBuilders.termQuery("network", network));
+            long startNanos = System.nanoTime();
+            CompletableFuture<MultiSearchResponse> multiSearch = scope.track(resilientSearchClient.msearch(
+                    new ArrayList<>(searchRequests.keySet()), multiSearchRequest));
+            // 항목별 future - 한 인덱스의 실패가 다른 인덱스 결과를 막지 않음
+            int i = 0;
+            for (String index : searchRequests.keySet()) {
+                int item = i++;
+                futures.put(index, multiSearch.thenApply(multiSearchResponse -> {
+                    org.elasticsearch.action.search.SearchResponse response =
+                            getItemResponse(multiSearchResponse.getResponses()[item], index);
+                    searchMetrics.recordEs(operation, index, response, System.nanoTime() - startNanos);
+                    return response;
+                }));
             }
+            return futures;
+        }
+        
+        for (Map.Entry<String, org.elasticsearch.action.search.SearchRequest> entry : searchRequests.entrySet()) {
+            futures.put(entry.getKey(), searchMetrics.timeEs(operation, entry.getKey(), () -> scope.track(
+                    resilientSearchClient.search(entry.getKey(), entry.getValue()))));
+        }
+        return futures;
+    }
+    
+    private void setResults(String operation, SearchResponse.SearchData searchData, String index,
+                            org.elasticsearch.action.search.SearchResponse response) {
+        switch (index) {
+            case "transactions":
+                searchData.setTransactions(response != null
+                        ? mapHits(operation, index, response, Transaction.class) : new ArrayList<>());
+                break;
+            case "addresses":
+                searchData.setAddresses(response != null
+                        ? mapHits(operation, index, response, Address.class) : new ArrayList<>());
+                break;
+            case "tokens":
+                searchData.setTokens(response != null
+                        ? mapHits(operation, index, response, Token.class) : new ArrayList<>());
+                break;
+            default:
+                break;
+        }
+    }
+    
+    /**
+     * PIT 적용 - 커서에 PIT가 없으면 새로 열고, 인덱스 대신 PIT로 검색
+     */
+    private CompletableFuture<Void> applyPointInTime(org.elasticsearch.action.search.SearchRequest searchRequest,
+                                                     String pitId, CancellationScope scope) {
+        TimeValue keepAlive = TimeValue.parseTimeValue(pointInTimeKeepAlive, "point_in_time.keep_alive");
+        
+        CompletableFuture<String> pitFuture;
+        if (pitId != null) {
+            pitFuture = CompletableFuture.completedFuture(pitId);
+        } else {
+            OpenPointInTimeRequest openRequest = new OpenPointInTimeRequest(searchRequest.indices())
+                    .indicesOptions(searchRequest.indicesOptions())
+                    .routing(searchRequest.routing())
+                    .keepAlive(keepAlive);
+            pitFuture = scope.track(EsFutures.<OpenPointInTimeResponse>execute(listener ->
+                    elasticsearchClient.openPointInTimeAsync(openRequest, RequestOptions.DEFAULT, listener)))
+                    .thenApply(OpenPointInTimeResponse::getPointInTimeId);
+        }
+        
+        return pitFuture.thenAccept(id -> {
+            searchRequest.indices(new String[0]);
+            searchRequest.source().pointInTimeBuilder(new PointInTimeBuilder(id).setKeepAlive(keepAlive));
+        });
+    }
+    
+    private void closePointInTime(String pitId) {
+        // keep-alive 만료 시 자동 해제되므로 실패는 무시
+        elasticsearchClient.closePointInTimeAsync(new ClosePointInTimeRequest(pitId), RequestOptions.DEFAULT,
+                ActionListener.wrap(response -> {}, e -> {}));
+    }
+    
+    @Override
+    @Cacheable(cacheNames = "transactions", keyGenerator = "searchCacheKeyGenerator")
+    public List<Transaction> searchTransactions(String query, String network, int page, int size) {
+        if (!mightExist("transactions", query, network)) {
+            return Collections.emptyList();
+        }
+        
+        long startNanos = System.nanoTime();
+        searchMetrics.countQuery("searchTransactions", SearchMetrics.queryClass(query));
+        org.elasticsearch.action.search.SearchRequest searchRequest = 
+                buildTransactionSearchRequest(query, network, page, size, SourceProjection.DETAIL);
+        
+        // 범위 없는 검색은 최신 파티션부터 페이지가 찰 때까지만 검색
+        List<List<String>> steps = transactionPartitions.plan(null, null, null, null);
+        try {
+            org.elasticsearch.action.search.SearchResponse response = await(
+                    searchPartitions("searchTransactions", searchRequest, steps, SearchDeadline.none(),
+                            new CancellationScope()),
+                    "트랜잭션 검색 중 오류 발생");
             
-            sourceBuilder.query(boolQuery);
-            sourceBuilder.from(page * size);
-            sourceBuilder.size(size);
-            sourceBuilder.sort("txCount", SortOrder.DESC);
-            
-            searchRequest.source(sourceBuilder);
+            List<Transaction> transactions = mapHits("searchTransactions", "transactions", response, Transaction.class);
+            searchMetrics.recordRequest("searchTransactions", "transactions", startNanos, null);
+            return transactions;
+        } catch (RuntimeException e) {
+            searchMetrics.recordRequest("searchTransactions", "transactions", startNanos,
+                    e.getCause() != null ? e.getCause() : e);
+            throw e;
+        }
+    }
+    
+    @Override
+    @Cacheable(cacheNames = "addresses", keyGenerator = "searchCacheKeyGenerator")
+    public List<Address> searchAddresses(String query, String network, int page, int size) {
+        if (QueryClassifier.classify(query) == QueryClassifier.QueryType.TX_HASH
+                || !mightExist("addresses", query, network)) {
+            return Collections.emptyList();
+        }
+        
+        long startNanos = System.nanoTime();
+        searchMetrics.countQuery("searchAddresses", SearchMetrics.queryClass(query));
+        try {
+            org.elasticsearch.action.search.SearchRequest searchRequest = 
+                    buildAddressSearchRequest(query, network, page, size, SourceProjection.DETAIL);
             
-            org.elasticsearch.action.search.SearchResponse response = 
-                    elasticsearchClient.search(searchRequest, RequestOptions.DEFAULT);
+            org.elasticsearch.action.search.SearchResponse response = await(searchMetrics.timeEs("searchAddresses", "addresses",
+                    () -> resilientSearchClient.search("addresses", searchRequest)), "주소 검색 중 오류 발생");
             
-            return Arrays.stream(response.getHits().getHits())
-                    .map(hit -> objectMapper.convertValue(hit.getSourceAsMap(), Address.class))
-                    .collect(Collectors.toList());
+            List<Address> results = mapHits("searchAddresses", "addresses", response, Address.class);
+            searchMetrics.recordRequest("searchAddresses", "addresses", startNanos, null);
+            return results;
                     
-        } catch (IOException e) {
-            throw new RuntimeException("주소 검색 중 오류 발생", e);
+        } catch (RuntimeException e) {
+            searchMetrics.recordRequest("searchAddresses", "addresses", startNanos, e.getCause() != null ? e.getCause() : e);
+            throw e;
         }
     }
     
     @Override
+    @Cacheable(cacheNames = "tokens", keyGenerator = "searchCacheKeyGenerator")
     public List<Token> searchTokens(String query, String network, int page, int size) {
+        if (QueryClassifier.classify(query) == QueryClassifier.QueryType.TX_HASH) {
+            return Collections.emptyList();
+        }
+        
+        long startNanos = System.nanoTime();
+        searchMetrics.countQuery("searchTokens", SearchMetrics.queryClass(query));
         try {
-            org.elasticsearch.action.search.SearchRequest searchRequest = new org.elasticsearch.action.search.SearchRequest("tokens");
-            SearchSourceBuilder sourceBuilder = new SearchSourceBuilder();
+            org.elasticsearch.action.search.SearchRequest searchRequest = 
+                    buildTokenSearchRequest(query, network, page, size, SourceProjection.DETAIL);
             
-            BoolQueryBuilder boolQuery = QueryBuilders.boolQuery();
+            org.elasticsearch.action.search.SearchResponse response = await(searchMetrics.timeEs("searchTokens", "tokens",
+                    () -> resilientSearchClient.search("tokens", searchRequest)), "토큰 검색 중 오류 발생");
             
-            if (isHash(query)) {
-                boolQuery.should(QueryBuilders.wildcardQuery("tokenAddress", "*" + query + "*"));
-            } else {
+            List<Token> results = mapHits("searchTokens", "tokens", response, Token.class);
+            searchMetrics.recordRequest("searchTokens", "tokens", startNanos, null);
+            return results;
+                    
+        } catch (RuntimeException e) {
+            searchMetrics.recordRequest("searchTokens", "tokens", startNanos, e.getCause() != null ? e.getCause() : e);
+            throw e;
+        }
+    }
+    
+    @Override
+    public CompletableFuture<Map<String, Transaction>> findTransactionsAsync(Collection<String> hashes, String network) {
+        return lookupAsync("batchTransactions", "transactions", "txHash", "timestamp", hashes, network,
+                SourceProjection.SUMMARY, Transaction.class, Transaction::getTxHash);
+    }
+    
+    @Override
+    public CompletableFuture<Map<String, Address>> findAddressesAsync(Collection<String> addresses, String network) {
+        return lookupAsync("batchAddresses", "addresses", "address", "txCount", addresses, network,
+                SourceProjection.DETAIL, Address.class, Address::getAddress);
+    }
+    
+    /**
+     * 해시/주소 일괄 조회 - terms 쿼리 한 번으로 찾고 field 로 collapse 해 값마다 문서 하나만 받음
+     * (네트워크를 지정하지 않아 여러 네트워크에 있으면 sortField 내림차순 첫 문서 - 단건 조회 API 와 같은 기준)
+     * 트랜잭션은 월별 파티션에 나뉘어 있고 문서 ID 가 네트워크에 따라 달라 mget 대신 검색으로 조회
+     */
+    private <T> CompletableFuture<Map<String, T>> lookupAsync(String operation, String index, String field,
+                                                              String sortField, Collection<String> values,
+                                                              String network, SourceProjection projection,
+                                                              Class<T> type, Function<T, String> keyOf) {
+        Set<String> terms = values.stream()
+                .map(QueryClassifier::normalize)
+                .filter(value -> negativeLookupCache.mightExist(index, network, value))
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        if (terms.isEmpty()) {
+            return CompletableFuture.completedFuture(Collections.emptyMap());
+        }
+        
+        long startNanos = System.nanoTime();
+        searchMetrics.countQuery(operation, "batch");
+        
+        BoolQueryBuilder boolQuery = QueryBuilders.boolQuery()
+                .filter(QueryBuilders.termsQuery(field, terms));
+        if (StringUtils.hasText(network)) {
+            boolQuery.filter(QueryBuilders.termQuery("network", network));
+        }
+        
+        SearchSourceBuilder sourceBuilder = new SearchSourceBuilder()
+                .query(boolQuery)
+                .size(terms.size())
+                .trackTotalHits(false)
+                .sort(sortField, SortOrder.DESC)
+                .collapse(new CollapseBuilder(field))
+                .fetchSource(projection.includes(index), projection.excludes());
+        org.elasticsearch.action.search.SearchRequest searchRequest = routeByNetwork(
+                new org.elasticsearch.action.search.SearchRequest(index).source(sourceBuilder), network);
+        
+        CancellationScope scope = new CancellationScope();
+        CompletableFuture<Map<String, T>> result = searchMetrics.timeEs(operation, index, () -> scope.track(
+                        resilientSearchClient.search(index, searchRequest)))
+                .thenApplyAsync(response -> {
+                    Map<String, T> found = new HashMap<>();
+                    for (T document : mapHits(operation, index, response, type)) {
+                        String key = document != null ? QueryClassifier.normalize(keyOf.apply(document)) : null;
+                        if (key != null) {
+                            found.put(key, document);
+                        }
+                    }
+                    return found;
+                }, searchExecutor)
+                .whenComplete((found, error) -> searchMetrics.recordRequest(operation, index, startNanos, error));
+        return scope.bind(result);
+    }
+    
+    private org.elasticsearch.action.search.SearchRequest buildSearchRequest(
+            String index, String query, String network, int page, int size, SourceProjection projection) {
+        switch (index) {
+            case "transactions":
+                return buildTransactionSearchRequest(query, network, page, size, projection);
+            case "addresses":
+                return buildAddressSearchRequest(query, network, page, size, projection);
+            case "tokens":
+                return buildTokenSearchRequest(query, network, page, size, projection);
+            default:
+                throw new IllegalArgumentException("지원하지 않는 인덱스입니다: " + index);
+        }
+    }
+    
+    private org.elasticsearch.action.search.SearchRequest buildTransactionSearchRequest(
+            String query, String network, int page, int size, SourceProjection projection) {
+        org.elasticsearch.action.search.SearchRequest searchRequest = new org.elasticsearch.action.search.SearchRequest("transactions");
+        SearchSourceBuilder sourceBuilder = new SearchSourceBuilder();
+        
+        // 쿼리 구성
+        BoolQueryBuilder boolQuery = QueryBuilders.boolQuery();
+        
+        // 검색어 유형에 따라 쿼리 선택 - 완전한 해시/주소는 term 조회
+        switch (QueryClassifier.classify(query)) {
+            case TX_HASH:
+                boolQuery.should(hexTermQuery("txHash", query));
+                break;
+            case ADDRESS:
+                boolQuery.should(hexTermQuery("fromAddress", query));
+                boolQuery.should(hexTermQuery("toAddress", query));
+                break;
+            case HEX_FRAGMENT:
+            case TRUNCATED_HEX:
+                boolQuery.should(hexFragmentQuery("txHash", query));
+                boolQuery.should(hexFragmentQuery("fromAddress", query));
+                boolQuery.should(hexFragmentQuery("toAddress", query));
+                break;
+            default:
+                boolQuery.should(QueryBuilders.multiMatchQuery(query, "txHash", "fromAddress", "toAddress")
+                        .fuzziness("AUTO"));
+        }
+        boolQuery.minimumShouldMatch(1);
+        
+        // 네트워크 필터
+        if (StringUtils.hasText(network)) {
+            boolQuery.filter(QueryBuilders.termQuery("network", network));
+        }
+        
+        sourceBuilder.query(boolQuery);
+        sourceBuilder.from(page * size);
+        sourceBuilder.size(size);
+        sourceBuilder.trackTotalHitsUpTo(trackTotalHitsUpTo);
+        sourceBuilder.sort("timestamp", SortOrder.DESC);
+        sourceBuilder.sort("txHash", SortOrder.DESC); // search_after 용 tiebreaker
+        sourceBuilder.fetchSource(projection.includes("transactions"), projection.excludes());
+        
+        searchRequest.source(sourceBuilder);
+        return routeByNetwork(searchRequest, network);
+    }
+    
+    private org.elasticsearch.action.search.SearchRequest buildAddressSearchRequest(
+            String query, String network, int page, int size, SourceProjection projection) {
+        org.elasticsearch.action.search.SearchRequest searchRequest = new org.elasticsearch.action.search.SearchRequest("addresses");
+        SearchSourceBuilder sourceBuilder = new SearchSourceBuilder();
+        
+        BoolQueryBuilder boolQuery = QueryBuilders.boolQuery();
+        
+        switch (QueryClassifier.classify(query)) {
+            case TX_HASH:
+                // 트랜잭션 해시는 주소와 일치할 수 없음
+                boolQuery.should(QueryBuilders.matchNoneQuery());
+                break;
+            case ADDRESS:
+                boolQuery.should(hexTermQuery("address", query));
+                break;
+            case HEX_FRAGMENT:
+            case TRUNCATED_HEX:
+                boolQuery.should(hexFragmentQuery("address", query));
+                break;
+            default:
+                boolQuery.should(QueryBuilders.multiMatchQuery(query, "address", "name")
+                        .fuzziness("AUTO"));
+        }
+        boolQuery.minimumShouldMatch(1);
+        
+        if (StringUtils.hasText(network)) {
+            boolQuery.filter(QueryBuilders.termQuery("network", network));
+        }
+        
+        sourceBuilder.query(boolQuery);
+        sourceBuilder.from(page * size);
+        sourceBuilder.size(size);
+        sourceBuilder.trackTotalHitsUpTo(trackTotalHitsUpTo);
+        sourceBuilder.sort("txCount", SortOrder.DESC);
+        sourceBuilder.sort("address", SortOrder.ASC); // search_after 용 tiebreaker
+        sourceBuilder.fetchSource(projection.includes("addresses"), projection.excludes());
+        
+        searchRequest.source(sourceBuilder);
+        return routeByNetwork(searchRequest, network);
+    }
+    
+    private org.elasticsearch.action.search.SearchRequest buildTokenSearchRequest(
+            String query, String network, int page, int size, SourceProjection projection) {
+        org.elasticsearch.action.search.SearchRequest searchRequest = new org.elasticsearch.action.search.SearchRequest("tokens");
+        SearchSourceBuilder sourceBuilder = new SearchSourceBuilder();
+        
+        BoolQueryBuilder boolQuery = QueryBuilders.boolQuery();
+        
+        switch (QueryClassifier.classify(query)) {
+            case TX_HASH:
+                // 트랜잭션 해시는 토큰 컨트랙트 주소와 일치할 수 없음
+                boolQuery.should(QueryBuilders.matchNoneQuery());
+                break;
+            case ADDRESS:
+                boolQuery.should(hexTermQuery("tokenAddress", query));
+                break;
+            case HEX_FRAGMENT:
+            case TRUNCATED_HEX:
+                boolQuery.should(hexFragmentQuery("tokenAddress", query));
+                break;
+            default:
                 boolQuery.should(QueryBuilders.multiMatchQuery(query, "symbol", "name")
                         .fuzziness("AUTO"));
-            }
-            
-            if (StringUtils.hasText(network)) {
-                boolQuery.filter(QueryBuilders.termQuery("network", network));
-            }
-            
-            sourceBuilder.query(boolQuery);
-            sourceBuilder.from(page * size);
-            sourceBuilder.size(size);
-            sourceBuilder.sort("holders", SortOrder.DESC);
-            
-            searchRequest.source(sourceBuilder);
-            
-            org.elasticsearch.action.search.SearchResponse response = 
-                    elasticsearchClient.search(searchRequest, RequestOptions.DEFAULT);
-            
-            return Arrays.stream(response.getHits().getHits())
-                    .map(hit -> objectMapper.convertValue(hit.getSourceAsMap(), Token.class))
-                    .collect(Collectors.toList());
-                    
-        } catch (IOException e) {
-            throw new RuntimeException("토큰 검색 중 오류 발생", e);
         }
+        boolQuery.minimumShouldMatch(1);
+        
+        if (StringUtils.hasText(network)) {
+            boolQuery.filter(QueryBuilders.termQuery("network", network));
+        }
+        
+        sourceBuilder.query(boolQuery);
+        sourceBuilder.from(page * size);
+        sourceBuilder.size(size);
+        sourceBuilder.trackTotalHitsUpTo(trackTotalHitsUpTo);
+        sourceBuilder.sort("holders", SortOrder.DESC);
+        sourceBuilder.sort("tokenAddress", SortOrder.ASC); // search_after 용 tiebreaker
+        sourceBuilder.fetchSource(projection.includes("tokens"), projection.excludes());
+        
+        searchRequest.source(sourceBuilder);
+        return routeByNetwork(searchRequest, network);
     }
     
     @Override
+    @Cacheable(cacheNames = "autocomplete", keyGenerator = "searchCacheKeyGenerator")
     public List<Map<String, Object>> autocomplete(String query, String network, String type, int maxResults) {
-        try {
-            List<Map<String, Object>> results = new ArrayList<>();
-            
-            if ("token".equals(type) || type == null) {
-                List<Token> tokens = searchTokens(query, network, 0, maxResults);
-                for (Token token : tokens) {
-                    Map<String, Object> result = new HashMap<>();
-                    result.put("type", "token");
-                    result.put("symbol", token.getSymbol());
-                    result.put("name", token.getName());
-                    result.put("network", token.getNetwork());
-                    result.put("tokenAddress", token.getTokenAddress());
-                    results.add(result);
-                }
-            }
-            
-            if ("address".equals(type) || type == null) {
-                List<Address> addresses = searchAddresses(query, network, 0, maxResults);
-                for (Address address : addresses) {
-                    Map<String, Object> result = new HashMap<>();
-                    result.put("type", "address");
-                    result.put("address", address.getAddress());
-                    result.put("network", address.getNetwork());
-                    result.put("name", address.getName());
-                    results.add(result);
-                }
-            }
-            
-            if ("transaction".equals(type) || type == null) {
-                List<Transaction> transactions = searchTransactions(query, network, 0, maxResults);
-                for (Transaction tx : transactions) {
-                    Map<String, Object> result = new HashMap<>();
-                    result.put("type", "transaction");
-                    result.put("txHash", tx.getTxHash());
-                    result.put("network", tx.getNetwork());
-                    result.put("fromAddress", tx.getFromAddress());
-                    result.put("toAddress", tx.getToAddress());
-                    results.add(result);
-                }
-            }
-            
-            // 결과 수 제한
-            return results.stream().limit(maxResults).collect(Collectors.toList());
-            
-        } catch (Exception e) {
-            throw new RuntimeException("자동완성 검색 중 오류 발생", e);
+        return await(timeAutocomplete(query, type,
+                () -> autocompleteEngine.suggestAsync(query, network, type, maxResults)), "자동완성 검색 중 오류 발생");
+    }
+    
+    @Override
+    public CompletableFuture<List<Map<String, Object>>> autocompleteAsync(
+            String query, String network, String type, int maxResults) {
+        Cache cache = cacheManager.getCache("autocomplete");
+        String key = SearchCacheKeyGenerator.key(query, network, type, maxResults);
+        List<Map<String, Object>> cached = cache != null ? cache.get(key, List.class) : null;
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached);
         }
+        
+        return coalesce(autocompleteFlights, "autocomplete", key, () -> {
+            CompletableFuture<List<Map<String, Object>>> result = timeAutocomplete(query, type,
+                    () -> autocompleteEngine.suggestAsync(query, network, type, maxResults));
+            if (cache != null) {
+                result.thenAccept(results -> cache.put(key, results));
+            }
+            return result;
+        });
+    }
+    
+    private CompletableFuture<List<Map<String, Object>>> timeAutocomplete(
+            String query, String type, Supplier<CompletableFuture<List<Map<String, Object>>>> suggest) {
+        long startNanos = System.nanoTime();
+        searchMetrics.countQuery("autocomplete", SearchMetrics.queryClass(query));
+        CompletableFuture<List<Map<String, Object>>> result = suggest.get();
+        result.whenComplete((results, error) ->
+                searchMetrics.recordRequest("autocomplete", metricIndex(type), startNanos, error));
+        return result;
     }
     
     @Override
-    public Map<String, Object> searchByUrl(String query, String index, int size, String network) {
+    public Map<String, Object> searchByUrl(String query, String index, int size, String network, String projection) {
+        return await(searchByUrlAsync(query, index, size, network, projection), "URL 검색 중 오류 발생");
+    }
+    
+    @Override
+    public CompletableFuture<Map<String, Object>> searchByUrlAsync(String query, String index, int size, String network,
+                                                                   String projection) {
+        long startNanos = System.nanoTime();
+        searchMetrics.countQuery("searchByUrl", "match");
         try {
             org.elasticsearch.action.search.SearchRequest searchRequest = new org.elasticsearch.action.search.SearchRequest(index);
             SearchSourceBuilder sourceBuilder = new SearchSourceBuilder();
@@ -265,20 +1116,31 @@ public class SearchServiceImpl implements SearchService {
             sourceBuilder.query(boolQuery);
             sourceBuilder.size(size);
             
-            searchRequest.source(sourceBuilder);
+            SourceProjection sourceProjection = SourceProjection.from(projection, SourceProjection.DETAIL);
+            sourceBuilder.fetchSource(sourceProjection.includes(index), sourceProjection.excludes());
             
-            org.elasticsearch.action.search.SearchResponse response = 
-                    elasticsearchClient.search(searchRequest, RequestOptions.DEFAULT);
+            searchRequest.source(sourceBuilder);
+            routeByNetwork(searchRequest, network);
             
-            return convertSearchResponseToMap(response);
+            return executeAsMap("searchByUrl", index, searchRequest, startNanos);
             
-        } catch (IOException e) {
-            throw new RuntimeException("URL 검색 중 오류 발생", e);
+        } catch (Exception e) {
+            searchMetrics.recordRequest("searchByUrl", index, startNanos, e);
+            CompletableFuture<Map<String, Object>> failed = new CompletableFuture<>();
+            failed.completeExceptionally(e);
+            return failed;
         }
     }
     
     @Override
     public Map<String, Object> searchByQuery(String index, Map<String, Object> queryMap, int size) {
+        return await(searchByQueryAsync(index, queryMap, size), "Query DSL 검색 중 오류 발생");
+    }
+    
+    @Override
+    public CompletableFuture<Map<String, Object>> searchByQueryAsync(String index, Map<String, Object> queryMap, int size) {
+        long startNanos = System.nanoTime();
+        searchMetrics.countQuery("searchByQuery", "dsl");
         try {
             org.elasticsearch.action.search.SearchRequest searchRequest = new org.elasticsearch.action.search.SearchRequest(index);
             SearchSourceBuilder sourceBuilder = new SearchSourceBuilder();
@@ -296,51 +1158,106 @@ public class SearchServiceImpl implements SearchService {
             
             searchRequest.source(sourceBuilder);
             
-            org.elasticsearch.action.search.SearchResponse response = 
-                    elasticsearchClient.search(searchRequest, RequestOptions.DEFAULT);
-            
-            return convertSearchResponseToMap(response);
+            return executeAsMap("searchByQuery", index, searchRequest, startNanos);
             
         } catch (Exception e) {
-            throw new RuntimeException("Query DSL 검색 중 오류 발생", e);
+            searchMetrics.recordRequest("searchByQuery", index, startNanos, e);
+            CompletableFuture<Map<String, Object>> failed = new CompletableFuture<>();
+            failed.completeExceptionally(e);
+            return failed;
+        }
+    }
+    
+    private CompletableFuture<Map<String, Object>> executeAsMap(String operation, String index,
+                                                            org.elasticsearch.action.search.SearchRequest searchRequest,
+                                                            long startNanos) {
+        CancellationScope scope = new CancellationScope();
+        CompletableFuture<Map<String, Object>> result = searchMetrics.timeEs(operation, index, () -> scope.track(
+                        resilientSearchClient.search(index, searchRequest)))
+                .thenApplyAsync(response -> searchMetrics.timeMapping(operation, index,
+                        () -> convertSearchResponseToMap(response)), searchExecutor)
+                .whenComplete((response, error) -> searchMetrics.recordRequest(operation, index, startNanos, error));
+        return scope.bind(result);
+    }
+    
+    private static <T> T await(CompletableFuture<T> future, String errorMessage) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            throw new RuntimeException(errorMessage, EsFutures.unwrap(e));
         }
     }
     
     @Override
     public Map<String, Object> getIndicesStatus() {
-        try {
-            Map<String, Object> status = new HashMap<>();
-            
-            // 인덱스별 문서 수 확인
-            String[] indices = {"transactions", "addresses", "tokens"};
-            
-            for (String index : indices) {
-                org.elasticsearch.action.search.SearchRequest searchRequest = new org.elasticsearch.action.search.SearchRequest(index);
-                SearchSourceBuilder sourceBuilder = new SearchSourceBuilder();
-                sourceBuilder.size(0); // 문서 내용은 가져오지 않음
-                
-                searchRequest.source(sourceBuilder);
-                
-                org.elasticsearch.action.search.SearchResponse response = 
-                        elasticsearchClient.search(searchRequest, RequestOptions.DEFAULT);
-                
-                Map<String, Object> indexStatus = new HashMap<>();
-                indexStatus.put("documentCount", response.getHits().getTotalHits().value);
-                indexStatus.put("status", "active");
-                
-                status.put(index, indexStatus);
+        // 주기적으로 _stats 로 갱신되는 메모리 스냅샷 - 요청마다 ES 를 호출하지 않음
+        return indexStatsCollector.status();
+    }
+    
+    // 유틸리티 메서드
+    
+    /**
+     * 완전한 트랜잭션 해시(transactions)/주소(addresses) 검색어가 네거티브 캐시에 없으면 false - 부분 hex, 텍스트는 항상 true
+     */
+    private boolean mightExist(String index, String query, String network) {
+        QueryClassifier.QueryType queryType = QueryClassifier.classify(query);
+        if (("transactions".equals(index) && queryType == QueryClassifier.QueryType.TX_HASH)
+                || ("addresses".equals(index) && queryType == QueryClassifier.QueryType.ADDRESS)) {
+            return negativeLookupCache.mightExist(index, network, query);
+        }
+        return true;
+    }
+    
+    /**
+     * 네트워크 라우팅 모드면 해당 네트워크 문서가 있는 샤드로만 검색 (네트워크 없는 검색은 전체 샤드)
+     */
+    private org.elasticsearch.action.search.SearchRequest routeByNetwork(
+            org.elasticsearch.action.search.SearchRequest searchRequest, String network) {
+        if (routingByNetwork && StringUtils.hasText(network)) {
+            searchRequest.routing(network);
+        }
+        return searchRequest;
+    }
+    
+    private TermQueryBuilder hexTermQuery(String field, String hex) {
+        return QueryBuilders.termQuery(field, QueryClassifier.normalize(hex)).caseInsensitive(true);
+    }
+    
+    /**
+     * 부분 hex 검색 - 앞부분은 edge n-gram(.prefix) 또는 prefix 쿼리, 뒷부분은 역순 서브필드(.reversed) prefix 쿼리
+     */
+    private QueryBuilder hexFragmentQuery(String field, String query) {
+        QueryClassifier.HexFragment fragment = QueryClassifier.parseFragment(query);
+        BoolQueryBuilder fragmentQuery = QueryBuilders.boolQuery();
+        
+        if (fragment.hasHead()) {
+            String head = fragment.getHead();
+            if (head.length() >= HEX_PREFIX_MIN_GRAM && head.length() <= HEX_PREFIX_MAX_GRAM) {
+                fragmentQuery.must(QueryBuilders.termQuery(field + ".prefix", head));
+            } else {
+                fragmentQuery.must(QueryBuilders.prefixQuery(field, head));
             }
-            
-            return status;
-            
-        } catch (IOException e) {
-            throw new RuntimeException("인덱스 상태 확인 중 오류 발생", e);
         }
+        
+        if (fragment.hasTail()) {
+            String reversedTail = new StringBuilder(fragment.getTail()).reverse().toString();
+            fragmentQuery.must(QueryBuilders.prefixQuery(field + ".reversed", reversedTail));
+        }
+        
+        return fragmentQuery;
     }
     
-    // 유틸리티 메서드
-    private boolean isHash(String query) {
-        return query != null && query.matches("^0x[a-fA-F0-9]+$");
+    private <T> List<T> mapHits(String operation, String index, org.elasticsearch.action.search.SearchResponse response,
+                                Class<T> type) {
+        // getSourceAsMap() 을 거치지 않고 _source 바이트를 바로 바인딩
+        return searchMetrics.timeMapping(operation, index, () -> sourceDecoder.decodeAll(response.getHits(), type));
+    }
+    
+    private org.elasticsearch.action.search.SearchResponse getItemResponse(MultiSearchResponse.Item item, String index) {
+        if (item.isFailure()) {
+            throw new RuntimeException(index + " 인덱스 검색 중 오류 발생", item.getFailure());
+        }
+        return item.getResponse();
     }
     
     private Map<String, Object> convertSearchResponseToMap(org.elasticsearch.action.search.SearchResponse response) {
@@ -356,4 +1273,64 @@ public class SearchServiceImpl implements SearchService {
         
         return result;
     }
+    
+    /**
+     * 파티션 순차 검색 결과 누적 - 묶음별 응답의 히트를 이어 붙여 하나의 SearchResponse 로 만듦
+     */
+    private static class PartitionPage {
+        
+        private final int size;
+        private final List<SearchHit> hits = new ArrayList<>();
+        private long totalHits;
+        private boolean totalExact = true;
+        private long tookMillis;
+        private int totalShards;
+        private int successfulShards;
+        private int skippedShards;
+        private boolean timedOut;
+        private Boolean terminatedEarly;
+        
+        PartitionPage(int size) {
+            this.size = size;
+        }
+        
+        int remaining() {
+            return Math.max(size - hits.size(), 0);
+        }
+        
+        void add(org.elasticsearch.action.search.SearchResponse response) {
+            SearchHits searchHits = response.getHits();
+            hits.addAll(Arrays.asList(searchHits.getHits()));
+            if (searchHits.getTotalHits() != null) {
+                totalHits += searchHits.getTotalHits().value;
+                totalExact &= searchHits.getTotalHits().relation == TotalHits.Relation.EQUAL_TO;
+            }
+            tookMillis += response.getTook().getMillis();
+            totalShards += response.getTotalShards();
+            successfulShards += response.getSuccessfulShards();
+            skippedShards += response.getSkippedShards();
+            timedOut |= response.isTimedOut();
+            if (response.isTerminatedEarly() != null) {
+                terminatedEarly = (terminatedEarly != null && terminatedEarly) || response.isTerminatedEarly();
+            }
+        }
+        
+        /**
+         * 제한 시간 때문에 남은 묶음을 검색하지 않음
+         */
+        void markTimedOut() {
+            timedOut = true;
+        }
+        
+        org.elasticsearch.action.search.SearchResponse toResponse(boolean exhausted) {
+            TotalHits total = new TotalHits(totalHits, exhausted && totalExact
+                    ? TotalHits.Relation.EQUAL_TO : TotalHits.Relation.GREATER_THAN_OR_EQUAL_TO);
+            InternalSearchResponse internalResponse = new InternalSearchResponse(
+                    new SearchHits(hits.toArray(new SearchHit[0]), total, Float.NaN),
+                    null, null, null, timedOut, terminatedEarly, 1);
+            return new org.elasticsearch.action.search.SearchResponse(internalResponse, null, totalShards,
+                    successfulShards, skippedShards, tookMillis, ShardSearchFailure.EMPTY_ARRAY,
+                    org.elasticsearch.action.search.SearchResponse.Clusters.EMPTY);
+        }
+    }
 }
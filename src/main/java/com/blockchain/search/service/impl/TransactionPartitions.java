@@ -0,0 +1,187 @@
+package com.blockchain.search.service.impl;
+
+import org.elasticsearch.action.support.IndicesOptions;
+import org.elasticsearch.client.RequestOptions;
+import org.elasticsearch.client.RestHighLevelClient;
+import org.elasticsearch.search.aggregations.AggregationBuilders;
+import org.elasticsearch.search.aggregations.bucket.terms.Terms;
+import org.elasticsearch.search.aggregations.metrics.Max;
+import org.elasticsearch.search.aggregations.metrics.Min;
+import org.elasticsearch.search.builder.SearchSourceBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * transactions 월별 파티션(transactions-yyyy.MM) 목록과 파티션별 블록 범위
+ * - 쓰기: 트랜잭션 timestamp 의 월 파티션 (indexName)
+ * - 읽기: 검색 범위(시간/블록)와 겹치는 파티션만, 최신 파티션부터 step 개씩 묶어 반환 (plan)
+ * 파티션 목록은 읽기 별칭(transactions)에 대한 집계로 주기적으로 갱신하며,
+ * 갱신 사이에 생긴 이번 달 파티션은 항상 포함 (없는 인덱스는 lenient 옵션으로 무시)
+ */
+@Component
+public class TransactionPartitions {
+    
+    private static final Logger log = LoggerFactory.getLogger(TransactionPartitions.class);
+    
+    public static final String ALIAS = "transactions";
+    private static final String PREFIX = ALIAS + "-";
+    private static final DateTimeFormatter MONTH_FORMAT = DateTimeFormatter.ofPattern("uuuu.MM");
+    
+    /**
+     * 존재하지 않는 파티션(이번 달 첫 문서 전 등)은 오류 없이 건너뜀
+     */
+    public static final IndicesOptions INDICES_OPTIONS = IndicesOptions.lenientExpandOpen();
+    
+    @Autowired
+    @Qualifier("customElasticsearchClient")
+    private RestHighLevelClient elasticsearchClient;
+    
+    @Value("${elasticsearch.index.partitioning.enabled:false}")
+    private boolean enabled;
+    
+    @Value("${search.partitions.step-size:3}")
+    private int stepSize;
+    
+    private volatile List<Partition> partitions = Collections.emptyList();
+    
+    /**
+     * 트랜잭션이 저장될 월 파티션 이름 (timestamp 는 UTC, 없으면 현재 월)
+     */
+    public static String indexName(LocalDateTime timestamp) {
+        YearMonth month = timestamp != null ? YearMonth.from(timestamp) : YearMonth.now(ZoneOffset.UTC);
+        return PREFIX + month.format(MONTH_FORMAT);
+    }
+    
+    /**
+     * 범위와 겹치는 파티션을 최신순으로 stepSize 개씩 묶어 반환 - 범위 값은 모두 선택(null 이면 제한 없음)
+     * 파티셔닝을 쓰지 않거나 파티션 정보가 아직 없으면 읽기 별칭 하나로 검색
+     */
+    public List<List<String>> plan(LocalDateTime fromTime, LocalDateTime toTime, Long fromBlock, Long toBlock) {
+        List<Partition> known = partitions;
+        if (!enabled || known.isEmpty()) {
+            return Collections.singletonList(Collections.singletonList(ALIAS));
+        }
+        
+        List<Partition> candidates = new ArrayList<>(known);
+        YearMonth current = YearMonth.now(ZoneOffset.UTC);
+        if (known.stream().noneMatch(partition -> partition.month.equals(current))) {
+            candidates.add(new Partition(indexName(current.atDay(1).atStartOfDay()), current, null, null));
+        }
+        candidates.sort(Comparator.comparing((Partition partition) -> partition.month).reversed());
+        
+        List<String> selected = new ArrayList<>();
+        for (int i = 0; i < candidates.size(); i++) {
+            Partition partition = candidates.get(i);
+            if (partition.overlapsTime(fromTime, toTime) && partition.overlapsBlocks(fromBlock, toBlock, i == 0)) {
+                selected.add(partition.name);
+            }
+        }
+        
+        List<List<String>> steps = new ArrayList<>();
+        for (int start = 0; start < selected.size(); start += Math.max(stepSize, 1)) {
+            steps.add(selected.subList(start, Math.min(start + Math.max(stepSize, 1), selected.size())));
+        }
+        return steps;
+    }
+    
+    /**
+     * 읽기 별칭에 대한 _index 집계로 파티션 목록과 블록 범위 갱신
+     */
+    @Scheduled(initialDelayString = "${search.partitions.initial-delay:5000}",
+            fixedDelayString = "${search.partitions.refresh-interval:60000}")
+    public void refresh() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            SearchSourceBuilder sourceBuilder = new SearchSourceBuilder()
+                    .size(0)
+                    .trackTotalHits(false)
+                    .aggregation(AggregationBuilders.terms("partitions").field("_index").size(10_000)
+                            .subAggregation(AggregationBuilders.min("minBlock").field("blockNumber"))
+                            .subAggregation(AggregationBuilders.max("maxBlock").field("blockNumber")));
+            org.elasticsearch.action.search.SearchResponse response = elasticsearchClient.search(
+                    new org.elasticsearch.action.search.SearchRequest(ALIAS)
+                            .indicesOptions(INDICES_OPTIONS)
+                            .source(sourceBuilder),
+                    RequestOptions.DEFAULT);
+            
+            List<Partition> refreshed = new ArrayList<>();
+            Terms terms = response.getAggregations().get("partitions");
+            for (Terms.Bucket bucket : terms.getBuckets()) {
+                String name = bucket.getKeyAsString();
+                YearMonth month = parseMonth(name);
+                if (month == null) {
+                    continue; // 파티션 이름 규칙이 아닌 인덱스 (재색인 전 단일 인덱스 등)
+                }
+                Min min = bucket.getAggregations().get("minBlock");
+                Max max = bucket.getAggregations().get("maxBlock");
+                refreshed.add(new Partition(name, month,
+                        Double.isInfinite(min.getValue()) ? null : (long) min.getValue(),
+                        Double.isInfinite(max.getValue()) ? null : (long) max.getValue()));
+            }
+            
+            partitions = refreshed;
+            log.debug("트랜잭션 파티션 목록 갱신: {}개", refreshed.size());
+        } catch (Exception e) {
+            log.warn("트랜잭션 파티션 목록 갱신 실패: {}", e.getMessage());
+        }
+    }
+    
+    private static YearMonth parseMonth(String indexName) {
+        if (!indexName.startsWith(PREFIX)) {
+            return null;
+        }
+        try {
+            return YearMonth.parse(indexName.substring(PREFIX.length()), MONTH_FORMAT);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+    
+    private static class Partition {
+        
+        private final String name;
+        private final YearMonth month;
+        private final Long minBlock;
+        private final Long maxBlock;
+        
+        Partition(String name, YearMonth month, Long minBlock, Long maxBlock) {
+            this.name = name;
+            this.month = month;
+            this.minBlock = minBlock;
+            this.maxBlock = maxBlock;
+        }
+        
+        boolean overlapsTime(LocalDateTime fromTime, LocalDateTime toTime) {
+            LocalDateTime start = month.atDay(1).atStartOfDay();
+            LocalDateTime end = month.plusMonths(1).atDay(1).atStartOfDay();
+            return (fromTime == null || fromTime.isBefore(end)) && (toTime == null || !toTime.isBefore(start));
+        }
+        
+        /**
+         * 블록 범위를 모르는 파티션은 포함, 최신 파티션은 집계 이후 색인된 블록이 있을 수 있어 상한을 열어 둠
+         */
+        boolean overlapsBlocks(Long fromBlock, Long toBlock, boolean newest) {
+            if (minBlock == null || maxBlock == null) {
+                return true;
+            }
+            return (toBlock == null || minBlock <= toBlock) && (fromBlock == null || newest || maxBlock >= fromBlock);
+        }
+    }
+}
@@ -0,0 +1,206 @@
+package com.blockchain.search.stats;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.elasticsearch.client.Request;
+import org.elasticsearch.client.Response;
+import org.elasticsearch.client.RestHighLevelClient;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.*;
+
+/**
+ * 인덱스 통계 수집 - 주기적으로 _stats 한 번으로 문서 수/저장 크기/세그먼트 수/색인 속도를 모아 메모리에 보관하고
+ * index_status 테이블에 기록한다. /api/v1/es/indices, /count, /stats 는 ES 를 호출하지 않고 이 스냅샷으로 응답
+ * 값은 primary 샤드 기준이며, transactions 는 읽기 별칭 아래 월별 파티션의 합계
+ */
+@Component
+public class IndexStatsCollector {
+    
+    private static final Logger log = LoggerFactory.getLogger(IndexStatsCollector.class);
+    
+    public static final List<String> INDICES = Arrays.asList("transactions", "addresses", "tokens");
+    private static final String STATS_ENDPOINT = "/" + String.join(",", INDICES) + "/_stats/docs,store,segments,indexing";
+    
+    @Autowired
+    @Qualifier("customElasticsearchClient")
+    private RestHighLevelClient elasticsearchClient;
+    
+    @Autowired
+    private ObjectMapper objectMapper;
+    
+    @Autowired
+    private IndexStatusRepository indexStatusRepository;
+    
+    private volatile Map<String, IndexStats> snapshot = Collections.emptyMap();
+    
+    /**
+     * 첫 수집 전에는 index_status 에 남아 있는 마지막 스냅샷으로 응답
+     */
+    @PostConstruct
+    public void loadLastSnapshot() {
+        try {
+            Map<String, IndexStats> loaded = new LinkedHashMap<>();
+            for (String index : INDICES) {
+                indexStatusRepository.findFirstByIndexNameOrderByIdDesc(index)
+                        .ifPresent(row -> loaded.put(index, IndexStats.from(row)));
+            }
+            snapshot = loaded;
+        } catch (Exception e) {
+            log.warn("마지막 인덱스 통계 로드 실패: {}", e.getMessage());
+        }
+    }
+    
+    @Scheduled(initialDelayString = "${search.index-stats.initial-delay:0}",
+            fixedDelayString = "${search.index-stats.refresh-interval:10000}")
+    public synchronized void refresh() {
+        JsonNode indices;
+        Request request = new Request("GET", STATS_ENDPOINT);
+        request.addParameter("ignore_unavailable", "true"); // 파티션이 아직 없는 transactions 별칭
+        try {
+            Response response = elasticsearchClient.getLowLevelClient().performRequest(request);
+            try (InputStream content = response.getEntity().getContent()) {
+                indices = objectMapper.readTree(content).path("indices");
+            }
+        } catch (IOException e) {
+            log.warn("인덱스 통계 갱신 실패: {}", e.getMessage());
+            return;
+        }
+        
+        long now = System.currentTimeMillis();
+        Map<String, IndexStats> previous = snapshot;
+        Map<String, IndexStats> refreshed = new LinkedHashMap<>();
+        for (String index : INDICES) {
+            refreshed.put(index, collect(index, indices, previous.get(index), now));
+        }
+        snapshot = refreshed;
+        persist(refreshed);
+    }
+    
+    /**
+     * 인덱스별 상태 (documentCount, status, storeSizeBytes, segmentCount, indexingRate, lastUpdated)
+     * 요청 스레드에서는 ES 를 호출하지 않음 - 아직 수집된 적 없는 인덱스(기동 직후 ES 장애, index_status 비어 있음)는
+     * status=unknown, lastUpdated=null 로 응답하고 갱신은 스케줄러에 맡김
+     */
+    public Map<String, Object> status() {
+        Map<String, IndexStats> current = snapshot;
+        Map<String, Object> status = new LinkedHashMap<>();
+        for (String index : INDICES) {
+            status.put(index, current.getOrDefault(index, IndexStats.UNKNOWN).toMap());
+        }
+        return status;
+    }
+    
+    private IndexStats collect(String index, JsonNode indices, IndexStats previous, long now) {
+        boolean found = false;
+        long documentCount = 0;
+        long storeSizeBytes = 0;
+        long segmentCount = 0;
+        long indexTotal = 0;
+        
+        Iterator<Map.Entry<String, JsonNode>> entries = indices.fields();
+        while (entries.hasNext()) {
+            Map.Entry<String, JsonNode> entry = entries.next();
+            if (!entry.getKey().equals(index) && !entry.getKey().startsWith(index + "-")) {
+                continue;
+            }
+            JsonNode primaries = entry.getValue().path("primaries");
+            found = true;
+            documentCount += primaries.path("docs").path("count").asLong();
+            storeSizeBytes += primaries.path("store").path("size_in_bytes").asLong();
+            segmentCount += primaries.path("segments").path("count").asLong();
+            indexTotal += primaries.path("indexing").path("index_total").asLong();
+        }
+        
+        // index_total 은 샤드 재배치/노드 재시작 시 초기화될 수 있으므로 음수 증가분은 0으로 처리
+        double indexingRate = 0;
+        if (previous != null && previous.indexTotal >= 0 && now > previous.collectedAt) {
+            indexingRate = Math.max(indexTotal - previous.indexTotal, 0) * 1000.0 / (now - previous.collectedAt);
+        }
+        return new IndexStats(found ? "active" : "missing", documentCount, storeSizeBytes, segmentCount,
+                indexTotal, indexingRate, now);
+    }
+    
+    private void persist(Map<String, IndexStats> stats) {
+        try {
+            for (Map.Entry<String, IndexStats> entry : stats.entrySet()) {
+                String index = entry.getKey();
+                IndexStats indexStats = entry.getValue();
+                IndexStatus row = indexStatusRepository.findFirstByIndexNameOrderByIdDesc(index)
+                        .orElseGet(() -> new IndexStatus(index));
+                row.setStatus(indexStats.status);
+                row.setDocumentCount(indexStats.documentCount);
+                row.setStoreSizeBytes(indexStats.storeSizeBytes);
+                row.setSegmentCount(indexStats.segmentCount);
+                row.setIndexingRate(indexStats.indexingRate);
+                row.setLastUpdated(toLocalDateTime(indexStats.collectedAt));
+                indexStatusRepository.save(row);
+            }
+        } catch (Exception e) {
+            // DB 장애와 무관하게 메모리 스냅샷으로 계속 응답
+            log.warn("인덱스 통계 저장 실패: {}", e.getMessage());
+        }
+    }
+    
+    private static LocalDateTime toLocalDateTime(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+    }
+    
+    private static class IndexStats {
+        
+        static final IndexStats UNKNOWN = new IndexStats("unknown", 0, 0, 0, -1, 0, 0);
+        
+        private final String status;
+        private final long documentCount;
+        private final long storeSizeBytes;
+        private final long segmentCount;
+        private final long indexTotal; // 누적 색인 문서 수, 모르면 -1 (DB 에서 읽은 스냅샷)
+        private final double indexingRate;
+        private final long collectedAt;
+        
+        IndexStats(String status, long documentCount, long storeSizeBytes, long segmentCount, long indexTotal,
+                   double indexingRate, long collectedAt) {
+            this.status = status;
+            this.documentCount = documentCount;
+            this.storeSizeBytes = storeSizeBytes;
+            this.segmentCount = segmentCount;
+            this.indexTotal = indexTotal;
+            this.indexingRate = indexingRate;
+            this.collectedAt = collectedAt;
+        }
+        
+        static IndexStats from(IndexStatus row) {
+            long collectedAt = row.getLastUpdated() != null
+                    ? row.getLastUpdated().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli() : 0;
+            return new IndexStats(row.getStatus(),
+                    row.getDocumentCount() != null ? row.getDocumentCount() : 0,
+                    row.getStoreSizeBytes() != null ? row.getStoreSizeBytes() : 0,
+                    row.getSegmentCount() != null ? row.getSegmentCount() : 0,
+                    -1,
+                    row.getIndexingRate() != null ? row.getIndexingRate() : 0,
+                    collectedAt);
+        }
+        
+        Map<String, Object> toMap() {
+            Map<String, Object> map = new LinkedHashMap<>();
+            map.put("documentCount", documentCount);
+            map.put("status", status);
+            map.put("storeSizeBytes", storeSizeBytes);
+            map.put("segmentCount", segmentCount);
+            map.put("indexingRate", indexingRate);
+            map.put("lastUpdated", collectedAt > 0 ? collectedAt : null);
+            return map;
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.blockchain.search.stats;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import java.time.LocalDateTime;
+
+/**
+ * 인덱스별 마지막 통계 스냅샷 (index_status 테이블) - 재시작 직후에도 마지막 값을 응답하기 위함
+ */
+@Entity
+@Table(name = "index_status")
+public class IndexStatus {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Column(name = "index_name", nullable = false, length = 100)
+    private String indexName;
+    
+    @Column(length = 20)
+    private String status;
+    
+    @Column(name = "document_count")
+    private Long documentCount;
+    
+    @Column(name = "store_size_bytes")
+    private Long storeSizeBytes;
+    
+    @Column(name = "segment_count")
+    private Long segmentCount;
+    
+    @Column(name = "indexing_rate")
+    private Double indexingRate; // 직전 수집 이후 초당 색인 문서 수
+    
+    @Column(name = "last_updated")
+    private LocalDateTime lastUpdated;
+    
+    @Column(name = "created_at", updatable = false)
+    private LocalDateTime createdAt;
+    
+    // Constructors
+    public IndexStatus() {}
+    
+    public IndexStatus(String indexName) {
+        this.indexName = indexName;
+        this.createdAt = LocalDateTime.now();
+    }
+    
+    // Getters and Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+    
+    public String getIndexName() { return indexName; }
+    public void setIndexName(String indexName) { this.indexName = indexName; }
+    
+    public String getStatus() { return status; }
+    public void setStatus(String status) { this.status = status; }
+    
+    public Long getDocumentCount() { return documentCount; }
+    public void setDocumentCount(Long documentCount) { this.documentCount = documentCount; }
+    
+    public Long getStoreSizeBytes() { return storeSizeBytes; }
+    public void setStoreSizeBytes(Long storeSizeBytes) { this.storeSizeBytes = storeSizeBytes; }
+    
+    public Long getSegmentCount() { return segmentCount; }
+    public void setSegmentCount(Long segmentCount) { this.segmentCount = segmentCount; }
+    
+    public Double getIndexingRate() { return indexingRate; }
+    public void setIndexingRate(Double indexingRate) { this.indexingRate = indexingRate; }
+    
+    public LocalDateTime getLastUpdated() { return lastUpdated; }
+    public void setLastUpdated(LocalDateTime lastUpdated) { this.lastUpdated = lastUpdated; }
+    
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+}
@@ -0,0 +1,10 @@
+package com.blockchain.search.stats;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Optional;
+
+public interface IndexStatusRepository extends JpaRepository<IndexStatus, Long> {
+    
+    Optional<IndexStatus> findFirstByIndexNameOrderByIdDesc(String indexName);
+}
@@ -0,0 +1,158 @@
+package com.blockchain.search.util;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 문자열 Bloom 필터 - mightContain 이 false 면 put 한 적이 없는 값 (거짓 음성 없음, 거짓 양성은 fpp 수준)
+ * 비트 배열은 힙(AtomicLongArray) 또는 오프힙(direct ByteBuffer)에 두며, put/mightContain 모두 잠금 없이 동시 호출 가능
+ * 해시는 64비트 해시 두 개로 k 개 위치를 만드는 double hashing (Kirsch-Mitzenmacher)
+ */
+public class BloomFilter {
+    
+    private static final VarHandle WORDS = MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.nativeOrder());
+    
+    private final long bitCount;
+    private final int hashCount;
+    private final AtomicLongArray heapWords;
+    private final ByteBuffer offHeapWords;
+    private final LongAdder insertions = new LongAdder();
+    private final LongAdder setBits = new LongAdder();
+    
+    private BloomFilter(long bitCount, int hashCount, boolean offHeap) {
+        int wordCount = (int) ((bitCount + 63) >>> 6);
+        this.bitCount = (long) wordCount << 6;
+        this.hashCount = hashCount;
+        if (offHeap) {
+            // CAS 는 8바이트 정렬된 위치에서만 가능
+            this.heapWords = null;
+            this.offHeapWords = ByteBuffer.allocateDirect(wordCount * Long.BYTES + Long.BYTES - 1).alignedSlice(Long.BYTES);
+        } else {
+            this.heapWords = new AtomicLongArray(wordCount);
+            this.offHeapWords = null;
+        }
+    }
+    
+    /**
+     * expectedInsertions 건을 넣었을 때 거짓 양성 비율이 fpp 가 되는 크기로 생성 - maxBytes 를 넘으면 maxBytes 로 줄임 (fpp 증가)
+     */
+    public static BloomFilter create(long expectedInsertions, double fpp, long maxBytes, boolean offHeap) {
+        long expected = Math.max(expectedInsertions, 1);
+        long maxBits = Math.min(maxBytes, (long) Integer.MAX_VALUE - Long.BYTES) * Byte.SIZE;
+        long bits = Math.max(Math.min(requiredBits(expected, fpp), maxBits), Long.SIZE);
+        int hashCount = (int) Math.max(Math.round((double) bits / expected * Math.log(2)), 1);
+        return new BloomFilter(bits, Math.min(hashCount, 16), offHeap);
+    }
+    
+    /**
+     * expectedInsertions 건에 fpp 를 맞추는 비트 배열 크기(바이트)
+     */
+    public static long requiredBytes(long expectedInsertions, double fpp) {
+        return (requiredBits(Math.max(expectedInsertions, 1), fpp) + Byte.SIZE - 1) / Byte.SIZE;
+    }
+    
+    private static long requiredBits(long expected, double fpp) {
+        return (long) Math.ceil(-expected * Math.log(fpp) / (Math.log(2) * Math.log(2)));
+    }
+    
+    public void put(String value) {
+        long hash1 = hash(value);
+        long hash2 = mix(hash1 + 0x9E3779B97F4A7C15L) | 1;
+        for (int i = 0; i < hashCount; i++) {
+            if (setBit(Long.remainderUnsigned(hash1 + i * hash2, bitCount))) {
+                setBits.increment();
+            }
+        }
+        insertions.increment();
+    }
+    
+    public boolean mightContain(String value) {
+        long hash1 = hash(value);
+        long hash2 = mix(hash1 + 0x9E3779B97F4A7C15L) | 1;
+        for (int i = 0; i < hashCount; i++) {
+            if (!getBit(Long.remainderUnsigned(hash1 + i * hash2, bitCount))) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    /**
+     * 현재 켜진 비트 비율로 계산한 거짓 양성 비율 (fill ratio ^ k) - 예상보다 많이 넣으면 설정한 fpp 보다 커짐
+     */
+    public double expectedFpp() {
+        return Math.pow((double) setBits.sum() / bitCount, hashCount);
+    }
+    
+    /**
+     * put 호출 수 (같은 값을 여러 번 넣으면 중복 계산)
+     */
+    public long insertions() {
+        return insertions.sum();
+    }
+    
+    public long memoryBytes() {
+        return bitCount / Byte.SIZE;
+    }
+    
+    public boolean isOffHeap() {
+        return offHeapWords != null;
+    }
+    
+    private boolean setBit(long bit) {
+        int word = (int) (bit >>> 6);
+        long mask = 1L << bit;
+        if (heapWords != null) {
+            long current;
+            do {
+                current = heapWords.get(word);
+                if ((current & mask) != 0) {
+                    return false;
+                }
+            } while (!heapWords.compareAndSet(word, current, current | mask));
+            return true;
+        }
+        int offset = word * Long.BYTES;
+        long current;
+        do {
+            current = (long) WORDS.getVolatile(offHeapWords, offset);
+            if ((current & mask) != 0) {
+                return false;
+            }
+        } while (!WORDS.compareAndSet(offHeapWords, offset, current, current | mask));
+        return true;
+    }
+    
+    private boolean getBit(long bit) {
+        int word = (int) (bit >>> 6);
+        long mask = 1L << bit;
+        long current = heapWords != null
+                ? heapWords.get(word)
+                : (long) WORDS.getVolatile(offHeapWords, word * Long.BYTES);
+        return (current & mask) != 0;
+    }
+    
+    /**
+     * FNV-1a 뒤 murmur3 finalizer 로 비트를 섞음
+     */
+    private static long hash(String value) {
+        long hash = 0xCBF29CE484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            hash = (hash ^ value.charAt(i)) * 0x100000001B3L;
+        }
+        return mix(hash);
+    }
+    
+    private static long mix(long hash) {
+        hash ^= hash >>> 33;
+        hash *= 0xFF51AFD7ED558CCDL;
+        hash ^= hash >>> 33;
+        hash *= 0xC4CEB93FE1A85EC3L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
@@ -0,0 +1,37 @@
+package com.blockchain.search.util;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * 요청 단위 취소 범위 - 결과 future가 취소되면(데드라인 초과, 클라이언트 연결 종료) 등록된 ES 호출을 모두 취소
+ * thenCompose/thenApply 로 파생된 future는 취소가 상위로 전파되지 않기 때문에 사용한다
+ */
+public class CancellationScope {
+    
+    private final List<CompletableFuture<?>> tracked = new CopyOnWriteArrayList<>();
+    private volatile boolean cancelled;
+    
+    public <T> CompletableFuture<T> track(CompletableFuture<T> future) {
+        tracked.add(future);
+        if (cancelled) {
+            future.cancel(true);
+        }
+        return future;
+    }
+    
+    public <T> CompletableFuture<T> bind(CompletableFuture<T> result) {
+        result.whenComplete((value, error) -> {
+            if (result.isCancelled()) {
+                cancel();
+            }
+        });
+        return result;
+    }
+    
+    public void cancel() {
+        cancelled = true;
+        tracked.forEach(future -> future.cancel(true));
+    }
+}
@@ -0,0 +1,51 @@
+package com.blockchain.search.util;
+
+import org.elasticsearch.action.ActionListener;
+import org.elasticsearch.client.Cancellable;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Function;
+
+/**
+ * Elasticsearch 비동기 호출(searchAsync 등)을 CompletableFuture로 변환
+ * future를 취소하면 진행 중인 HTTP 요청(Cancellable)도 취소된다
+ */
+public final class EsFutures {
+    
+    private EsFutures() {}
+    
+    public static <T> CompletableFuture<T> execute(Function<ActionListener<T>, Cancellable> call) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        Cancellable cancellable = call.apply(ActionListener.wrap(future::complete, future::completeExceptionally));
+        future.whenComplete((result, error) -> {
+            if (future.isCancelled()) {
+                cancellable.cancel();
+            }
+        });
+        return future;
+    }
+    
+    /**
+     * source.thenApply(fn) 과 같지만 결과 future 취소가 source 로 전파된다
+     */
+    public static <T, R> CompletableFuture<R> thenApply(CompletableFuture<T> source, Function<? super T, ? extends R> fn) {
+        CompletableFuture<R> derived = source.thenApply(fn);
+        derived.whenComplete((result, error) -> {
+            if (derived.isCancelled()) {
+                source.cancel(true);
+            }
+        });
+        return derived;
+    }
+    
+    public static Throwable unwrap(Throwable error) {
+        Throwable cause = error;
+        while ((cause instanceof CompletionException || cause instanceof ExecutionException)
+                && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause;
+    }
+}
@@ -0,0 +1,83 @@
+package com.blockchain.search.util;
+
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 검색어 분류기 - 완전한 트랜잭션 해시/주소는 term 조회로, 부분 hex 조각만 느린 경로로 보낸다
+ */
+public final class QueryClassifier {
+    
+    public enum QueryType {
+        TX_HASH,      // 0x + 64 hex (66자)
+        ADDRESS,      // 0x + 40 hex (42자)
+        HEX_FRAGMENT, // 0x로 시작하는 부분 hex 문자열
+        TRUNCATED_HEX, // 앞/뒤만 남은 축약 해시 (0xabc…def, 0xabc...def)
+        TEXT          // 일반 텍스트 (토큰 심볼, 이름 등)
+    }
+    
+    public static final int TX_HASH_LENGTH = 66;
+    public static final int ADDRESS_LENGTH = 42;
+    
+    private static final Pattern HEX_PATTERN = Pattern.compile("^0x[a-fA-F0-9]+$");
+    private static final Pattern TRUNCATED_HEX_PATTERN =
+            Pattern.compile("^(0x[a-fA-F0-9]*)?(?:\u2026|\\.{2,3})([a-fA-F0-9]+)$");
+    
+    private QueryClassifier() {}
+    
+    public static QueryType classify(String query) {
+        if (query == null) {
+            return QueryType.TEXT;
+        }
+        if (!HEX_PATTERN.matcher(query).matches()) {
+            return TRUNCATED_HEX_PATTERN.matcher(query).matches() ? QueryType.TRUNCATED_HEX : QueryType.TEXT;
+        }
+        if (query.length() == TX_HASH_LENGTH) {
+            return QueryType.TX_HASH;
+        }
+        if (query.length() == ADDRESS_LENGTH) {
+            return QueryType.ADDRESS;
+        }
+        return QueryType.HEX_FRAGMENT;
+    }
+    
+    public static boolean isHex(String query) {
+        return classify(query) != QueryType.TEXT;
+    }
+    
+    /**
+     * 부분 hex 검색어를 앞부분(head)과 뒷부분(tail)으로 분리 - 둘 다 소문자로 정규화
+     */
+    public static HexFragment parseFragment(String query) {
+        Matcher matcher = TRUNCATED_HEX_PATTERN.matcher(query);
+        if (matcher.matches()) {
+            String head = matcher.group(1) != null ? matcher.group(1) : "";
+            return new HexFragment(normalize(head), normalize(matcher.group(2)));
+        }
+        return new HexFragment(normalize(query), "");
+    }
+    
+    /**
+     * 해시/주소 정규화 - 체크섬 주소 등 대소문자 혼용 입력을 소문자로 통일
+     */
+    public static String normalize(String hex) {
+        return hex == null ? null : hex.trim().toLowerCase(Locale.ROOT);
+    }
+    
+    public static final class HexFragment {
+        private final String head; // "0x..." 앞부분, 없으면 빈 문자열
+        private final String tail; // 뒷부분 hex, 없으면 빈 문자열
+        
+        public HexFragment(String head, String tail) {
+            this.head = head;
+            this.tail = tail;
+        }
+        
+        public String getHead() { return head; }
+        public String getTail() { return tail; }
+        
+        public boolean hasHead() { return head.length() > 2; } // "0x"만 있는 경우 제외
+        public boolean hasTail() { return !tail.isEmpty(); }
+    }
+}
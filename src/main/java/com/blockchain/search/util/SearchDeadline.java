@@ -0,0 +1,83 @@
+package com.blockchain.search.util;
+
+import org.elasticsearch.core.TimeValue;
+import org.elasticsearch.search.builder.SearchSourceBuilder;
+
+import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 검색 요청 한 건의 제한 시간 - 요청 시작 시 만들어 ES 호출마다 남은 시간을 ES timeout 으로 넘기고,
+ * 제한 시간이 되면 끝난 호출의 결과만으로 응답한다
+ * ES timeout 은 샤드의 수집(query) 단계에만 적용되는 최선 노력이므로 fetch/네트워크/응답 변환 몫(esMargin)을 뺀 값을 쓴다
+ */
+public final class SearchDeadline {
+    
+    private static final SearchDeadline NONE = new SearchDeadline(false, 0, 0, 0);
+    
+    private final boolean bounded;
+    private final long deadlineNanos;
+    private final long esMarginNanos;
+    private final int terminateAfter;
+    
+    private SearchDeadline(boolean bounded, long deadlineNanos, long esMarginNanos, int terminateAfter) {
+        this.bounded = bounded;
+        this.deadlineNanos = deadlineNanos;
+        this.esMarginNanos = esMarginNanos;
+        this.terminateAfter = terminateAfter;
+    }
+    
+    /**
+     * 제한 없음 - 모든 호출이 끝날 때까지 기다림
+     */
+    public static SearchDeadline none() {
+        return NONE;
+    }
+    
+    /**
+     * @param terminateAfter 샤드당 수집 문서 상한 (0 이면 적용 안 함)
+     */
+    public static SearchDeadline after(long budgetMillis, long esMarginMillis, int terminateAfter) {
+        return new SearchDeadline(true, System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(budgetMillis),
+                TimeUnit.MILLISECONDS.toNanos(esMarginMillis), terminateAfter);
+    }
+    
+    public long remainingNanos() {
+        return bounded ? deadlineNanos - System.nanoTime() : Long.MAX_VALUE;
+    }
+    
+    /**
+     * ES 호출을 한 번 더 보낼 시간이 남지 않음
+     */
+    public boolean isExhausted() {
+        return bounded && remainingNanos() <= esMarginNanos;
+    }
+    
+    /**
+     * 남은 시간으로 ES timeout(최소 1ms)과 terminate_after 설정 - 요청을 보내기 직전에 호출
+     */
+    public void apply(SearchSourceBuilder sourceBuilder) {
+        if (!bounded) {
+            return;
+        }
+        long timeoutMillis = TimeUnit.NANOSECONDS.toMillis(remainingNanos() - esMarginNanos);
+        sourceBuilder.timeout(TimeValue.timeValueMillis(Math.max(timeoutMillis, 1)));
+        if (terminateAfter > 0) {
+            sourceBuilder.terminateAfter(terminateAfter);
+        }
+    }
+    
+    /**
+     * futures 가 모두 끝나거나(성공/실패 무관) 제한 시간이 되면 완료 - 끝나지 않은 future 는 호출자가 정리
+     */
+    public CompletableFuture<Void> await(Collection<? extends CompletableFuture<?>> futures) {
+        CompletableFuture<Void> settled = new CompletableFuture<>();
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]))
+                .whenComplete((ignored, error) -> settled.complete(null));
+        if (bounded) {
+            settled.completeOnTimeout(null, Math.max(remainingNanos(), 0), TimeUnit.NANOSECONDS);
+        }
+        return settled;
+    }
+}
@@ -0,0 +1,105 @@
+package com.blockchain.search.util;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * 같은 키의 동시 비동기 호출을 하나로 합침 (single-flight)
+ * 먼저 온 호출(leader)만 실제로 실행하고, 실행 중에 들어온 같은 키의 호출(follower)은 그 결과를 공유한다
+ * 완료되면 키를 비우므로 결과를 보관하지 않음 (캐시와 별개 - 캐시 미스가 동시에 몰리는 순간만 합침)
+ * 호출자마다 별도 future 를 돌려주므로 한 호출자의 취소(데드라인 초과, 연결 종료)는 다른 호출자에게 전파되지 않고,
+ * 모든 호출자가 취소해야 공유 호출이 취소된다
+ */
+public class SingleFlight<K, V> {
+    
+    private final ConcurrentMap<K, Flight<V>> flights = new ConcurrentHashMap<>();
+    
+    /**
+     * @param call 이 호출이 leader 일 때만 호출 스레드에서 실행됨
+     */
+    public CompletableFuture<V> execute(K key, Supplier<CompletableFuture<V>> call) {
+        while (true) {
+            Flight<V> created = new Flight<>();
+            Flight<V> flight = flights.putIfAbsent(key, created);
+            if (flight == null) {
+                flight = created;
+                flight.join();
+                start(key, flight, call);
+                return flight.newCaller();
+            }
+            if (flight.join()) {
+                return flight.newCaller();
+            }
+            // 모든 호출자가 취소해 닫힌 flight - 제거 후 새로 시작
+            flights.remove(key, flight);
+        }
+    }
+    
+    private void start(K key, Flight<V> flight, Supplier<CompletableFuture<V>> call) {
+        flight.shared.whenComplete((value, error) -> flights.remove(key, flight));
+        CompletableFuture<V> source;
+        try {
+            source = call.get();
+        } catch (RuntimeException e) {
+            flight.shared.completeExceptionally(e);
+            return;
+        }
+        source.whenComplete((value, error) -> {
+            if (error != null) {
+                flight.shared.completeExceptionally(error);
+            } else {
+                flight.shared.complete(value);
+            }
+        });
+        flight.shared.whenComplete((value, error) -> {
+            if (flight.shared.isCancelled()) {
+                source.cancel(true);
+            }
+        });
+    }
+    
+    private static class Flight<V> {
+        
+        private final CompletableFuture<V> shared = new CompletableFuture<>();
+        private int callers; // guarded by this
+        private boolean closed; // guarded by this
+        
+        synchronized boolean join() {
+            if (closed) {
+                return false;
+            }
+            callers++;
+            return true;
+        }
+        
+        CompletableFuture<V> newCaller() {
+            CompletableFuture<V> caller = new CompletableFuture<>();
+            shared.whenComplete((value, error) -> {
+                if (error != null) {
+                    caller.completeExceptionally(error);
+                } else {
+                    caller.complete(value);
+                }
+            });
+            caller.whenComplete((value, error) -> {
+                if (caller.isCancelled()) {
+                    leave();
+                }
+            });
+            return caller;
+        }
+        
+        private void leave() {
+            synchronized (this) {
+                callers--;
+                if (callers > 0 || shared.isDone()) {
+                    return;
+                }
+                closed = true;
+            }
+            shared.cancel(true);
+        }
+    }
+}
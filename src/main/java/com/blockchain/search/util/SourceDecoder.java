@@ -0,0 +1,64 @@
+package com.blockchain.search.util;
+
+import com.blockchain.search.model.Address;
+import com.blockchain.search.model.Token;
+import com.blockchain.search.model.Transaction;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.elasticsearch.common.bytes.BytesReference;
+import org.elasticsearch.search.SearchHit;
+import org.elasticsearch.search.SearchHits;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 검색 히트 _source 바이트를 모델 클래스로 직접 바인딩
+ * getSourceAsMap() + convertValue() 경로의 중간 LinkedHashMap 트리 생성과 이중 순회를 없앤다
+ * ObjectReader는 불변/스레드 안전하므로 모델 클래스별로 미리 만들어 재사용
+ */
+public class SourceDecoder {
+    
+    private final ObjectMapper objectMapper;
+    private final Map<Class<?>, ObjectReader> readers = new ConcurrentHashMap<>();
+    
+    public SourceDecoder(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        readers.put(Transaction.class, objectMapper.readerFor(Transaction.class));
+        readers.put(Address.class, objectMapper.readerFor(Address.class));
+        readers.put(Token.class, objectMapper.readerFor(Token.class));
+    }
+    
+    public <T> T decode(SearchHit hit, Class<T> type) {
+        BytesReference source = hit.getSourceRef();
+        if (source == null) {
+            return null; // _source 미포함 히트
+        }
+        
+        ObjectReader reader = readers.computeIfAbsent(type, objectMapper::readerFor);
+        try {
+            if (source.hasArray()) {
+                return reader.readValue(source.array(), source.arrayOffset(), source.length());
+            }
+            // 여러 페이지로 나뉜 바이트는 복사 없이 스트림으로 읽음
+            try (InputStream stream = source.streamInput()) {
+                return reader.readValue(stream);
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("검색 결과 변환 중 오류 발생: " + hit.getId(), e);
+        }
+    }
+    
+    public <T> List<T> decodeAll(SearchHits hits, Class<T> type) {
+        SearchHit[] hitArray = hits.getHits();
+        List<T> results = new ArrayList<>(hitArray.length);
+        for (SearchHit hit : hitArray) {
+            results.add(decode(hit, type));
+        }
+        return results;
+    }
+}
@@ -0,0 +1,60 @@
+package com.blockchain.search.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 접두사 트라이 - 각 노드가 상위 k개 값을 미리 보관해 접두사 길이만큼의 탐색으로 결과 반환
+ * 값은 가중치 내림차순으로 insert 해야 하며, 구축 후에는 읽기 전용으로 사용한다
+ */
+public class TopKPrefixTrie<T> {
+    
+    private final int k;
+    private final Node<T> root = new Node<>();
+    private int size;
+    
+    public TopKPrefixTrie(int k) {
+        this.k = k;
+    }
+    
+    public void insert(String key, T value) {
+        if (key == null || key.isEmpty()) {
+            return;
+        }
+        Node<T> node = root;
+        for (char c : key.toLowerCase(Locale.ROOT).toCharArray()) {
+            node = node.children.computeIfAbsent(c, ignored -> new Node<>());
+            if (node.top.size() < k) {
+                node.top.add(value);
+            }
+        }
+        size++;
+    }
+    
+    public List<T> search(String prefix) {
+        if (prefix == null || prefix.isEmpty()) {
+            return Collections.emptyList();
+        }
+        Node<T> node = root;
+        for (char c : prefix.toLowerCase(Locale.ROOT).toCharArray()) {
+            node = node.children.get(c);
+            if (node == null) {
+                return Collections.emptyList();
+            }
+        }
+        return Collections.unmodifiableList(node.top);
+    }
+    
+    public int size() {
+        return size;
+    }
+    
+    private static final class Node<T> {
+        private final Map<Character, Node<T>> children = new HashMap<>();
+        private final List<T> top = new ArrayList<>(1);
+    }
+}
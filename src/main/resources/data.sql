@@ -32,16 +32,26 @@ CREATE TABLE IF NOT EXISTS search_history (
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
 );
 
--- 인덱스 생성 상태 테이블
+-- 인덱스 상태 테이블 (IndexStatsCollector 가 주기적으로 마지막 통계 스냅샷을 기록)
 CREATE TABLE IF NOT EXISTS index_status (
     id BIGINT AUTO_INCREMENT PRIMARY KEY,
     index_name VARCHAR(100) NOT NULL,
     status VARCHAR(20) DEFAULT 'pending',
     document_count BIGINT DEFAULT 0,
+    store_size_bytes BIGINT DEFAULT 0,
+    segment_count BIGINT DEFAULT 0,
+    indexing_rate DOUBLE DEFAULT 0,
     last_updated TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
 );
 
+-- 블록 수집 체크포인트 테이블 (네트워크별 마지막 색인 블록)
+CREATE TABLE IF NOT EXISTS ingest_checkpoint (
+    network VARCHAR(50) PRIMARY KEY,
+    last_block BIGINT NOT NULL,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
+
 -- 인덱스 상태 초기화
 INSERT INTO index_status (index_name, status, document_count) VALUES
 ('transactions', 'active', 0),
@@ -0,0 +1,152 @@
+package com.blockchain.search.resilience;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CircuitBreakerTest {
+    
+    private static final long OPEN_NANOS = 1_000;
+    
+    private final AtomicLong clock = new AtomicLong();
+    
+    // window 10, minimum 4, 실패율 50%, 시험 호출 2건
+    private final CircuitBreaker breaker = new CircuitBreaker(10, 4, 0.5, OPEN_NANOS, 2, clock::get);
+    
+    @Test
+    void staysClosedBelowMinimumCalls() {
+        for (int i = 0; i < 3; i++) {
+            assertTrue(breaker.tryAcquire());
+            breaker.onFailure();
+        }
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+        
+        assertTrue(breaker.tryAcquire());
+        breaker.onFailure();
+        assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+    }
+    
+    @Test
+    void staysClosedBelowFailureRate() {
+        for (int i = 0; i < 10; i++) {
+            assertTrue(breaker.tryAcquire());
+            if (i % 3 == 2) {
+                breaker.onFailure();
+            } else {
+                breaker.onSuccess();
+            }
+        }
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+    }
+    
+    @Test
+    void oldOutcomesLeaveWindow() {
+        // 실패 3건 뒤 성공 10건이면 실패가 모두 window 밖으로 밀려남
+        for (int i = 0; i < 3; i++) {
+            breaker.tryAcquire();
+            breaker.onFailure();
+        }
+        for (int i = 0; i < 10; i++) {
+            breaker.tryAcquire();
+            breaker.onSuccess();
+        }
+        for (int i = 0; i < 4; i++) {
+            breaker.tryAcquire();
+            breaker.onFailure();
+        }
+        // 실패 4 / 10 < 50%
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+        breaker.tryAcquire();
+        breaker.onFailure();
+        assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+    }
+    
+    @Test
+    void rejectsWhileOpenAndAllowsTrialCallsAfterOpenDuration() {
+        open();
+        
+        clock.addAndGet(OPEN_NANOS - 1);
+        assertFalse(breaker.tryAcquire());
+        assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+        
+        clock.addAndGet(1);
+        assertTrue(breaker.tryAcquire());
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.state());
+        assertTrue(breaker.tryAcquire());
+        assertFalse(breaker.tryAcquire());
+    }
+    
+    @Test
+    void closesWhenAllTrialCallsSucceed() {
+        open();
+        clock.addAndGet(OPEN_NANOS);
+        
+        assertTrue(breaker.tryAcquire());
+        assertTrue(breaker.tryAcquire());
+        breaker.onSuccess();
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.state());
+        breaker.onSuccess();
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+        
+        // 닫히면 window 를 비우므로 이전 실패로 바로 다시 열리지 않음
+        breaker.tryAcquire();
+        breaker.onFailure();
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+    }
+    
+    @Test
+    void reopensWhenTrialCallFails() {
+        open();
+        clock.addAndGet(OPEN_NANOS);
+        
+        assertTrue(breaker.tryAcquire());
+        breaker.onFailure();
+        assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+        assertFalse(breaker.tryAcquire());
+        
+        // 다시 연 시점부터 open duration 을 셈
+        clock.addAndGet(OPEN_NANOS);
+        assertTrue(breaker.tryAcquire());
+    }
+    
+    @Test
+    void ignoredTrialCallReturnsPermit() {
+        open();
+        clock.addAndGet(OPEN_NANOS);
+        
+        assertTrue(breaker.tryAcquire());
+        assertTrue(breaker.tryAcquire());
+        assertFalse(breaker.tryAcquire());
+        
+        breaker.onIgnored();
+        assertTrue(breaker.tryAcquire());
+        assertFalse(breaker.tryAcquire());
+        
+        breaker.onSuccess();
+        breaker.onSuccess();
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+    }
+    
+    @Test
+    void ignoredCallsDoNotCountWhileClosed() {
+        for (int i = 0; i < 10; i++) {
+            breaker.tryAcquire();
+            breaker.onIgnored();
+        }
+        breaker.tryAcquire();
+        breaker.onFailure();
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+    }
+    
+    private void open() {
+        for (int i = 0; i < 4; i++) {
+            breaker.tryAcquire();
+            breaker.onFailure();
+        }
+        assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+    }
+}
@@ -0,0 +1,102 @@
+package com.blockchain.search.resilience;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HedgedCallTest {
+    
+    private final ResilientSearchClient.HedgedCall<String> call = new ResilientSearchClient.HedgedCall<>();
+    private final CompletableFuture<String> original = new CompletableFuture<>();
+    private final CompletableFuture<String> hedge = new CompletableFuture<>();
+    
+    @Test
+    void originalWinsWithoutHedge() throws Exception {
+        call.attempt(original, false);
+        original.complete("original");
+        
+        assertEquals("original", call.result.get());
+        assertFalse(call.hedged);
+        assertFalse(call.hedgeWon);
+    }
+    
+    @Test
+    void firstSuccessWins() throws Exception {
+        call.attempt(original, false);
+        call.attempt(hedge, true);
+        
+        hedge.complete("hedge");
+        original.complete("original");
+        
+        assertEquals("hedge", call.result.get());
+        assertTrue(call.hedged);
+        assertTrue(call.hedgeWon);
+    }
+    
+    @Test
+    void failureWaitsForOtherAttempt() throws Exception {
+        call.attempt(original, false);
+        call.attempt(hedge, true);
+        
+        original.completeExceptionally(new IllegalStateException("node down"));
+        assertFalse(call.result.isDone());
+        
+        hedge.complete("hedge");
+        assertEquals("hedge", call.result.get());
+        assertTrue(call.hedgeWon);
+    }
+    
+    @Test
+    void failsWhenAllAttemptsFail() {
+        call.attempt(original, false);
+        call.attempt(hedge, true);
+        
+        IllegalStateException first = new IllegalStateException("first");
+        IllegalStateException last = new IllegalStateException("last");
+        original.completeExceptionally(first);
+        hedge.completeExceptionally(last);
+        
+        ExecutionException error = assertThrows(ExecutionException.class, call.result::get);
+        assertSame(last, error.getCause());
+        assertFalse(call.hedgeWon);
+    }
+    
+    @Test
+    void failureWithoutOtherAttemptFailsImmediately() {
+        call.attempt(original, false);
+        original.completeExceptionally(new IllegalStateException("node down"));
+        
+        assertTrue(call.result.isCompletedExceptionally());
+    }
+    
+    @Test
+    void cancelRemainingCancelsLoser() throws Exception {
+        call.attempt(original, false);
+        call.attempt(hedge, true);
+        
+        hedge.complete("hedge");
+        call.cancelRemaining();
+        
+        assertEquals("hedge", call.result.get());
+        assertTrue(original.isCancelled());
+        assertFalse(hedge.isCancelled());
+    }
+    
+    @Test
+    void attemptAfterResultIsCancelled() {
+        call.attempt(original, false);
+        original.complete("original");
+        
+        call.attempt(hedge, true);
+        
+        assertTrue(hedge.isCancelled());
+        assertFalse(call.hedged);
+    }
+}
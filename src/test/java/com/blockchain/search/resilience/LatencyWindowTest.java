@@ -0,0 +1,44 @@
+package com.blockchain.search.resilience;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class LatencyWindowTest {
+    
+    @Test
+    void unknownUntilFirstRefresh() {
+        LatencyWindow window = new LatencyWindow(1024, 0.95);
+        for (int i = 0; i < 63; i++) {
+            window.record(i);
+        }
+        assertEquals(-1, window.percentileNanos());
+        
+        window.record(63);
+        assertEquals(60, window.percentileNanos());
+    }
+    
+    @Test
+    void percentileOfRecordedSamples() {
+        LatencyWindow window = new LatencyWindow(1024, 0.95);
+        // 1..128 을 역순으로 기록 - p95 = ceil(0.95 * 128) 번째 = 122
+        for (int i = 128; i >= 1; i--) {
+            window.record(i);
+        }
+        assertEquals(122, window.percentileNanos());
+    }
+    
+    @Test
+    void oldSamplesLeaveWindow() {
+        LatencyWindow window = new LatencyWindow(64, 0.5);
+        for (int i = 0; i < 64; i++) {
+            window.record(1_000);
+        }
+        assertEquals(1_000, window.percentileNanos());
+        
+        for (int i = 0; i < 64; i++) {
+            window.record(10);
+        }
+        assertEquals(10, window.percentileNanos());
+    }
+}
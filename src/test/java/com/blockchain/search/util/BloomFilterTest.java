@@ -0,0 +1,115 @@
+package com.blockchain.search.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BloomFilterTest {
+    
+    private static final int THREADS = 8;
+    private static final int PER_THREAD = 20_000;
+    
+    @Test
+    void noFalseNegativesAfterConcurrentPutOnHeap() throws Exception {
+        assertNoFalseNegatives(BloomFilter.create(THREADS * PER_THREAD, 0.01, Long.MAX_VALUE, false));
+    }
+    
+    @Test
+    void noFalseNegativesAfterConcurrentPutOffHeap() throws Exception {
+        BloomFilter filter = BloomFilter.create(THREADS * PER_THREAD, 0.01, Long.MAX_VALUE, true);
+        assertTrue(filter.isOffHeap());
+        assertNoFalseNegatives(filter);
+    }
+    
+    @Test
+    void noFalseNegativesWhenShrunkBelowRequiredSize() throws Exception {
+        // max-memory 로 줄인 필터도 거짓 양성만 늘고 거짓 음성은 없어야 함
+        assertNoFalseNegatives(BloomFilter.create(THREADS * PER_THREAD, 0.01, 1024, false));
+    }
+    
+    @Test
+    void falsePositiveRateNearTarget() {
+        int expected = 50_000;
+        BloomFilter filter = BloomFilter.create(expected, 0.01, Long.MAX_VALUE, false);
+        for (int i = 0; i < expected; i++) {
+            filter.put(hash("present", i));
+        }
+        
+        int falsePositives = 0;
+        int probes = 100_000;
+        for (int i = 0; i < probes; i++) {
+            if (filter.mightContain(hash("absent", i))) {
+                falsePositives++;
+            }
+        }
+        double observed = (double) falsePositives / probes;
+        assertTrue(observed < 0.02, "observed fpp " + observed);
+        assertTrue(filter.expectedFpp() < 0.02, "expected fpp " + filter.expectedFpp());
+    }
+    
+    @Test
+    void emptyFilterContainsNothing() {
+        BloomFilter filter = BloomFilter.create(1_000, 0.01, Long.MAX_VALUE, false);
+        assertFalse(filter.mightContain(hash("tx", 1)));
+        assertEquals(0, filter.insertions());
+        assertEquals(0.0, filter.expectedFpp());
+    }
+    
+    @Test
+    void requiredBytesMatchesCreatedSize() {
+        long bytes = BloomFilter.requiredBytes(1_000_000, 0.01);
+        BloomFilter filter = BloomFilter.create(1_000_000, 0.01, Long.MAX_VALUE, false);
+        // 64비트 word 단위로 올림
+        assertTrue(filter.memoryBytes() >= bytes && filter.memoryBytes() < bytes + Long.BYTES,
+                filter.memoryBytes() + " vs " + bytes);
+        
+        BloomFilter capped = BloomFilter.create(1_000_000, 0.01, 4096, false);
+        assertEquals(4096, capped.memoryBytes());
+    }
+    
+    private static void assertNoFalseNegatives(BloomFilter filter) throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<?>> writers = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                String prefix = "thread-" + t;
+                writers.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < PER_THREAD; i++) {
+                        filter.put(hash(prefix, i));
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> writer : writers) {
+                writer.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        
+        for (int t = 0; t < THREADS; t++) {
+            for (int i = 0; i < PER_THREAD; i++) {
+                String value = hash("thread-" + t, i);
+                assertTrue(filter.mightContain(value), value);
+            }
+        }
+        assertEquals((long) THREADS * PER_THREAD, filter.insertions());
+    }
+    
+    private static String hash(String prefix, int i) {
+        return String.format("0x%064x", (long) (prefix + ":" + i).hashCode() * 31 + i);
+    }
+}
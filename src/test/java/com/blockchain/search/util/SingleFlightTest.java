@@ -0,0 +1,135 @@
+package com.blockchain.search.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SingleFlightTest {
+    
+    private final SingleFlight<String, String> flights = new SingleFlight<>();
+    
+    @Test
+    void concurrentCallsShareOneExecution() throws Exception {
+        int callers = 16;
+        AtomicInteger executions = new AtomicInteger();
+        CompletableFuture<String> source = new CompletableFuture<>();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+        try {
+            List<Future<CompletableFuture<String>>> submitted = new ArrayList<>();
+            for (int i = 0; i < callers; i++) {
+                submitted.add(executor.submit(() -> {
+                    start.await();
+                    return flights.execute("key", () -> {
+                        executions.incrementAndGet();
+                        return source;
+                    });
+                }));
+            }
+            start.countDown();
+            List<CompletableFuture<String>> results = new ArrayList<>();
+            for (Future<CompletableFuture<String>> future : submitted) {
+                results.add(future.get(10, TimeUnit.SECONDS));
+            }
+            
+            source.complete("value");
+            for (CompletableFuture<String> result : results) {
+                assertEquals("value", result.get(10, TimeUnit.SECONDS));
+            }
+            assertEquals(1, executions.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+    
+    @Test
+    void completedFlightIsNotReused() throws Exception {
+        AtomicInteger executions = new AtomicInteger();
+        assertEquals("1", flights.execute("key",
+                () -> CompletableFuture.completedFuture(String.valueOf(executions.incrementAndGet()))).get());
+        assertEquals("2", flights.execute("key",
+                () -> CompletableFuture.completedFuture(String.valueOf(executions.incrementAndGet()))).get());
+    }
+    
+    @Test
+    void differentKeysDoNotShare() {
+        CompletableFuture<String> first = new CompletableFuture<>();
+        CompletableFuture<String> second = new CompletableFuture<>();
+        CompletableFuture<String> a = flights.execute("a", () -> first);
+        CompletableFuture<String> b = flights.execute("b", () -> second);
+        
+        first.complete("a");
+        assertTrue(a.isDone());
+        assertFalse(b.isDone());
+    }
+    
+    @Test
+    void failureIsSharedWithFollowers() {
+        CompletableFuture<String> source = new CompletableFuture<>();
+        CompletableFuture<String> leader = flights.execute("key", () -> source);
+        CompletableFuture<String> follower = flights.execute("key", () -> {
+            throw new AssertionError("follower 는 실행하지 않음");
+        });
+        
+        IllegalStateException failure = new IllegalStateException("es down");
+        source.completeExceptionally(failure);
+        
+        assertSame(failure, assertThrows(ExecutionException.class, leader::get).getCause());
+        assertSame(failure, assertThrows(ExecutionException.class, follower::get).getCause());
+    }
+    
+    @Test
+    void callThrowingFailsCallers() {
+        IllegalStateException failure = new IllegalStateException("bad request");
+        CompletableFuture<String> result = flights.execute("key", () -> {
+            throw failure;
+        });
+        
+        assertSame(failure, assertThrows(ExecutionException.class, result::get).getCause());
+    }
+    
+    @Test
+    void oneCallerCancellingDoesNotCancelOthers() throws Exception {
+        CompletableFuture<String> source = new CompletableFuture<>();
+        CompletableFuture<String> leader = flights.execute("key", () -> source);
+        CompletableFuture<String> follower = flights.execute("key", () -> source);
+        assertNotSame(leader, follower);
+        
+        leader.cancel(true);
+        assertFalse(source.isCancelled());
+        
+        source.complete("value");
+        assertEquals("value", follower.get());
+    }
+    
+    @Test
+    void allCallersCancellingCancelsSource() throws Exception {
+        CompletableFuture<String> source = new CompletableFuture<>();
+        CompletableFuture<String> leader = flights.execute("key", () -> source);
+        CompletableFuture<String> follower = flights.execute("key", () -> source);
+        
+        leader.cancel(true);
+        follower.cancel(true);
+        assertTrue(source.isCancelled());
+        
+        // 닫힌 flight 대신 새로 실행
+        CompletableFuture<String> next = flights.execute("key", () -> CompletableFuture.completedFuture("next"));
+        assertEquals("next", next.get());
+    }
+}